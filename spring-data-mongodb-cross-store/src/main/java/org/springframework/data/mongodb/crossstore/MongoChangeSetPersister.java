@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2016 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,16 @@
  */
 package org.springframework.data.mongodb.crossstore;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.persistence.EntityManagerFactory;
 
 import org.bson.Document;
@@ -26,16 +36,23 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.crossstore.ChangeSet;
 import org.springframework.data.crossstore.ChangeSetBacked;
 import org.springframework.data.crossstore.ChangeSetPersister;
-import org.springframework.data.mongodb.core.CollectionCallback;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ClassUtils;
 
-import com.mongodb.MongoException;
-import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
 
 /**
+ * {@link ChangeSetPersister} storing the {@link RelatedDocument} fields of JPA entities in MongoDB. Within a
+ * transaction, the change sets of all entities registered via {@link #registerTransactionalEntity()} are collected
+ * and written with a single {@literal bulkWrite} per collection when the last of them is persisted after commit.
+ * Related documents of multiple entities can be loaded at once via {@link #getPersistentState(Collection)}.
+ *
  * @author Thomas Risberg
  * @author Oliver Gierke
  * @author Alex Vengrovsk
@@ -81,30 +98,67 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 		if (log.isDebugEnabled()) {
 			log.debug("Loading MongoDB data for {}", dbk);
 		}
-		mongoTemplate.execute(collName, new CollectionCallback<Object>() {
-			public Object doInCollection(MongoCollection<Document> collection) throws MongoException, DataAccessException {
-				for (Document dbo : collection.find(dbk)) {
-					String key = (String) dbo.get(ENTITY_FIELD_NAME);
-					if (log.isDebugEnabled()) {
-						log.debug("Processing key: {}", key);
-					}
-					if (!changeSet.getValues().containsKey(key)) {
-						String className = (String) dbo.get(ENTITY_FIELD_CLASS);
-						if (className == null) {
-							throw new DataIntegrityViolationException(
-									"Unble to convert property " + key + ": Invalid metadata, " + ENTITY_FIELD_CLASS + " not available");
-						}
-						Class<?> clazz = ClassUtils.resolveClassName(className, ClassUtils.getDefaultClassLoader());
-						Object value = mongoTemplate.getConverter().read(clazz, dbo);
-						if (log.isDebugEnabled()) {
-							log.debug("Adding to ChangeSet: {}", key);
-						}
-						changeSet.set(key, value);
+		mongoTemplate.execute(collName, collection -> {
+			for (Document dbo : collection.find(dbk)) {
+				readProperty(dbo, changeSet);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Loads the persistent state of all given entities issuing a single query per collection instead of one query per
+	 * entity. Entities without a persistent id are skipped.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @throws DataAccessException
+	 * @since 2.0
+	 */
+	public void getPersistentState(Collection<? extends ChangeSetBacked> entities) throws DataAccessException {
+
+		Map<String, Map<List<Object>, ChangeSet>> changeSetsByCollection = new LinkedHashMap<>();
+
+		for (ChangeSetBacked entity : entities) {
+
+			ChangeSet changeSet = entity.getChangeSet();
+			Object id = getPersistentId(entity, changeSet);
+
+			if (id == null || changeSet == null) {
+				continue;
+			}
+
+			changeSetsByCollection.computeIfAbsent(getCollectionNameForEntity(entity.getClass()), key -> new HashMap<>())
+					.put(entityKey(entity.getClass().getName(), id), changeSet);
+		}
+
+		for (Map.Entry<String, Map<List<Object>, ChangeSet>> entry : changeSetsByCollection.entrySet()) {
+
+			Map<List<Object>, ChangeSet> changeSets = entry.getValue();
+			Set<Object> classes = new LinkedHashSet<>();
+			Set<Object> ids = new LinkedHashSet<>();
+
+			for (List<Object> key : changeSets.keySet()) {
+				classes.add(key.get(0));
+				ids.add(key.get(1));
+			}
+
+			final Document query = new Document(ENTITY_ID, new Document("$in", ids)).append(ENTITY_CLASS,
+					new Document("$in", classes));
+			if (log.isDebugEnabled()) {
+				log.debug("Loading MongoDB data for {} entities using {}", changeSets.size(), query);
+			}
+
+			mongoTemplate.execute(entry.getKey(), collection -> {
+				for (Document dbo : collection.find(query)) {
+
+					ChangeSet changeSet = changeSets.get(entityKey(dbo.get(ENTITY_CLASS), dbo.get(ENTITY_ID)));
+					if (changeSet != null) {
+						readProperty(dbo, changeSet);
 					}
 				}
 				return null;
-			}
-		});
+			});
+		}
 	}
 
 	/*
@@ -127,77 +181,219 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 	 * @see org.springframework.data.crossstore.ChangeSetPersister#persistState(org.springframework.data.crossstore.ChangeSetBacked, org.springframework.data.crossstore.ChangeSet)
 	 */
 	public Object persistState(ChangeSetBacked entity, ChangeSet cs) throws DataAccessException {
+
+		PendingChanges transactionalChanges = getTransactionalChanges();
+
 		if (cs == null) {
 			log.debug("Flush: changeset was null, nothing to flush.");
-			return 0L;
+		} else {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Flush: changeset: {}", cs.getValues());
+			}
+
+			PendingChanges changes = transactionalChanges != null ? transactionalChanges : new PendingChanges();
+			collect(entity, cs, changes);
+
+			if (transactionalChanges == null) {
+				write(changes);
+			}
 		}
 
-		if (log.isDebugEnabled()) {
-			log.debug("Flush: changeset: {}", cs.getValues());
+		if (transactionalChanges != null && transactionalChanges.persisted()) {
+			write(transactionalChanges);
 		}
 
-		String collName = getCollectionNameForEntity(entity.getClass());
-		if (mongoTemplate.getCollection(collName) == null) {
-			mongoTemplate.createCollection(collName);
+		return 0L;
+	}
+
+	/**
+	 * Announces that {@link #persistState(ChangeSetBacked, ChangeSet)} will be invoked for one more entity once the
+	 * current transaction has been committed. The changes of all announced entities are collected and written when the
+	 * last of them is persisted, i.e. still within the {@literal afterCommit} phase so that write failures propagate to
+	 * the caller committing the transaction. Does nothing without an active transaction synchronization.
+	 */
+	void registerTransactionalEntity() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+
+		if (changes == null) {
+
+			changes = new PendingChanges();
+			TransactionSynchronizationManager.bindResource(this, changes);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(MongoChangeSetPersister.this);
+				}
+			});
 		}
 
+		changes.expected++;
+	}
+
+	/**
+	 * Converts the values of the given {@link ChangeSet} and registers them with the given {@link PendingChanges}. A
+	 * later change of the same property replaces an earlier one.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param cs must not be {@literal null}.
+	 * @param changes must not be {@literal null}.
+	 */
+	private void collect(ChangeSetBacked entity, ChangeSet cs, PendingChanges changes) {
+
+		String collName = getCollectionNameForEntity(entity.getClass());
+		Object id = null;
+
 		for (String key : cs.getValues().keySet()) {
 			if (key != null && !key.startsWith("_") && !key.equals(ChangeSetPersister.ID_KEY)) {
+
+				if (id == null) {
+					id = getPersistentId(entity, cs);
+				}
+
 				Object value = cs.getValues().get(key);
-				final Document dbQuery = new Document();
-				dbQuery.put(ENTITY_ID, getPersistentId(entity, cs));
+				Document dbQuery = new Document();
+				dbQuery.put(ENTITY_ID, id);
 				dbQuery.put(ENTITY_CLASS, entity.getClass().getName());
 				dbQuery.put(ENTITY_FIELD_NAME, key);
-				final Document dbId = mongoTemplate.execute(collName, new CollectionCallback<Document>() {
-					public Document doInCollection(MongoCollection<Document> collection)
-							throws MongoException, DataAccessException {
-						Document id = collection.find(dbQuery).first();
-						return id;
-					}
-				});
 
-				if (value == null) {
-					if (log.isDebugEnabled()) {
-						log.debug("Flush: removing: {}", dbQuery);
-					}
-					mongoTemplate.execute(collName, new CollectionCallback<Object>() {
-						public Object doInCollection(MongoCollection<Document> collection)
-								throws MongoException, DataAccessException {
-							DeleteResult dr = collection.deleteMany(dbQuery);
-							return null;
-						}
-					});
-				} else {
-					final Document dbDoc = new Document();
+				Document dbDoc = null;
+				if (value != null) {
+					dbDoc = new Document();
 					dbDoc.putAll(dbQuery);
-					if (log.isDebugEnabled()) {
-						log.debug("Flush: saving: {}", dbQuery);
-					}
 					mongoTemplate.getConverter().write(value, dbDoc);
 					dbDoc.put(ENTITY_FIELD_CLASS, value.getClass().getName());
-					if (dbId != null) {
-						dbDoc.put("_id", dbId.get("_id"));
+				}
+
+				changes.add(collName, new FieldChange(dbQuery, dbDoc));
+			}
+		}
+	}
+
+	/**
+	 * Writes the given {@link PendingChanges} using a single {@literal bulkWrite} per collection. Existing documents are
+	 * looked up with a single query per collection upfront to be replaced in place.
+	 *
+	 * @param changes must not be {@literal null}.
+	 */
+	private void write(PendingChanges changes) {
+
+		for (Map.Entry<String, Map<List<Object>, FieldChange>> entry : changes.byCollection.entrySet()) {
+
+			String collName = entry.getKey();
+			Collection<FieldChange> fieldChanges = entry.getValue().values();
+
+			if (mongoTemplate.getCollection(collName) == null) {
+				mongoTemplate.createCollection(collName);
+			}
+
+			Map<List<Object>, Object> existingIds = findExistingIds(collName, fieldChanges);
+			List<WriteModel<Document>> models = new ArrayList<>(fieldChanges.size());
+
+			for (FieldChange change : fieldChanges) {
+
+				if (change.document == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Flush: removing: {}", change.query);
 					}
-					mongoTemplate.execute(collName, new CollectionCallback<Object>() {
-						public Object doInCollection(MongoCollection<Document> collection)
-								throws MongoException, DataAccessException {
-
-							if (dbId != null) {
-								collection.replaceOne(Filters.eq("_id", dbId.get("_id")), dbDoc);
-							} else {
-
-								if (dbDoc.containsKey("_id") && dbDoc.get("_id") == null) {
-									dbDoc.remove("_id");
-								}
-								collection.insertOne(dbDoc);
-							}
-							return null;
-						}
-					});
+					models.add(new DeleteManyModel<>(change.query));
+					continue;
+				}
+
+				if (log.isDebugEnabled()) {
+					log.debug("Flush: saving: {}", change.query);
+				}
+
+				Object existingId = existingIds.get(change.key());
+				if (existingId != null) {
+					change.document.put("_id", existingId);
+					models.add(new ReplaceOneModel<>(Filters.eq("_id", existingId), change.document));
+				} else {
+					if (change.document.containsKey("_id") && change.document.get("_id") == null) {
+						change.document.remove("_id");
+					}
+					models.add(new InsertOneModel<>(change.document));
 				}
 			}
+
+			mongoTemplate.execute(collName, collection -> collection.bulkWrite(models));
+		}
+	}
+
+	private Map<List<Object>, Object> findExistingIds(String collName, Collection<FieldChange> changes) {
+
+		Set<Object> ids = new LinkedHashSet<>();
+		Set<Object> classes = new LinkedHashSet<>();
+		Set<Object> fieldNames = new LinkedHashSet<>();
+
+		for (FieldChange change : changes) {
+			if (change.document != null) {
+				ids.add(change.query.get(ENTITY_ID));
+				classes.add(change.query.get(ENTITY_CLASS));
+				fieldNames.add(change.query.get(ENTITY_FIELD_NAME));
+			}
+		}
+
+		Map<List<Object>, Object> existingIds = new HashMap<>();
+
+		if (ids.isEmpty()) {
+			return existingIds;
+		}
+
+		Document query = new Document(ENTITY_ID, new Document("$in", ids)) //
+				.append(ENTITY_CLASS, new Document("$in", classes)) //
+				.append(ENTITY_FIELD_NAME, new Document("$in", fieldNames));
+		Document fields = new Document(ENTITY_ID, 1).append(ENTITY_CLASS, 1).append(ENTITY_FIELD_NAME, 1);
+
+		mongoTemplate.execute(collName, collection -> {
+			for (Document dbo : collection.find(query).projection(fields)) {
+				existingIds.putIfAbsent(fieldKey(dbo), dbo.get("_id"));
+			}
+			return null;
+		});
+
+		return existingIds;
+	}
+
+	/**
+	 * Returns the {@link PendingChanges} bound to the current transaction via {@link #registerTransactionalEntity()} if
+	 * they still wait for entities to be persisted.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	private PendingChanges getTransactionalChanges() {
+
+		PendingChanges changes = TransactionSynchronizationManager.isSynchronizationActive()
+				? (PendingChanges) TransactionSynchronizationManager.getResource(this) : null;
+
+		return changes == null || changes.isComplete() ? null : changes;
+	}
+
+	private void readProperty(Document dbo, ChangeSet changeSet) {
+
+		String key = (String) dbo.get(ENTITY_FIELD_NAME);
+		if (log.isDebugEnabled()) {
+			log.debug("Processing key: {}", key);
+		}
+		if (!changeSet.getValues().containsKey(key)) {
+			String className = (String) dbo.get(ENTITY_FIELD_CLASS);
+			if (className == null) {
+				throw new DataIntegrityViolationException(
+						"Unble to convert property " + key + ": Invalid metadata, " + ENTITY_FIELD_CLASS + " not available");
+			}
+			Class<?> clazz = ClassUtils.resolveClassName(className, ClassUtils.getDefaultClassLoader());
+			Object value = mongoTemplate.getConverter().read(clazz, dbo);
+			if (log.isDebugEnabled()) {
+				log.debug("Adding to ChangeSet: {}", key);
+			}
+			changeSet.set(key, value);
 		}
-		return 0L;
 	}
 
 	/**
@@ -209,4 +405,59 @@ public class MongoChangeSetPersister implements ChangeSetPersister<Object> {
 	private String getCollectionNameForEntity(Class<? extends ChangeSetBacked> entityClass) {
 		return mongoTemplate.getCollectionName(entityClass);
 	}
+
+	private static List<Object> entityKey(Object entityClass, Object id) {
+		return Arrays.asList(entityClass, id);
+	}
+
+	private static List<Object> fieldKey(Document dbo) {
+		return Arrays.asList(dbo.get(ENTITY_CLASS), dbo.get(ENTITY_ID), dbo.get(ENTITY_FIELD_NAME));
+	}
+
+	/**
+	 * Change of a single {@link RelatedDocument} property. A {@literal null} document indicates removal.
+	 */
+	private static class FieldChange {
+
+		final Document query;
+		final Document document;
+
+		FieldChange(Document query, Document document) {
+
+			this.query = query;
+			this.document = document;
+		}
+
+		List<Object> key() {
+			return fieldKey(query);
+		}
+	}
+
+	/**
+	 * {@link FieldChange}s waiting to be written, grouped by collection, along with the number of entities expected to
+	 * be persisted within the current transaction.
+	 */
+	private static class PendingChanges {
+
+		final Map<String, Map<List<Object>, FieldChange>> byCollection = new LinkedHashMap<>();
+		int expected;
+		int persisted;
+
+		void add(String collName, FieldChange change) {
+			byCollection.computeIfAbsent(collName, key -> new LinkedHashMap<>()).put(change.key(), change);
+		}
+
+		/**
+		 * Records an entity having been persisted.
+		 *
+		 * @return whether all expected entities have been persisted.
+		 */
+		boolean persisted() {
+			return ++persisted >= expected;
+		}
+
+		boolean isComplete() {
+			return persisted >= expected;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2011 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,21 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
+ * Marks a field of a JPA entity to be stored in MongoDB.
+ *
  * @author Thomas Risberg
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.FIELD })
 public @interface RelatedDocument {
+
+	/**
+	 * Whether to load the related documents of the entity on first access of a {@link RelatedDocument} field instead of
+	 * when the entity is loaded. Lazily loaded entities of the same type that were loaded within the same transaction
+	 * are resolved together with a single query. Defaults to {@literal true}.
+	 *
+	 * @return
+	 * @since 2.0
+	 */
+	boolean lazy() default true;
 }
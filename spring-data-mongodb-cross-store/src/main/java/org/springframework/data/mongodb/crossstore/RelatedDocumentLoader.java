@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.crossstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.crossstore.ChangeSet;
+import org.springframework.data.crossstore.ChangeSetBacked;
+import org.springframework.data.crossstore.ChangeSetPersister;
+import org.springframework.data.crossstore.ChangeSetPersister.NotFoundException;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Loads the {@link RelatedDocument} state of {@link ChangeSetBacked} entities. Entities loaded within a transaction
+ * are {@link #register(ChangeSetBacked) registered} so that accessing a related document of one of them resolves all
+ * its unresolved siblings of the same type with a single query. Resolved entities are marked in their
+ * {@link ChangeSet} so that the state is loaded at most once, even if no related documents exist.
+ *
+ * @since 2.0
+ */
+abstract class RelatedDocumentLoader {
+
+	static final String LOADED_KEY = "_related_documents_loaded";
+
+	private static final Map<Class<?>, Boolean> EAGER_TYPES = new ConcurrentHashMap<>();
+
+	private RelatedDocumentLoader() {}
+
+	/**
+	 * Returns whether the given entity type declares a {@link RelatedDocument} field that is not {@link RelatedDocument#lazy()
+	 * lazy}.
+	 *
+	 * @param entityType must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isEager(Class<?> entityType) {
+
+		return EAGER_TYPES.computeIfAbsent(entityType, type -> {
+
+			boolean[] eager = new boolean[1];
+
+			ReflectionUtils.doWithFields(type, field -> {
+
+				RelatedDocument annotation = AnnotatedElementUtils.findMergedAnnotation(field, RelatedDocument.class);
+				eager[0] |= annotation != null && !annotation.lazy();
+			});
+
+			return eager[0];
+		});
+	}
+
+	/**
+	 * Registers the given entity to be resolved along with its siblings on first access. Does nothing if no transaction
+	 * synchronization is active.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	static void register(ChangeSetBacked entity) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive() || isLoaded(entity)) {
+			return;
+		}
+
+		getPendingEntities().computeIfAbsent(entity.getClass(), type -> newIdentitySet()).add(entity);
+	}
+
+	/**
+	 * Loads the state of the given entity unless already loaded. If the {@link ChangeSetPersister} is a
+	 * {@link MongoChangeSetPersister}, unresolved entities of the same type registered with the current transaction are
+	 * loaded along with it.
+	 *
+	 * @param persister must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @throws NotFoundException
+	 */
+	static void load(ChangeSetPersister<Object> persister, ChangeSetBacked entity) throws NotFoundException {
+
+		if (isLoaded(entity)) {
+			return;
+		}
+
+		List<ChangeSetBacked> batch = new ArrayList<>();
+		batch.add(entity);
+
+		if (persister instanceof MongoChangeSetPersister && TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			Set<ChangeSetBacked> siblings = getPendingEntities().remove(entity.getClass());
+
+			if (siblings != null) {
+				for (ChangeSetBacked sibling : siblings) {
+					if (sibling != entity && !isLoaded(sibling)) {
+						batch.add(sibling);
+					}
+				}
+			}
+		}
+
+		List<ChangeSetBacked> resolvable = new ArrayList<>(batch.size());
+		Object resolvableId = null;
+
+		for (ChangeSetBacked candidate : batch) {
+
+			Object id = persister.getPersistentId(candidate, candidate.getChangeSet());
+
+			if (id != null) {
+				resolvable.add(candidate);
+				resolvableId = id;
+			}
+		}
+
+		if (resolvable.isEmpty()) {
+			return;
+		}
+
+		if (resolvable.size() == 1) {
+			ChangeSetBacked only = resolvable.get(0);
+			persister.getPersistentState(only.getClass(), resolvableId, only.getChangeSet());
+		} else {
+			((MongoChangeSetPersister) persister).getPersistentState(resolvable);
+		}
+
+		for (ChangeSetBacked candidate : resolvable) {
+			candidate.getChangeSet().set(LOADED_KEY, Boolean.TRUE);
+		}
+	}
+
+	private static boolean isLoaded(ChangeSetBacked entity) {
+
+		ChangeSet changeSet = entity.getChangeSet();
+		return changeSet != null && Boolean.TRUE.equals(changeSet.getValues().get(LOADED_KEY));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Class<?>, Set<ChangeSetBacked>> getPendingEntities() {
+
+		Map<Class<?>, Set<ChangeSetBacked>> pending = (Map<Class<?>, Set<ChangeSetBacked>>) TransactionSynchronizationManager
+				.getResource(RelatedDocumentLoader.class);
+
+		if (pending != null) {
+			return pending;
+		}
+
+		Map<Class<?>, Set<ChangeSetBacked>> newPending = new HashMap<>();
+		TransactionSynchronizationManager.bindResource(RelatedDocumentLoader.class, newPending);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RelatedDocumentLoader.class);
+			}
+		});
+
+		return newPending;
+	}
+
+	private static Set<ChangeSetBacked> newIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.crossstore;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.bson.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.crossstore.ChangeSet;
+import org.springframework.data.crossstore.ChangeSetBacked;
+import org.springframework.data.crossstore.HashMapChangeSet;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Unit tests for {@link MongoChangeSetPersister}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class MongoChangeSetPersisterUnitTests {
+
+	@Mock MongoTemplate template;
+	@Mock MongoCollection<Document> collection;
+	@Mock FindIterable<Document> findIterable;
+	@Mock MongoCursor<Document> cursor;
+	@Mock EntityManagerFactory entityManagerFactory;
+	@Mock PersistenceUnitUtil persistenceUnitUtil;
+
+	MongoChangeSetPersister persister;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(mock(DbRefResolver.class), new MongoMappingContext());
+
+		when(template.getConverter()).thenReturn(converter);
+		when(template.getCollectionName(any())).thenReturn("entity");
+		when(template.getCollection("entity")).thenReturn(collection);
+		when(template.execute(eq("entity"), any(CollectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<CollectionCallback<?>> getArgument(1).doInCollection(collection));
+
+		when(collection.find(any(Document.class))).thenReturn(findIterable);
+		when(findIterable.projection(any())).thenReturn(findIterable);
+		when(findIterable.iterator()).thenReturn(cursor);
+
+		when(entityManagerFactory.getPersistenceUnitUtil()).thenReturn(persistenceUnitUtil);
+
+		persister = new MongoChangeSetPersister();
+		persister.setMongoTemplate(template);
+		persister.setEntityManagerFactory(entityManagerFactory);
+	}
+
+	@After
+	public void tearDown() {
+
+		TransactionSynchronizationManager.unbindResourceIfPossible(persister);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void persistStateWritesChangesWithSingleBulkWrite() {
+
+		Entity entity = entity(1L);
+		entity.getChangeSet().set("address", new Address("Boston"));
+		entity.getChangeSet().set("resume", null);
+
+		persister.persistState(entity, entity.getChangeSet());
+
+		List<WriteModel<Document>> models = captureBulkWrite();
+
+		assertThat(models).hasSize(2);
+		assertThat(models).anySatisfy(model -> {
+			assertThat(model).isInstanceOf(InsertOneModel.class);
+			assertThat(((InsertOneModel<Document>) model).getDocument()).containsEntry("_entity_id", 1L)
+					.containsEntry("_entity_field_name", "address").containsEntry("city", "Boston");
+		});
+		assertThat(models).anySatisfy(model -> {
+			assertThat(model).isInstanceOf(DeleteManyModel.class);
+			assertThat(((DeleteManyModel<Document>) model).getFilter()).isEqualTo(new Document("_entity_id", 1L)
+					.append("_entity_class", Entity.class.getName()).append("_entity_field_name", "resume"));
+		});
+	}
+
+	@Test
+	public void persistStateReplacesExistingDocuments() {
+
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "existing").append("_entity_id", 1L)
+				.append("_entity_class", Entity.class.getName()).append("_entity_field_name", "address"));
+
+		Entity entity = entity(1L);
+		entity.getChangeSet().set("address", new Address("Boston"));
+
+		persister.persistState(entity, entity.getChangeSet());
+
+		List<WriteModel<Document>> models = captureBulkWrite();
+
+		assertThat(models).hasSize(1);
+		assertThat(models.get(0)).isInstanceOf(ReplaceOneModel.class);
+		assertThat(((ReplaceOneModel<Document>) models.get(0)).getReplacement()).containsEntry("_id", "existing");
+	}
+
+	@Test
+	public void persistStateWritesChangesOfRegisteredEntitiesWithLastOne() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		persister.registerTransactionalEntity();
+		persister.registerTransactionalEntity();
+
+		Entity first = entity(1L);
+		first.getChangeSet().set("address", new Address("Boston"));
+		Entity second = entity(2L);
+		second.getChangeSet().set("address", new Address("Stockholm"));
+
+		persister.persistState(first, first.getChangeSet());
+
+		verify(collection, never()).bulkWrite(any());
+
+		persister.persistState(second, second.getChangeSet());
+
+		assertThat(captureBulkWrite()).hasSize(2);
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		verify(collection).bulkWrite(any());
+		assertThat(TransactionSynchronizationManager.getResource(persister)).isNull();
+	}
+
+	@Test
+	public void persistStatePropagatesWriteFailuresOfTransaction() {
+
+		when(collection.bulkWrite(any())).thenThrow(new IllegalStateException("write failed"));
+
+		TransactionSynchronizationManager.initSynchronization();
+		persister.registerTransactionalEntity();
+
+		Entity entity = entity(1L);
+		entity.getChangeSet().set("address", new Address("Boston"));
+
+		assertThatThrownBy(() -> persister.persistState(entity, entity.getChangeSet()))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void persistStateCountsEntitiesWithoutChangeSet() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		persister.registerTransactionalEntity();
+		persister.registerTransactionalEntity();
+
+		Entity entity = entity(1L);
+		entity.getChangeSet().set("address", new Address("Boston"));
+
+		persister.persistState(entity, entity.getChangeSet());
+		persister.persistState(entity(2L), null);
+
+		assertThat(captureBulkWrite()).hasSize(1);
+	}
+
+	@Test
+	public void persistStateWritesUnregisteredEntitiesImmediately() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		Entity entity = entity(1L);
+		entity.getChangeSet().set("address", new Address("Boston"));
+
+		persister.persistState(entity, entity.getChangeSet());
+
+		assertThat(captureBulkWrite()).hasSize(1);
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+	}
+
+	@Test
+	public void releasesChangesOfRolledBackTransaction() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		persister.registerTransactionalEntity();
+
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		verify(collection, never()).bulkWrite(any());
+		assertThat(TransactionSynchronizationManager.getResource(persister)).isNull();
+	}
+
+	@Test
+	public void getPersistentStateLoadsAllEntitiesWithSingleQuery() {
+
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(relatedDocument(1L, "Boston"), relatedDocument(2L, "Stockholm"));
+
+		Entity first = entity(1L);
+		Entity second = entity(2L);
+
+		persister.getPersistentState(Arrays.asList(first, second));
+
+		ArgumentCaptor<Document> query = ArgumentCaptor.forClass(Document.class);
+		verify(collection).find(query.capture());
+
+		assertThat(query.getValue()).containsEntry("_entity_id",
+				new Document("$in", new LinkedHashSet<>(Arrays.asList(1L, 2L))));
+		assertThat(first.getChangeSet().getValues().get("address")).isEqualTo(new Address("Boston"));
+		assertThat(second.getChangeSet().getValues().get("address")).isEqualTo(new Address("Stockholm"));
+	}
+
+	private static void completeTransaction(int status) {
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(status);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<WriteModel<Document>> captureBulkWrite() {
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass((Class) List.class);
+		verify(collection).bulkWrite(captor.capture());
+		return captor.getValue();
+	}
+
+	private Entity entity(Long id) {
+
+		Entity entity = new Entity();
+		when(persistenceUnitUtil.getIdentifier(entity)).thenReturn(id);
+		return entity;
+	}
+
+	private static Document relatedDocument(Long id, String city) {
+
+		return new Document("_entity_id", id).append("_entity_class", Entity.class.getName())
+				.append("_entity_field_name", "address").append("_entity_field_class", Address.class.getName())
+				.append("city", city);
+	}
+
+	static class Entity implements ChangeSetBacked {
+
+		ChangeSet changeSet = new HashMapChangeSet();
+
+		@Override
+		public ChangeSet getChangeSet() {
+			return changeSet;
+		}
+	}
+
+	static class Address {
+
+		String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Address && ((Address) obj).city.equals(city);
+		}
+
+		@Override
+		public int hashCode() {
+			return city.hashCode();
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.crossstore;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.crossstore.ChangeSet;
+import org.springframework.data.crossstore.ChangeSetBacked;
+import org.springframework.data.crossstore.HashMapChangeSet;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link RelatedDocumentLoader}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RelatedDocumentLoaderUnitTests {
+
+	@Mock MongoChangeSetPersister persister;
+
+	@Before
+	public void setUp() {
+		when(persister.getPersistentId(any(), any())).thenReturn(1L);
+	}
+
+	@After
+	public void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void detectsEagerRelatedDocuments() {
+
+		assertThat(RelatedDocumentLoader.isEager(LazyEntity.class)).isFalse();
+		assertThat(RelatedDocumentLoader.isEager(EagerEntity.class)).isTrue();
+	}
+
+	@Test
+	public void loadsStateOnlyOnce() throws Exception {
+
+		LazyEntity entity = new LazyEntity();
+
+		RelatedDocumentLoader.load(persister, entity);
+		RelatedDocumentLoader.load(persister, entity);
+
+		verify(persister, times(1)).getPersistentState(LazyEntity.class, 1L, entity.getChangeSet());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesRegisteredSiblingsWithSingleCall() throws Exception {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		LazyEntity first = new LazyEntity();
+		LazyEntity second = new LazyEntity();
+		LazyEntity third = new LazyEntity();
+		EagerEntity other = new EagerEntity();
+
+		RelatedDocumentLoader.register(first);
+		RelatedDocumentLoader.register(second);
+		RelatedDocumentLoader.register(third);
+		RelatedDocumentLoader.register(other);
+
+		RelatedDocumentLoader.load(persister, second);
+
+		ArgumentCaptor<Collection<ChangeSetBacked>> captor = ArgumentCaptor.forClass((Class) Collection.class);
+		verify(persister).getPersistentState(captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrder(first, second, third);
+
+		RelatedDocumentLoader.load(persister, first);
+		RelatedDocumentLoader.load(persister, third);
+
+		verify(persister, times(1)).getPersistentState(any(Collection.class));
+		verify(persister, never()).getPersistentState(any(Class.class), any(), any(ChangeSet.class));
+	}
+
+	@Test
+	public void skipsEntitiesWithoutPersistentId() throws Exception {
+
+		LazyEntity entity = new LazyEntity();
+		when(persister.getPersistentId(entity, entity.getChangeSet())).thenReturn(null);
+
+		RelatedDocumentLoader.load(persister, entity);
+
+		verify(persister, never()).getPersistentState(any(Class.class), any(), any(ChangeSet.class));
+		assertThat(entity.getChangeSet().getValues()).doesNotContainKey(RelatedDocumentLoader.LOADED_KEY);
+	}
+
+	@Test
+	public void loadsSingleResolvableSiblingInsteadOfEntityWithoutPersistentId() throws Exception {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		LazyEntity entity = new LazyEntity();
+		LazyEntity sibling = new LazyEntity();
+		when(persister.getPersistentId(entity, entity.getChangeSet())).thenReturn(null);
+		when(persister.getPersistentId(sibling, sibling.getChangeSet())).thenReturn(2L);
+
+		RelatedDocumentLoader.register(entity);
+		RelatedDocumentLoader.register(sibling);
+
+		RelatedDocumentLoader.load(persister, entity);
+
+		verify(persister).getPersistentState(LazyEntity.class, 2L, sibling.getChangeSet());
+		verify(persister, times(1)).getPersistentId(sibling, sibling.getChangeSet());
+		assertThat(sibling.getChangeSet().getValues()).containsEntry(RelatedDocumentLoader.LOADED_KEY, Boolean.TRUE);
+		assertThat(entity.getChangeSet().getValues()).doesNotContainKey(RelatedDocumentLoader.LOADED_KEY);
+	}
+
+	@Test
+	public void unbindsPendingEntitiesAfterCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+		RelatedDocumentLoader.register(new LazyEntity());
+
+		assertThat(TransactionSynchronizationManager.hasResource(RelatedDocumentLoader.class)).isTrue();
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+
+		assertThat(TransactionSynchronizationManager.hasResource(RelatedDocumentLoader.class)).isFalse();
+	}
+
+	static class LazyEntity implements ChangeSetBacked {
+
+		ChangeSet changeSet = new HashMapChangeSet();
+
+		@RelatedDocument Object document;
+
+		@Override
+		public ChangeSet getChangeSet() {
+			return changeSet;
+		}
+	}
+
+	static class EagerEntity extends LazyEntity {
+
+		@RelatedDocument(lazy = false) Object eagerDocument;
+	}
+}
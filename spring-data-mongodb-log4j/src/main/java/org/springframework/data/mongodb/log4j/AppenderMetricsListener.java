@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+/**
+ * Callback interface notified by {@link MongoLog4jAppender} about appended, dropped and written log events. Methods
+ * are invoked on the logging thread or, in async mode, on the writer thread and must return quickly.
+ *
+ * @since 2.0
+ * @see MongoLog4jAppender#setMetricsListener(AppenderMetricsListener)
+ */
+public interface AppenderMetricsListener {
+
+	/**
+	 * Called for every event accepted by the appender.
+	 *
+	 * @param tier the {@link WriteConcernTier} of the event.
+	 */
+	default void onAppend(WriteConcernTier tier) {}
+
+	/**
+	 * Called for every event discarded because the buffer was full or the appender was closed.
+	 *
+	 * @param tier the {@link WriteConcernTier} of the event.
+	 */
+	default void onDrop(WriteConcernTier tier) {}
+
+	/**
+	 * Called after a batch of events was written successfully. The duration covers the insert with the write concern of
+	 * the given {@link WriteConcernTier} only.
+	 *
+	 * @param collection the name of the target collection.
+	 * @param tier the {@link WriteConcernTier} of the events.
+	 * @param events the number of events written.
+	 * @param durationNanos the time the insert took in nanoseconds.
+	 */
+	default void onWrite(String collection, WriteConcernTier tier, int events, long durationNanos) {}
+
+	/**
+	 * Called after a batch of events could not be written.
+	 *
+	 * @param collection the name of the target collection.
+	 * @param tier the {@link WriteConcernTier} of the events.
+	 * @param events the number of events lost.
+	 * @param cause the failure.
+	 */
+	default void onWriteFailure(String collection, WriteConcernTier tier, int events, Throwable cause) {}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer/multi-consumer ring buffer. Each slot carries a sequence number that tells
+ * producers and consumers whether the slot is ready to be written or read, so neither side ever takes a lock.
+ * 
+ * @param <E> the element type.
+ * @since 2.0
+ */
+class BoundedRingBuffer<E> {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Creates a new {@link BoundedRingBuffer} with the given capacity rounded up to the next power of two.
+	 * 
+	 * @param capacity must be greater than zero.
+	 */
+	BoundedRingBuffer(int capacity) {
+
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be greater than zero!");
+		}
+
+		this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = this.capacity - 1;
+		this.elements = new AtomicReferenceArray<E>(this.capacity);
+		this.sequences = new AtomicLongArray(this.capacity);
+
+		for (int i = 0; i < this.capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Adds the given element if there is space left.
+	 * 
+	 * @param element must not be {@literal null}.
+	 * @return {@literal true} if the element was added, {@literal false} if the buffer is full.
+	 */
+	boolean offer(E element) {
+
+		long position = tail.get();
+
+		for (;;) {
+
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+
+			if (difference == 0) {
+
+				if (tail.compareAndSet(position, position + 1)) {
+
+					elements.set(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+
+				position = tail.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes and returns the oldest element.
+	 * 
+	 * @return the oldest element or {@literal null} if the buffer is empty.
+	 */
+	E poll() {
+
+		long position = head.get();
+
+		for (;;) {
+
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - (position + 1);
+
+			if (difference == 0) {
+
+				if (head.compareAndSet(position, position + 1)) {
+
+					E element = elements.get(index);
+					elements.set(index, null);
+					sequences.set(index, position + capacity);
+					return element;
+				}
+
+				position = head.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * @return the approximate number of elements in the buffer.
+	 */
+	int size() {
+
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(capacity, size));
+	}
+
+	/**
+	 * @return the capacity of the buffer.
+	 */
+	int capacity() {
+		return capacity;
+	}
+}
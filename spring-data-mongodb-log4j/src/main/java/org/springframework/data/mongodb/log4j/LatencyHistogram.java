@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies using fixed millisecond buckets.
+ *
+ * @since 2.0
+ */
+class LatencyHistogram {
+
+	private static final long[] BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000 };
+	private static final long[] BOUNDS_NANOS = new long[BOUNDS_MILLIS.length];
+
+	static {
+		for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+			BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(BOUNDS_MILLIS[i]);
+		}
+	}
+
+	private final AtomicLongArray counts = new AtomicLongArray(BOUNDS_MILLIS.length + 1);
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Records the given latency.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 */
+	void record(long nanos) {
+
+		int bucket = 0;
+		while (bucket < BOUNDS_NANOS.length && nanos > BOUNDS_NANOS[bucket]) {
+			bucket++;
+		}
+
+		counts.incrementAndGet(bucket);
+		totalNanos.add(nanos);
+		count.increment();
+	}
+
+	/**
+	 * @return the number of recorded latencies per bucket in the order of {@link #getLabels()}.
+	 */
+	long[] getCounts() {
+
+		long[] result = new long[counts.length()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = counts.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the labels of the buckets, e.g. {@code <=1ms} or {@code >1000ms}.
+	 */
+	static String[] getLabels() {
+
+		String[] labels = new String[BOUNDS_MILLIS.length + 1];
+		for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+			labels[i] = "<=" + BOUNDS_MILLIS[i] + "ms";
+		}
+		labels[BOUNDS_MILLIS.length] = ">" + BOUNDS_MILLIS[BOUNDS_MILLIS.length - 1] + "ms";
+		return labels;
+	}
+
+	/**
+	 * @return the average of all recorded latencies in milliseconds or {@literal 0} if none were recorded.
+	 */
+	double getAverageMillis() {
+
+		long recorded = count.sum();
+		return recorded == 0 ? 0 : (double) totalNanos.sum() / recorded / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * @return the number of recorded latencies.
+	 */
+	long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of all recorded latencies in nanoseconds.
+	 */
+	long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * Clears all recorded latencies.
+	 */
+	void reset() {
+
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+		totalNanos.reset();
+		count.reset();
+	}
+}
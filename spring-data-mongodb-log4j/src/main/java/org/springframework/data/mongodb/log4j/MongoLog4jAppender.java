@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2016 the original author or authors.
+ * Copyright 2011-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,22 +15,33 @@
  */
 package org.springframework.data.mongodb.log4j;
 
+import java.lang.management.ManagementFactory;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 import org.apache.log4j.AppenderSkeleton;
 import org.apache.log4j.Level;
 import org.apache.log4j.MDC;
 import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.ErrorCode;
 import org.apache.log4j.spi.LoggingEvent;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoCredential;
@@ -38,7 +49,14 @@ import com.mongodb.ServerAddress;
 import com.mongodb.WriteConcern;
 
 /**
- * Log4j appender writing log entries into a MongoDB instance.
+ * Log4j appender writing log entries into a MongoDB instance. By default every event is inserted on the logging
+ * thread. With {@link #setAsync(boolean) async} enabled, events are handed over to a bounded buffer and written by a
+ * background thread that groups them into one batch insert per target collection and write concern. The
+ * {@link #setOverflowPolicy(String) overflow policy} defines what happens when the buffer is full.
+ * <p>
+ * Throughput, drops, batch sizes, write latencies and failures are tracked per {@link WriteConcernTier} in
+ * {@link #getMetrics()}, which can be exposed via JMX using {@link #setJmxEnabled(boolean)} or observed through an
+ * {@link AppenderMetricsListener}.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -73,6 +91,23 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	protected Mongo mongo;
 	protected DB db;
 
+	protected boolean async = false;
+	protected int bufferSize = 8192;
+	protected int batchSize = 256;
+	protected long flushInterval = 1000;
+	protected OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+	protected boolean jmxEnabled = false;
+
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+	private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+	private final MongoLog4jAppenderMetrics metrics = new MongoLog4jAppenderMetrics(this);
+	private volatile AppenderMetricsListener metricsListener;
+	private volatile RollingCollectionNameResolver collectionNameResolver;
+	private ObjectName registeredName;
+	private volatile BoundedRingBuffer<PendingEvent> buffer;
+	private BatchWriter writer;
+
 	public MongoLog4jAppender() {}
 
 	public MongoLog4jAppender(boolean isActive) {
@@ -157,6 +192,7 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public void setCollectionPattern(String collectionPattern) {
 		this.collectionPattern = collectionPattern;
 		this.collectionLayout = new PatternLayout(collectionPattern);
+		this.collectionNameResolver = null;
 	}
 
 	public String getApplicationId() {
@@ -165,6 +201,7 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 
 	public void setApplicationId(String applicationId) {
 		this.applicationId = applicationId;
+		this.collectionNameResolver = null;
 	}
 
 	public String getWarnOrHigherWriteConcern() {
@@ -183,6 +220,160 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		this.infoOrLowerWriteConcern = WriteConcern.valueOf(wc);
 	}
 
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * @param async {@literal true} to write events from a background thread instead of the logging thread.
+	 * @since 2.0
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @param bufferSize the maximum number of events waiting to be written in async mode. Rounded up to the next power
+	 *          of two. Defaults to {@literal 8192}.
+	 * @since 2.0
+	 */
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @param batchSize the maximum number of events written with a single insert in async mode. Defaults to
+	 *          {@literal 256}.
+	 * @since 2.0
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public long getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * @param flushInterval the maximum time in milliseconds an event waits for its batch to fill up in async mode.
+	 *          Defaults to {@literal 1000}.
+	 * @since 2.0
+	 */
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public String getOverflowPolicy() {
+		return overflowPolicy.name();
+	}
+
+	/**
+	 * @param overflowPolicy the name of the {@link OverflowPolicy} to apply when the buffer is full in async mode.
+	 *          Defaults to {@link OverflowPolicy#BLOCK}.
+	 * @since 2.0
+	 */
+	public void setOverflowPolicy(String overflowPolicy) {
+		this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase());
+	}
+
+	/**
+	 * @return the number of events discarded because the buffer was full.
+	 * @since 2.0
+	 */
+	public long getDroppedEvents() {
+		return metrics.getDroppedEvents();
+	}
+
+	/**
+	 * @return
+	 * @since 2.0
+	 */
+	public boolean isJmxEnabled() {
+		return jmxEnabled;
+	}
+
+	/**
+	 * @param jmxEnabled {@literal true} to register the {@link #getMetrics() metrics} as MBean with the platform
+	 *          {@link MBeanServer} when the appender is activated. Defaults to {@literal false}.
+	 * @since 2.0
+	 */
+	public void setJmxEnabled(boolean jmxEnabled) {
+		this.jmxEnabled = jmxEnabled;
+	}
+
+	/**
+	 * @return the {@link AppenderMetricsListener} notified in addition to the built-in metrics, may be {@literal null}.
+	 * @since 2.0
+	 */
+	public AppenderMetricsListener getMetricsListener() {
+		return metricsListener;
+	}
+
+	/**
+	 * @param metricsListener the {@link AppenderMetricsListener} to notify in addition to the built-in metrics, may be
+	 *          {@literal null}.
+	 * @since 2.0
+	 */
+	public void setMetricsListener(AppenderMetricsListener metricsListener) {
+		this.metricsListener = metricsListener;
+	}
+
+	/**
+	 * @return the metrics collected by this appender.
+	 * @since 2.0
+	 */
+	public MongoLog4jAppenderMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * @return the number of events currently waiting to be written in async mode.
+	 * @since 2.0
+	 */
+	public int getQueueDepth() {
+
+		BoundedRingBuffer<PendingEvent> buffer = this.buffer;
+		return buffer == null ? 0 : buffer.size();
+	}
+
+	/**
+	 * @return the maximum number of events waiting to be written in async mode.
+	 * @since 2.0
+	 */
+	public int getQueueCapacity() {
+
+		BoundedRingBuffer<PendingEvent> buffer = this.buffer;
+		return buffer == null ? 0 : buffer.capacity();
+	}
+
 	protected void connectToMongo() throws UnknownHostException {
 
 		this.mongo = createMongoClient();
@@ -204,13 +395,57 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		return new MongoClient(serverAddress, credentials);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.log4j.AppenderSkeleton#activateOptions()
+	 */
+	@Override
+	public void activateOptions() {
+
+		if (async) {
+			startWriter();
+		}
+
+		if (jmxEnabled) {
+			registerMetrics();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.apache.log4j.AppenderSkeleton#append(org.apache.log4j.spi.LoggingEvent)
 	 */
 	@Override
-	@SuppressWarnings({ "unchecked" })
 	protected void append(final LoggingEvent event) {
+
+		if (null != applicationId) {
+			MDC.put(APP_ID, applicationId);
+		}
+
+		DBObject dbo;
+		String coll;
+
+		try {
+			dbo = createDocument(event);
+			coll = resolveCollectionName(event);
+		} finally {
+			if (null != applicationId) {
+				MDC.remove(APP_ID);
+			}
+		}
+
+		WriteConcern wc = resolveWriteConcern(event.getLevel());
+		WriteConcernTier tier = WriteConcernTier.of(event.getLevel());
+
+		onAppend(tier);
+
+		if (async) {
+
+			startWriter();
+			enqueue(new PendingEvent(coll, tier, wc, dbo));
+			return;
+		}
+
 		if (null == db) {
 			try {
 				connectToMongo();
@@ -219,16 +454,36 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 			}
 		}
 
+		long start = System.nanoTime();
+
+		try {
+			db.getCollection(coll).insert(dbo, wc);
+		} catch (RuntimeException e) {
+
+			onWriteFailure(coll, tier, 1, e);
+			throw e;
+		}
+
+		onWrite(coll, tier, 1, System.nanoTime() - start);
+	}
+
+	/**
+	 * Creates the document to be stored for the given {@link LoggingEvent}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 * @since 2.0
+	 */
+	@SuppressWarnings({ "unchecked" })
+	protected DBObject createDocument(LoggingEvent event) {
+
 		BasicDBObject dbo = new BasicDBObject();
 		if (null != applicationId) {
 			dbo.put(APP_ID, applicationId);
-			MDC.put(APP_ID, applicationId);
 		}
 		dbo.put(NAME, event.getLogger().getName());
 		dbo.put(LEVEL, event.getLevel().toString());
-		Calendar tstamp = Calendar.getInstance();
-		tstamp.setTimeInMillis(event.getTimeStamp());
-		dbo.put(TIMESTAMP, tstamp.getTime());
+		dbo.put(TIMESTAMP, new Date(event.getTimeStamp()));
 
 		// Copy properties into document
 		Map<Object, Object> props = event.getProperties();
@@ -251,30 +506,244 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 		// Put the rendered message into the document
 		dbo.put(MESSAGE, event.getRenderedMessage());
 
-		// Insert the document
-		Calendar now = Calendar.getInstance();
-		MDC.put(YEAR, now.get(Calendar.YEAR));
-		MDC.put(MONTH, String.format("%1$02d", now.get(Calendar.MONTH) + 1));
-		MDC.put(DAY, String.format("%1$02d", now.get(Calendar.DAY_OF_MONTH)));
-		MDC.put(HOUR, String.format("%1$02d", now.get(Calendar.HOUR_OF_DAY)));
+		return dbo;
+	}
 
-		String coll = collectionLayout.format(event);
+	/**
+	 * Resolves the name of the collection to store the given {@link LoggingEvent} in by applying the
+	 * {@link #getCollectionPattern() collection pattern}. Names that only depend on the current hour, day, month or year,
+	 * the application id and the logger name are cached until the hour rolls over.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 * @since 2.0
+	 */
+	protected String resolveCollectionName(LoggingEvent event) {
 
-		MDC.remove(YEAR);
-		MDC.remove(MONTH);
-		MDC.remove(DAY);
-		MDC.remove(HOUR);
-		if (null != applicationId) {
-			MDC.remove(APP_ID);
+		RollingCollectionNameResolver resolver = this.collectionNameResolver;
+
+		if (resolver == null) {
+			resolver = new RollingCollectionNameResolver(collectionPattern, collectionLayout);
+			this.collectionNameResolver = resolver;
 		}
 
-		WriteConcern wc;
-		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
-			wc = warnOrHigherWriteConcern;
-		} else {
-			wc = infoOrLowerWriteConcern;
+		return resolver.resolve(event, System.currentTimeMillis());
+	}
+
+	/**
+	 * Resolves the {@link WriteConcern} to use for events of the given {@link Level}.
+	 *
+	 * @param level must not be {@literal null}.
+	 * @return
+	 * @since 2.0
+	 */
+	protected WriteConcern resolveWriteConcern(Level level) {
+		return level.isGreaterOrEqual(Level.WARN) ? warnOrHigherWriteConcern : infoOrLowerWriteConcern;
+	}
+
+	private void enqueue(PendingEvent pending) {
+
+		if (writer.isStopped()) {
+			onDrop(pending.tier);
+			return;
+		}
+
+		while (!buffer.offer(pending)) {
+
+			if (writer.isStopped()) {
+				onDrop(pending.tier);
+				return;
+			}
+
+			switch (overflowPolicy) {
+
+				case DROP_OLDEST:
+					PendingEvent oldest = buffer.poll();
+					if (oldest != null) {
+						onDrop(oldest.tier);
+					}
+					break;
+				case DROP_BELOW_WARN:
+					if (pending.tier == WriteConcernTier.INFO_OR_LOWER) {
+						onDrop(pending.tier);
+						return;
+					}
+					awaitCapacity();
+					break;
+				default:
+					awaitCapacity();
+			}
+		}
+
+		if (writer.isIdle() || buffer.size() >= batchSize) {
+			writer.wakeUp();
+		}
+	}
+
+	private void awaitCapacity() {
+
+		writer.wakeUp();
+		LockSupport.parkNanos(FULL_PARK_NANOS);
+	}
+
+	private synchronized void startWriter() {
+
+		if (writer != null) {
+			return;
+		}
+
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Batch size must be greater than zero!");
+		}
+
+		this.buffer = new BoundedRingBuffer<PendingEvent>(bufferSize);
+		this.writer = new BatchWriter();
+
+		Thread thread = new Thread(writer, "MongoLog4jAppender-" + (name == null ? "writer" : name));
+		thread.setDaemon(true);
+		writer.start(thread);
+	}
+
+	/**
+	 * Writes the given events grouping them into one insert per collection and {@link WriteConcernTier}.
+	 *
+	 * @param events must not be {@literal null}.
+	 */
+	private void write(List<PendingEvent> events) {
+
+		Map<String, Map<WriteConcernTier, List<PendingEvent>>> batches = new LinkedHashMap<>();
+
+		for (PendingEvent event : events) {
+
+			Map<WriteConcernTier, List<PendingEvent>> byTier = batches.get(event.collection);
+			if (byTier == null) {
+				byTier = new LinkedHashMap<WriteConcernTier, List<PendingEvent>>(2);
+				batches.put(event.collection, byTier);
+			}
+
+			List<PendingEvent> batch = byTier.get(event.tier);
+			if (batch == null) {
+				batch = new ArrayList<PendingEvent>();
+				byTier.put(event.tier, batch);
+			}
+
+			batch.add(event);
+		}
+
+		Exception connectionFailure = null;
+
+		if (null == db) {
+			try {
+				connectToMongo();
+			} catch (Exception e) {
+				errorHandler.error("Could not connect to MongoDB", e, ErrorCode.WRITE_FAILURE);
+				connectionFailure = e;
+			}
+		}
+
+		for (Map.Entry<String, Map<WriteConcernTier, List<PendingEvent>>> byTier : batches.entrySet()) {
+			for (Map.Entry<WriteConcernTier, List<PendingEvent>> batch : byTier.getValue().entrySet()) {
+
+				String collection = byTier.getKey();
+				List<PendingEvent> pending = batch.getValue();
+
+				if (connectionFailure != null) {
+					onWriteFailure(collection, batch.getKey(), pending.size(), connectionFailure);
+					continue;
+				}
+
+				List<DBObject> documents = new ArrayList<DBObject>(pending.size());
+				for (PendingEvent event : pending) {
+					documents.add(event.document);
+				}
+
+				long start = System.nanoTime();
+
+				try {
+					db.getCollection(collection).insert(documents, pending.get(0).writeConcern);
+				} catch (RuntimeException e) {
+
+					onWriteFailure(collection, batch.getKey(), documents.size(), e);
+					errorHandler.error(String.format("Could not write %s log events to collection %s", documents.size(),
+							collection), e, ErrorCode.WRITE_FAILURE);
+					continue;
+				}
+
+				onWrite(collection, batch.getKey(), documents.size(), System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void onAppend(WriteConcernTier tier) {
+
+		metrics.onAppend(tier);
+
+		AppenderMetricsListener listener = this.metricsListener;
+		if (listener != null) {
+			listener.onAppend(tier);
+		}
+	}
+
+	private void onDrop(WriteConcernTier tier) {
+
+		metrics.onDrop(tier);
+
+		AppenderMetricsListener listener = this.metricsListener;
+		if (listener != null) {
+			listener.onDrop(tier);
+		}
+	}
+
+	private void onWrite(String collection, WriteConcernTier tier, int events, long durationNanos) {
+
+		metrics.onWrite(collection, tier, events, durationNanos);
+
+		AppenderMetricsListener listener = this.metricsListener;
+		if (listener != null) {
+			listener.onWrite(collection, tier, events, durationNanos);
+		}
+	}
+
+	private void onWriteFailure(String collection, WriteConcernTier tier, int events, Throwable cause) {
+
+		metrics.onWriteFailure(collection, tier, events, cause);
+
+		AppenderMetricsListener listener = this.metricsListener;
+		if (listener != null) {
+			listener.onWriteFailure(collection, tier, events, cause);
+		}
+	}
+
+	private synchronized void registerMetrics() {
+
+		if (registeredName != null) {
+			return;
+		}
+
+		try {
+
+			ObjectName objectName = new ObjectName("org.springframework.data.mongodb.log4j:type=MongoLog4jAppender,name="
+					+ ObjectName.quote(name == null ? database : name));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+			this.registeredName = objectName;
+		} catch (JMException e) {
+			errorHandler.error("Could not register MongoLog4jAppender metrics with JMX", e, ErrorCode.GENERIC_FAILURE);
+		}
+	}
+
+	private synchronized void unregisterMetrics() {
+
+		if (registeredName == null) {
+			return;
+		}
+
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+		} catch (JMException e) {
+			errorHandler.error("Could not unregister MongoLog4jAppender metrics from JMX", e, ErrorCode.GENERIC_FAILURE);
+		} finally {
+			this.registeredName = null;
 		}
-		db.getCollection(coll).insert(dbo, wc);
 	}
 
 	/*
@@ -283,6 +752,14 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	 */
 	public void close() {
 
+		synchronized (this) {
+			if (writer != null) {
+				writer.stop(SHUTDOWN_TIMEOUT);
+			}
+		}
+
+		unregisterMetrics();
+
 		if (mongo != null) {
 			mongo.close();
 		}
@@ -295,4 +772,166 @@ public class MongoLog4jAppender extends AppenderSkeleton {
 	public boolean requiresLayout() {
 		return true;
 	}
+
+	/**
+	 * Policy applied in async mode when the buffer of pending events is full.
+	 *
+	 * @since 2.0
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the logging thread until the event can be buffered.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard events below {@link Level#WARN} and block for all others.
+		 */
+		DROP_BELOW_WARN,
+
+		/**
+		 * Discard the oldest pending event to make room for the new one.
+		 */
+		DROP_OLDEST;
+	}
+
+	/**
+	 * An event ready to be written along with its target collection and {@link WriteConcern}.
+	 */
+	private static class PendingEvent {
+
+		final String collection;
+		final WriteConcernTier tier;
+		final WriteConcern writeConcern;
+		final DBObject document;
+
+		PendingEvent(String collection, WriteConcernTier tier, WriteConcern writeConcern, DBObject document) {
+
+			this.collection = collection;
+			this.tier = tier;
+			this.writeConcern = writeConcern;
+			this.document = document;
+		}
+	}
+
+	/**
+	 * Background task draining the buffer. Events are written once {@link MongoLog4jAppender#getBatchSize() batch size}
+	 * events are pending or the oldest pending event has waited for {@link MongoLog4jAppender#getFlushInterval() flush
+	 * interval} milliseconds. Remaining events are written on {@link #stop(long) stop}. Without pending events the
+	 * writer parks until the next event is enqueued.
+	 */
+	private class BatchWriter implements Runnable {
+
+		private volatile boolean running = true;
+		private volatile boolean idle;
+		private volatile Thread thread;
+
+		void start(Thread thread) {
+
+			this.thread = thread;
+			thread.start();
+		}
+
+		boolean isStopped() {
+			return !running;
+		}
+
+		boolean isIdle() {
+			return idle;
+		}
+
+		void wakeUp() {
+			LockSupport.unpark(thread);
+		}
+
+		void stop(long timeout) {
+
+			running = false;
+			wakeUp();
+
+			try {
+				thread.join(timeout);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			List<PendingEvent> batch = new ArrayList<PendingEvent>(batchSize);
+			long deadline = 0;
+
+			for (;;) {
+
+				PendingEvent event = buffer.poll();
+
+				if (event != null) {
+
+					if (batch.isEmpty()) {
+						deadline = System.currentTimeMillis() + flushInterval;
+					}
+
+					batch.add(event);
+
+					if (batch.size() >= batchSize) {
+						flush(batch);
+					}
+
+					continue;
+				}
+
+				if (!running) {
+					break;
+				}
+
+				if (batch.isEmpty()) {
+					parkUntilEnqueued();
+					continue;
+				}
+
+				long remaining = deadline - System.currentTimeMillis();
+
+				if (remaining <= 0) {
+					flush(batch);
+				} else {
+					LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(remaining));
+				}
+			}
+
+			flush(batch);
+		}
+
+		private void parkUntilEnqueued() {
+
+			idle = true;
+
+			// re-check as an event enqueued before the flag was visible does not wake us up
+			if (running && buffer.size() == 0) {
+				LockSupport.park(this);
+			}
+
+			idle = false;
+		}
+
+		private void flush(List<PendingEvent> batch) {
+
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			try {
+				write(batch);
+			} catch (RuntimeException e) {
+				errorHandler.error("Could not write log events", e, ErrorCode.WRITE_FAILURE);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics collected by a {@link MongoLog4jAppender}. Counters are updated lock-free so that collecting them does not
+ * add contention to the logging threads. Write latencies are recorded per {@link WriteConcernTier} as inserts with
+ * {@literal warnOrHigherWriteConcern} usually take considerably longer than those with
+ * {@literal infoOrLowerWriteConcern}.
+ *
+ * @since 2.0
+ * @see MongoLog4jAppender#getMetrics()
+ * @see MongoLog4jAppender#setJmxEnabled(boolean)
+ */
+public class MongoLog4jAppenderMetrics implements AppenderMetricsListener, MongoLog4jAppenderMetricsMBean {
+
+	private final MongoLog4jAppender appender;
+
+	private final LongAdder appendedEvents = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder writtenEvents = new LongAdder();
+	private final LongAdder writtenBatches = new LongAdder();
+	private final AtomicLong maxBatchSize = new AtomicLong();
+	private final LongAdder warnOrHigherWriteFailures = new LongAdder();
+	private final LongAdder infoOrLowerWriteFailures = new LongAdder();
+	private final LongAdder failedEvents = new LongAdder();
+	private final Map<WriteConcernTier, LatencyHistogram> writeLatencies = new EnumMap<>(WriteConcernTier.class);
+
+	MongoLog4jAppenderMetrics(MongoLog4jAppender appender) {
+
+		this.appender = appender;
+
+		for (WriteConcernTier tier : WriteConcernTier.values()) {
+			writeLatencies.put(tier, new LatencyHistogram());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.AppenderMetricsListener#onAppend(org.springframework.data.mongodb.log4j.WriteConcernTier)
+	 */
+	@Override
+	public void onAppend(WriteConcernTier tier) {
+		appendedEvents.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.AppenderMetricsListener#onDrop(org.springframework.data.mongodb.log4j.WriteConcernTier)
+	 */
+	@Override
+	public void onDrop(WriteConcernTier tier) {
+		droppedEvents.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.AppenderMetricsListener#onWrite(java.lang.String, org.springframework.data.mongodb.log4j.WriteConcernTier, int, long)
+	 */
+	@Override
+	public void onWrite(String collection, WriteConcernTier tier, int events, long durationNanos) {
+
+		writtenEvents.add(events);
+		writtenBatches.increment();
+		writeLatencies.get(tier).record(durationNanos);
+
+		long max = maxBatchSize.get();
+		while (events > max && !maxBatchSize.compareAndSet(max, events)) {
+			max = maxBatchSize.get();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.AppenderMetricsListener#onWriteFailure(java.lang.String, org.springframework.data.mongodb.log4j.WriteConcernTier, int, java.lang.Throwable)
+	 */
+	@Override
+	public void onWriteFailure(String collection, WriteConcernTier tier, int events, Throwable cause) {
+
+		(tier == WriteConcernTier.WARN_OR_HIGHER ? warnOrHigherWriteFailures : infoOrLowerWriteFailures).increment();
+		failedEvents.add(events);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getAppendedEvents()
+	 */
+	@Override
+	public long getAppendedEvents() {
+		return appendedEvents.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getDroppedEvents()
+	 */
+	@Override
+	public long getDroppedEvents() {
+		return droppedEvents.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWrittenEvents()
+	 */
+	@Override
+	public long getWrittenEvents() {
+		return writtenEvents.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWrittenBatches()
+	 */
+	@Override
+	public long getWrittenBatches() {
+		return writtenBatches.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getQueueDepth()
+	 */
+	@Override
+	public int getQueueDepth() {
+		return appender.getQueueDepth();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getQueueCapacity()
+	 */
+	@Override
+	public int getQueueCapacity() {
+		return appender.getQueueCapacity();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getAverageBatchSize()
+	 */
+	@Override
+	public double getAverageBatchSize() {
+
+		long batches = writtenBatches.sum();
+		return batches == 0 ? 0 : (double) writtenEvents.sum() / batches;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getMaxBatchSize()
+	 */
+	@Override
+	public long getMaxBatchSize() {
+		return maxBatchSize.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getAverageWriteLatencyMillis()
+	 */
+	@Override
+	public double getAverageWriteLatencyMillis() {
+
+		long count = 0;
+		long totalNanos = 0;
+
+		for (LatencyHistogram histogram : writeLatencies.values()) {
+			count += histogram.getCount();
+			totalNanos += histogram.getTotalNanos();
+		}
+
+		return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWarnOrHigherAverageWriteLatencyMillis()
+	 */
+	@Override
+	public double getWarnOrHigherAverageWriteLatencyMillis() {
+		return getAverageWriteLatencyMillis(WriteConcernTier.WARN_OR_HIGHER);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getInfoOrLowerAverageWriteLatencyMillis()
+	 */
+	@Override
+	public double getInfoOrLowerAverageWriteLatencyMillis() {
+		return getAverageWriteLatencyMillis(WriteConcernTier.INFO_OR_LOWER);
+	}
+
+	/**
+	 * Returns the average insert latency of events written with the write concern of the given
+	 * {@link WriteConcernTier}.
+	 *
+	 * @param tier must not be {@literal null}.
+	 * @return the average insert latency in milliseconds or {@literal 0} if no insert was recorded for the tier.
+	 */
+	public double getAverageWriteLatencyMillis(WriteConcernTier tier) {
+
+		if (tier == null) {
+			throw new IllegalArgumentException("WriteConcernTier must not be null!");
+		}
+
+		return writeLatencies.get(tier).getAverageMillis();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWriteLatencyBuckets()
+	 */
+	@Override
+	public String[] getWriteLatencyBuckets() {
+		return LatencyHistogram.getLabels();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWriteLatencyHistogram()
+	 */
+	@Override
+	public long[] getWriteLatencyHistogram() {
+
+		long[] result = new long[LatencyHistogram.getLabels().length];
+
+		for (LatencyHistogram histogram : writeLatencies.values()) {
+
+			long[] counts = histogram.getCounts();
+			for (int i = 0; i < result.length; i++) {
+				result[i] += counts[i];
+			}
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWarnOrHigherWriteLatencyHistogram()
+	 */
+	@Override
+	public long[] getWarnOrHigherWriteLatencyHistogram() {
+		return getWriteLatencyHistogram(WriteConcernTier.WARN_OR_HIGHER);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getInfoOrLowerWriteLatencyHistogram()
+	 */
+	@Override
+	public long[] getInfoOrLowerWriteLatencyHistogram() {
+		return getWriteLatencyHistogram(WriteConcernTier.INFO_OR_LOWER);
+	}
+
+	/**
+	 * Returns the number of inserts per write latency histogram bucket of events written with the write concern of the
+	 * given {@link WriteConcernTier}.
+	 *
+	 * @param tier must not be {@literal null}.
+	 * @return the counts in the order of {@link #getWriteLatencyBuckets()}.
+	 */
+	public long[] getWriteLatencyHistogram(WriteConcernTier tier) {
+
+		if (tier == null) {
+			throw new IllegalArgumentException("WriteConcernTier must not be null!");
+		}
+
+		return writeLatencies.get(tier).getCounts();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getWarnOrHigherWriteFailures()
+	 */
+	@Override
+	public long getWarnOrHigherWriteFailures() {
+		return warnOrHigherWriteFailures.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getInfoOrLowerWriteFailures()
+	 */
+	@Override
+	public long getInfoOrLowerWriteFailures() {
+		return infoOrLowerWriteFailures.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#getFailedEvents()
+	 */
+	@Override
+	public long getFailedEvents() {
+		return failedEvents.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.log4j.MongoLog4jAppenderMetricsMBean#reset()
+	 */
+	@Override
+	public void reset() {
+
+		appendedEvents.reset();
+		droppedEvents.reset();
+		writtenEvents.reset();
+		writtenBatches.reset();
+		maxBatchSize.set(0);
+		warnOrHigherWriteFailures.reset();
+		infoOrLowerWriteFailures.reset();
+		failedEvents.reset();
+		writeLatencies.values().forEach(LatencyHistogram::reset);
+	}
+}
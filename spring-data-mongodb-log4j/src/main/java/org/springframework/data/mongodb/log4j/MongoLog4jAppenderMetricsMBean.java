@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+/**
+ * JMX management interface exposing the {@link MongoLog4jAppenderMetrics} of a {@link MongoLog4jAppender}.
+ *
+ * @since 2.0
+ */
+public interface MongoLog4jAppenderMetricsMBean {
+
+	/**
+	 * @return the number of events accepted by the appender.
+	 */
+	long getAppendedEvents();
+
+	/**
+	 * @return the number of events discarded because the buffer was full.
+	 */
+	long getDroppedEvents();
+
+	/**
+	 * @return the number of events written successfully.
+	 */
+	long getWrittenEvents();
+
+	/**
+	 * @return the number of inserts issued successfully.
+	 */
+	long getWrittenBatches();
+
+	/**
+	 * @return the number of events currently waiting to be written in async mode.
+	 */
+	int getQueueDepth();
+
+	/**
+	 * @return the maximum number of events waiting to be written in async mode.
+	 */
+	int getQueueCapacity();
+
+	/**
+	 * @return the average number of events per successful insert.
+	 */
+	double getAverageBatchSize();
+
+	/**
+	 * @return the largest number of events written with a single insert.
+	 */
+	long getMaxBatchSize();
+
+	/**
+	 * @return the average insert latency of both {@link WriteConcernTier}s in milliseconds.
+	 */
+	double getAverageWriteLatencyMillis();
+
+	/**
+	 * @return the average insert latency in milliseconds of events written with the {@literal warnOrHigherWriteConcern}.
+	 */
+	double getWarnOrHigherAverageWriteLatencyMillis();
+
+	/**
+	 * @return the average insert latency in milliseconds of events written with the {@literal infoOrLowerWriteConcern}.
+	 */
+	double getInfoOrLowerAverageWriteLatencyMillis();
+
+	/**
+	 * @return the labels of the write latency histogram buckets.
+	 */
+	String[] getWriteLatencyBuckets();
+
+	/**
+	 * @return the number of inserts of both {@link WriteConcernTier}s per write latency histogram bucket in the order of
+	 *         {@link #getWriteLatencyBuckets()}.
+	 */
+	long[] getWriteLatencyHistogram();
+
+	/**
+	 * @return the number of inserts of events written with the {@literal warnOrHigherWriteConcern} per write latency
+	 *         histogram bucket in the order of {@link #getWriteLatencyBuckets()}.
+	 */
+	long[] getWarnOrHigherWriteLatencyHistogram();
+
+	/**
+	 * @return the number of inserts of events written with the {@literal infoOrLowerWriteConcern} per write latency
+	 *         histogram bucket in the order of {@link #getWriteLatencyBuckets()}.
+	 */
+	long[] getInfoOrLowerWriteLatencyHistogram();
+
+	/**
+	 * @return the number of failed inserts of events written with the {@literal warnOrHigherWriteConcern}.
+	 */
+	long getWarnOrHigherWriteFailures();
+
+	/**
+	 * @return the number of failed inserts of events written with the {@literal infoOrLowerWriteConcern}.
+	 */
+	long getInfoOrLowerWriteFailures();
+
+	/**
+	 * @return the number of events lost due to failed inserts.
+	 */
+	long getFailedEvents();
+
+	/**
+	 * Resets all counters.
+	 */
+	void reset();
+}
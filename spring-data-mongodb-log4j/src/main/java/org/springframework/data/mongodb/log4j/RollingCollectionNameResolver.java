@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.MDC;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Resolves collection names from a {@link PatternLayout} using the {@link MongoLog4jAppender#YEAR year},
+ * {@link MongoLog4jAppender#MONTH month}, {@link MongoLog4jAppender#DAY day} and {@link MongoLog4jAppender#HOUR hour}
+ * MDC keys. The values of those keys only change once per hour, so they are computed once per hourly time bucket.
+ * Patterns that depend on nothing but those keys, the application id and the logger name render the same collection
+ * name for the whole bucket, which is cached until the bucket rolls over. All other patterns are rendered per event.
+ *
+ * @since 2.0
+ */
+class RollingCollectionNameResolver {
+
+	private static final Pattern CONVERSION = Pattern.compile("%-?\\d*(?:\\.\\d+)?([a-zA-Z%])(?:\\{([^}]*)\\})?");
+	private static final Set<String> BUCKET_KEYS = new HashSet<String>(Arrays.asList(MongoLog4jAppender.YEAR,
+			MongoLog4jAppender.MONTH, MongoLog4jAppender.DAY, MongoLog4jAppender.HOUR, MongoLog4jAppender.APP_ID));
+	private static final int MAX_CACHED_NAMES = 1024;
+
+	private final PatternLayout layout;
+	private final Mode mode;
+	private volatile TimeBucket bucket;
+
+	/**
+	 * Creates a new {@link RollingCollectionNameResolver} for the given pattern and the {@link PatternLayout} created
+	 * for it.
+	 *
+	 * @param pattern must not be {@literal null}.
+	 * @param layout must not be {@literal null}.
+	 */
+	RollingCollectionNameResolver(String pattern, PatternLayout layout) {
+
+		this.layout = layout;
+		this.mode = Mode.of(pattern);
+	}
+
+	/**
+	 * Resolves the collection name for the given {@link LoggingEvent} at the given time.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param now the current time in milliseconds.
+	 * @return
+	 */
+	String resolve(LoggingEvent event, long now) {
+
+		TimeBucket bucket = this.bucket;
+
+		if (bucket == null || !bucket.contains(now)) {
+			bucket = new TimeBucket(now);
+			this.bucket = bucket;
+		}
+
+		if (mode == Mode.PER_EVENT) {
+			return format(event, bucket);
+		}
+
+		String key = mode == Mode.PER_LOGGER ? event.getLoggerName() : "";
+		String name = bucket.names.get(key);
+
+		if (name == null) {
+
+			name = format(event, bucket);
+
+			if (bucket.names.size() < MAX_CACHED_NAMES) {
+				bucket.names.put(key, name);
+			}
+		}
+
+		return name;
+	}
+
+	private String format(LoggingEvent event, TimeBucket bucket) {
+
+		MDC.put(MongoLog4jAppender.YEAR, bucket.year);
+		MDC.put(MongoLog4jAppender.MONTH, bucket.month);
+		MDC.put(MongoLog4jAppender.DAY, bucket.day);
+		MDC.put(MongoLog4jAppender.HOUR, bucket.hour);
+
+		try {
+			return layout.format(event);
+		} finally {
+
+			MDC.remove(MongoLog4jAppender.YEAR);
+			MDC.remove(MongoLog4jAppender.MONTH);
+			MDC.remove(MongoLog4jAppender.DAY);
+			MDC.remove(MongoLog4jAppender.HOUR);
+		}
+	}
+
+	/**
+	 * How far collection names can be cached for a given pattern.
+	 */
+	enum Mode {
+
+		/**
+		 * The pattern only uses the time bucket keys and the application id.
+		 */
+		PER_BUCKET,
+
+		/**
+		 * The pattern additionally uses the logger name.
+		 */
+		PER_LOGGER,
+
+		/**
+		 * The pattern uses other event properties and has to be rendered for each event.
+		 */
+		PER_EVENT;
+
+		static Mode of(String pattern) {
+
+			Mode mode = PER_BUCKET;
+			Matcher matcher = CONVERSION.matcher(pattern);
+
+			while (matcher.find()) {
+
+				char conversion = matcher.group(1).charAt(0);
+				String option = matcher.group(2);
+
+				if (conversion == '%' || conversion == 'n' || (conversion == 'X' && BUCKET_KEYS.contains(option))) {
+					continue;
+				}
+
+				if (conversion == 'c') {
+					mode = PER_LOGGER;
+					continue;
+				}
+
+				return PER_EVENT;
+			}
+
+			return mode;
+		}
+	}
+
+	/**
+	 * An hour of local time along with the MDC values rendered for it.
+	 */
+	private static class TimeBucket {
+
+		final long start;
+		final long end;
+		final Integer year;
+		final String month;
+		final String day;
+		final String hour;
+		final Map<String, String> names = new ConcurrentHashMap<String, String>();
+
+		TimeBucket(long now) {
+
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(now);
+			calendar.set(Calendar.MINUTE, 0);
+			calendar.set(Calendar.SECOND, 0);
+			calendar.set(Calendar.MILLISECOND, 0);
+
+			this.start = calendar.getTimeInMillis();
+			this.year = calendar.get(Calendar.YEAR);
+			this.month = String.format("%1$02d", calendar.get(Calendar.MONTH) + 1);
+			this.day = String.format("%1$02d", calendar.get(Calendar.DAY_OF_MONTH));
+			this.hour = String.format("%1$02d", calendar.get(Calendar.HOUR_OF_DAY));
+
+			calendar.add(Calendar.HOUR_OF_DAY, 1);
+			this.end = calendar.getTimeInMillis();
+		}
+
+		boolean contains(long time) {
+			return time >= start && time < end;
+		}
+	}
+}
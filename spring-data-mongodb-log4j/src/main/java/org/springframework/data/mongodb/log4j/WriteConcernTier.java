@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import org.apache.log4j.Level;
+
+/**
+ * The tiers log events are split into to determine the {@link com.mongodb.WriteConcern} they are written with.
+ *
+ * @since 2.0
+ * @see MongoLog4jAppender#setWarnOrHigherWriteConcern(String)
+ * @see MongoLog4jAppender#setInfoOrLowerWriteConcern(String)
+ */
+public enum WriteConcernTier {
+
+	/**
+	 * Events of level {@link Level#WARN} and above.
+	 */
+	WARN_OR_HIGHER,
+
+	/**
+	 * Events below level {@link Level#WARN}.
+	 */
+	INFO_OR_LOWER;
+
+	/**
+	 * Returns the {@link WriteConcernTier} for the given {@link Level}.
+	 *
+	 * @param level must not be {@literal null}.
+	 * @return
+	 */
+	public static WriteConcernTier of(Level level) {
+		return level.isGreaterOrEqual(Level.WARN) ? WARN_OR_HIGHER : INFO_OR_LOWER;
+	}
+}
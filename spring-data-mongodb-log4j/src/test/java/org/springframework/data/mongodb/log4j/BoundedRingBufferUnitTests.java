@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedRingBuffer}.
+ */
+public class BoundedRingBufferUnitTests {
+
+	@Test
+	public void roundsCapacityUpToPowerOfTwo() {
+
+		assertThat(new BoundedRingBuffer<Object>(1).capacity(), is(1));
+		assertThat(new BoundedRingBuffer<Object>(5).capacity(), is(8));
+		assertThat(new BoundedRingBuffer<Object>(8).capacity(), is(8));
+	}
+
+	@Test
+	public void rejectsElementsOnceFull() {
+
+		BoundedRingBuffer<String> buffer = new BoundedRingBuffer<String>(2);
+
+		assertThat(buffer.offer("a"), is(true));
+		assertThat(buffer.offer("b"), is(true));
+		assertThat(buffer.offer("c"), is(false));
+		assertThat(buffer.size(), is(2));
+	}
+
+	@Test
+	public void pollsElementsInInsertionOrder() {
+
+		BoundedRingBuffer<String> buffer = new BoundedRingBuffer<String>(2);
+
+		for (String element : new String[] { "a", "b", "c", "d", "e" }) {
+			buffer.offer(element);
+			assertThat(buffer.poll(), is(element));
+		}
+
+		assertThat(buffer.poll(), is(nullValue()));
+		assertThat(buffer.size(), is(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveCapacity() {
+		new BoundedRingBuffer<Object>(0);
+	}
+
+	@Test
+	public void transfersAllElementsFromConcurrentProducers() throws Exception {
+
+		final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<Integer>(64);
+		final int producers = 4;
+		final int elementsPerProducer = 10000;
+		final CountDownLatch done = new CountDownLatch(producers);
+
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+		try {
+
+			for (int i = 0; i < producers; i++) {
+				executor.execute(new Runnable() {
+
+					@Override
+					public void run() {
+
+						for (int j = 0; j < elementsPerProducer; j++) {
+							while (!buffer.offer(j)) {
+								Thread.yield();
+							}
+						}
+
+						done.countDown();
+					}
+				});
+			}
+
+			long sum = 0;
+			int received = 0;
+
+			while (received < producers * elementsPerProducer) {
+
+				Integer element = buffer.poll();
+
+				if (element == null) {
+					Thread.yield();
+					continue;
+				}
+
+				sum += element;
+				received++;
+			}
+
+			assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+			assertThat(sum, is((long) producers * elementsPerProducer * (elementsPerProducer - 1) / 2));
+			assertThat(buffer.poll(), is(nullValue()));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MongoLog4jAppenderMetrics}.
+ */
+public class MongoLog4jAppenderMetricsUnitTests {
+
+	MongoLog4jAppender appender = new MongoLog4jAppender();
+	MongoLog4jAppenderMetrics metrics = appender.getMetrics();
+
+	@Test
+	public void tracksBatchSizesAndLatencies() {
+
+		metrics.onWrite("logs", WriteConcernTier.INFO_OR_LOWER, 10, TimeUnit.MICROSECONDS.toNanos(500));
+		metrics.onWrite("logs", WriteConcernTier.INFO_OR_LOWER, 20, TimeUnit.MILLISECONDS.toNanos(3));
+		metrics.onWrite("logs", WriteConcernTier.WARN_OR_HIGHER, 3, TimeUnit.SECONDS.toNanos(2));
+
+		assertThat(metrics.getWrittenEvents(), is(33L));
+		assertThat(metrics.getWrittenBatches(), is(3L));
+		assertThat(metrics.getMaxBatchSize(), is(20L));
+		assertThat(metrics.getAverageBatchSize(), is(11D));
+
+		long[] histogram = metrics.getWriteLatencyHistogram();
+		String[] buckets = metrics.getWriteLatencyBuckets();
+
+		assertThat(histogram.length, is(buckets.length));
+		assertThat(buckets[0], is("<=1ms"));
+		assertThat(histogram[0], is(1L));
+		assertThat(histogram[2], is(1L));
+		assertThat(buckets[histogram.length - 1], is(">1000ms"));
+		assertThat(histogram[histogram.length - 1], is(1L));
+	}
+
+	@Test
+	public void tracksLatenciesPerWriteConcernTier() {
+
+		metrics.onWrite("logs", WriteConcernTier.INFO_OR_LOWER, 10, TimeUnit.MICROSECONDS.toNanos(200));
+		metrics.onWrite("logs", WriteConcernTier.WARN_OR_HIGHER, 3, TimeUnit.MILLISECONDS.toNanos(300));
+		metrics.onWrite("logs", WriteConcernTier.WARN_OR_HIGHER, 3, TimeUnit.MILLISECONDS.toNanos(500));
+
+		long[] infoOrLower = metrics.getInfoOrLowerWriteLatencyHistogram();
+		long[] warnOrHigher = metrics.getWarnOrHigherWriteLatencyHistogram();
+
+		assertThat(infoOrLower[0], is(1L));
+		assertThat(infoOrLower[8], is(0L));
+		assertThat(warnOrHigher[0], is(0L));
+		assertThat(warnOrHigher[8], is(2L));
+		assertThat(metrics.getWriteLatencyHistogram(WriteConcernTier.WARN_OR_HIGHER), is(warnOrHigher));
+
+		assertThat(metrics.getInfoOrLowerAverageWriteLatencyMillis(), is(0.2D));
+		assertThat(metrics.getWarnOrHigherAverageWriteLatencyMillis(), is(400D));
+		assertThat(metrics.getAverageWriteLatencyMillis(), is(closeTo(266.73D, 0.01D)));
+	}
+
+	@Test
+	public void countsFailuresPerWriteConcernTier() {
+
+		RuntimeException cause = new RuntimeException();
+
+		metrics.onWriteFailure("logs", WriteConcernTier.WARN_OR_HIGHER, 5, cause);
+		metrics.onWriteFailure("logs", WriteConcernTier.INFO_OR_LOWER, 2, cause);
+		metrics.onWriteFailure("logs", WriteConcernTier.INFO_OR_LOWER, 1, cause);
+
+		assertThat(metrics.getWarnOrHigherWriteFailures(), is(1L));
+		assertThat(metrics.getInfoOrLowerWriteFailures(), is(2L));
+		assertThat(metrics.getFailedEvents(), is(8L));
+	}
+
+	@Test
+	public void resetClearsCounters() {
+
+		metrics.onAppend(WriteConcernTier.INFO_OR_LOWER);
+		metrics.onDrop(WriteConcernTier.INFO_OR_LOWER);
+		metrics.onWrite("logs", WriteConcernTier.INFO_OR_LOWER, 1, 1);
+
+		metrics.reset();
+
+		assertThat(metrics.getAppendedEvents(), is(0L));
+		assertThat(metrics.getDroppedEvents(), is(0L));
+		assertThat(metrics.getWrittenEvents(), is(0L));
+		assertThat(metrics.getMaxBatchSize(), is(0L));
+		assertThat(metrics.getAverageWriteLatencyMillis(), is(0D));
+		assertThat(metrics.getInfoOrLowerWriteLatencyHistogram()[0], is(0L));
+	}
+
+	@Test
+	public void registersMetricsWithJmxUntilClosed() throws Exception {
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName("org.springframework.data.mongodb.log4j:type=MongoLog4jAppender,name=\"jmx\"");
+
+		appender.setName("jmx");
+		appender.setJmxEnabled(true);
+		appender.activateOptions();
+
+		try {
+
+			metrics.onAppend(WriteConcernTier.INFO_OR_LOWER);
+
+			assertThat(server.isRegistered(name), is(true));
+			assertThat(server.getAttribute(name, "AppendedEvents"), is((Object) 1L));
+			assertThat(server.getAttribute(name, "WarnOrHigherWriteLatencyHistogram"), is(instanceOf(long[].class)));
+			assertThat(server.getAttribute(name, "InfoOrLowerWriteLatencyHistogram"), is(instanceOf(long[].class)));
+		} finally {
+			appender.close();
+		}
+
+		assertThat(server.isRegistered(name), is(false));
+	}
+}
@@ -15,7 +15,29 @@
  */
 package org.springframework.data.mongodb.log4j;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
 
 /**
  * Unit tests for {@link MongoLog4jAppender}.
@@ -24,8 +46,230 @@ import org.junit.Test;
  */
 public class MongoLog4jAppenderUnitTests {
 
+	MongoLog4jAppender appender;
+	DB db;
+
+	@Before
+	public void setUp() {
+
+		db = mock(DB.class);
+
+		appender = new MongoLog4jAppender();
+		appender.db = db;
+	}
+
 	@Test // DATAMONGO-641
 	public void closesWithoutMongoInstancePresent() {
 		new MongoLog4jAppender().close();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncModeWritesOneBatchPerCollection() {
+
+		DBCollection first = mock(DBCollection.class);
+		DBCollection second = mock(DBCollection.class);
+		when(db.getCollection("first")).thenReturn(first);
+		when(db.getCollection("second")).thenReturn(second);
+
+		appender.setAsync(true);
+		appender.setBatchSize(2);
+		appender.activateOptions();
+
+		appender.doAppend(event("first", Level.INFO));
+		appender.doAppend(event("first", Level.INFO));
+		appender.doAppend(event("second", Level.INFO));
+		appender.close();
+
+		ArgumentCaptor<List<DBObject>> documents = ArgumentCaptor.forClass((Class) List.class);
+		verify(first).insert(documents.capture(), eq(WriteConcern.UNACKNOWLEDGED));
+		assertThat(documents.getValue(), hasSize(2));
+
+		verify(second).insert(documents.capture(), eq(WriteConcern.UNACKNOWLEDGED));
+		assertThat(documents.getValue(), hasSize(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncModeSeparatesBatchesByWriteConcern() {
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+
+		appender.setAsync(true);
+
+		appender.doAppend(event("logger", Level.INFO));
+		appender.doAppend(event("logger", Level.ERROR));
+		appender.doAppend(event("logger", Level.DEBUG));
+		appender.close();
+
+		ArgumentCaptor<List<DBObject>> documents = ArgumentCaptor.forClass((Class) List.class);
+		verify(collection).insert(documents.capture(), eq(WriteConcern.UNACKNOWLEDGED));
+		assertThat(documents.getValue(), hasSize(2));
+
+		verify(collection).insert(documents.capture(), eq(WriteConcern.ACKNOWLEDGED));
+		assertThat(documents.getValue(), hasSize(1));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncModeWritesPendingEventsOnceFlushIntervalElapsed() {
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+
+		appender.setAsync(true);
+		appender.setFlushInterval(10);
+
+		appender.doAppend(event("logger", Level.INFO));
+
+		verify(collection, timeout(5000)).insert(anyList(), eq(WriteConcern.UNACKNOWLEDGED));
+
+		appender.doAppend(event("logger", Level.INFO));
+
+		verify(collection, timeout(5000).times(2)).insert(anyList(), eq(WriteConcern.UNACKNOWLEDGED));
+		appender.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncModeDropsEventsBelowWarnOnOverflow() throws Exception {
+
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+		when(collection.insert(anyList(), any(WriteConcern.class))).thenAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+
+				writing.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return null;
+			}
+		});
+
+		appender.setAsync(true);
+		appender.setBatchSize(1);
+		appender.setBufferSize(2);
+		appender.setOverflowPolicy("drop_below_warn");
+
+		appender.doAppend(event("logger", Level.INFO));
+		assertThat(writing.await(5, TimeUnit.SECONDS), is(true));
+
+		appender.doAppend(event("logger", Level.INFO));
+		appender.doAppend(event("logger", Level.INFO));
+		appender.doAppend(event("logger", Level.DEBUG));
+
+		assertThat(appender.getDroppedEvents(), is(1L));
+
+		release.countDown();
+		appender.close();
+
+		verify(collection, times(3)).insert(anyList(), any(WriteConcern.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void asyncModeDropsOldestEventOnOverflow() throws Exception {
+
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+		when(collection.insert(anyList(), any(WriteConcern.class))).thenAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+
+				writing.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return null;
+			}
+		});
+
+		appender.setAsync(true);
+		appender.setBatchSize(4);
+		appender.setFlushInterval(0);
+		appender.setBufferSize(2);
+		appender.setOverflowPolicy("DROP_OLDEST");
+
+		appender.doAppend(event("logger", Level.INFO));
+		assertThat(writing.await(5, TimeUnit.SECONDS), is(true));
+
+		appender.doAppend(event("logger", Level.INFO, "first"));
+		appender.doAppend(event("logger", Level.INFO, "second"));
+		appender.doAppend(event("logger", Level.INFO, "third"));
+
+		assertThat(appender.getDroppedEvents(), is(1L));
+
+		release.countDown();
+		appender.close();
+
+		ArgumentCaptor<List<DBObject>> documents = ArgumentCaptor.forClass((Class) List.class);
+		verify(collection, times(2)).insert(documents.capture(), any(WriteConcern.class));
+
+		List<DBObject> remaining = documents.getAllValues().get(1);
+		assertThat(remaining, hasSize(2));
+		assertThat(remaining.get(0).get(MongoLog4jAppender.MESSAGE), is((Object) "second"));
+		assertThat(remaining.get(1).get(MongoLog4jAppender.MESSAGE), is((Object) "third"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void notifiesMetricsListenerAboutWritesAndFailures() {
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+		when(collection.insert(anyList(), eq(WriteConcern.ACKNOWLEDGED))).thenThrow(new MongoException("boom"));
+
+		AppenderMetricsListener listener = mock(AppenderMetricsListener.class);
+
+		appender.setAsync(true);
+		appender.setMetricsListener(listener);
+
+		appender.doAppend(event("logger", Level.INFO));
+		appender.doAppend(event("logger", Level.DEBUG));
+		appender.doAppend(event("logger", Level.ERROR));
+		appender.close();
+
+		verify(listener, times(2)).onAppend(WriteConcernTier.INFO_OR_LOWER);
+		verify(listener).onAppend(WriteConcernTier.WARN_OR_HIGHER);
+		verify(listener).onWrite(eq("logger"), eq(WriteConcernTier.INFO_OR_LOWER), eq(2), anyLong());
+		verify(listener).onWriteFailure(eq("logger"), eq(WriteConcernTier.WARN_OR_HIGHER), eq(1),
+				any(MongoException.class));
+
+		MongoLog4jAppenderMetrics metrics = appender.getMetrics();
+		assertThat(metrics.getAppendedEvents(), is(3L));
+		assertThat(metrics.getWrittenEvents(), is(2L));
+		assertThat(metrics.getWarnOrHigherWriteFailures(), is(1L));
+		assertThat(metrics.getInfoOrLowerWriteFailures(), is(0L));
+	}
+
+	@Test
+	public void recordsFailedSynchronousWrites() {
+
+		DBCollection collection = mock(DBCollection.class);
+		when(db.getCollection("logger")).thenReturn(collection);
+		when(collection.insert(any(DBObject.class), any(WriteConcern.class))).thenThrow(new MongoException("boom"));
+
+		try {
+			appender.doAppend(event("logger", Level.INFO));
+			fail("Expected MongoException!");
+		} catch (MongoException e) {}
+
+		assertThat(appender.getMetrics().getInfoOrLowerWriteFailures(), is(1L));
+		assertThat(appender.getMetrics().getFailedEvents(), is(1L));
+	}
+
+	private static LoggingEvent event(String logger, Level level) {
+		return event(logger, level, level.toString() + " message");
+	}
+
+	private static LoggingEvent event(String logger, Level level, String message) {
+		return new LoggingEvent(Logger.class.getName(), Logger.getLogger(logger), level, message, null);
+	}
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.log4j;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Calendar;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.MDC;
+import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.mongodb.log4j.RollingCollectionNameResolver.Mode;
+
+/**
+ * Unit tests for {@link RollingCollectionNameResolver}.
+ */
+public class RollingCollectionNameResolverUnitTests {
+
+	@After
+	public void tearDown() {
+		MDC.remove("user");
+	}
+
+	@Test
+	public void detectsCachingModeFromPattern() {
+
+		assertThat(Mode.of("%X{year}%X{month}"), is(Mode.PER_BUCKET));
+		assertThat(Mode.of("logs-%X{applicationId}-%X{year}%X{month}%X{day}%X{hour}"), is(Mode.PER_BUCKET));
+		assertThat(Mode.of("%c"), is(Mode.PER_LOGGER));
+		assertThat(Mode.of("%c{1}_%X{day}"), is(Mode.PER_LOGGER));
+		assertThat(Mode.of("%c_%p"), is(Mode.PER_EVENT));
+		assertThat(Mode.of("%X{user}"), is(Mode.PER_EVENT));
+		assertThat(Mode.of("%X"), is(Mode.PER_EVENT));
+	}
+
+	@Test
+	public void rendersTimeBucketKeys() {
+
+		RollingCollectionNameResolver resolver = resolver("%X{year}-%X{month}-%X{day}-%X{hour}");
+
+		assertThat(resolver.resolve(event("logger"), time(2017, 3, 5, 7, 30)), is("2017-03-05-07"));
+	}
+
+	@Test
+	public void cachesCollectionNameWithinTimeBucket() {
+
+		RollingCollectionNameResolver resolver = resolver("%X{year}%X{month}");
+
+		String first = resolver.resolve(event("first"), time(2017, 3, 5, 7, 0));
+		String second = resolver.resolve(event("second"), time(2017, 3, 5, 7, 59));
+
+		assertThat(first, is("201703"));
+		assertThat(second, is(sameInstance(first)));
+	}
+
+	@Test
+	public void recomputesCollectionNameOnRollover() {
+
+		RollingCollectionNameResolver resolver = resolver("%X{day}_%X{hour}");
+
+		assertThat(resolver.resolve(event("logger"), time(2017, 3, 5, 23, 59)), is("05_23"));
+		assertThat(resolver.resolve(event("logger"), time(2017, 3, 6, 0, 0)), is("06_00"));
+	}
+
+	@Test
+	public void cachesCollectionNamePerLogger() {
+
+		RollingCollectionNameResolver resolver = resolver("%c{1}_%X{year}");
+		long now = time(2017, 3, 5, 7, 0);
+
+		String first = resolver.resolve(event("com.acme.First"), now);
+
+		assertThat(first, is("First_2017"));
+		assertThat(resolver.resolve(event("com.acme.Second"), now), is("Second_2017"));
+		assertThat(resolver.resolve(event("com.acme.First"), now), is(sameInstance(first)));
+	}
+
+	@Test
+	public void rendersEventDependentPatternsPerEvent() {
+
+		RollingCollectionNameResolver resolver = resolver("%X{user}_%X{year}");
+		long now = time(2017, 3, 5, 7, 0);
+
+		MDC.put("user", "alice");
+		assertThat(resolver.resolve(event("logger"), now), is("alice_2017"));
+
+		MDC.put("user", "bob");
+		assertThat(resolver.resolve(event("logger"), now), is("bob_2017"));
+	}
+
+	@Test
+	public void removesTimeBucketKeysFromMdc() {
+
+		resolver("%X{year}%p").resolve(event("logger"), time(2017, 3, 5, 7, 0));
+
+		assertThat(MDC.get(MongoLog4jAppender.YEAR), is(nullValue()));
+		assertThat(MDC.get(MongoLog4jAppender.HOUR), is(nullValue()));
+	}
+
+	private static RollingCollectionNameResolver resolver(String pattern) {
+		return new RollingCollectionNameResolver(pattern, new PatternLayout(pattern));
+	}
+
+	private static LoggingEvent event(String logger) {
+		return new LoggingEvent(Logger.class.getName(), Logger.getLogger(logger), Level.INFO, "message", null);
+	}
+
+	private static long time(int year, int month, int day, int hour, int minute) {
+
+		Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set(year, month - 1, day, hour, minute);
+		return calendar.getTimeInMillis();
+	}
+}
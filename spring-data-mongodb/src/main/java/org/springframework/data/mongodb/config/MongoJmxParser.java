@@ -49,20 +49,52 @@ public class MongoJmxParser implements BeanDefinitionParser {
 
 		CompositeComponentDefinition compositeDef = new CompositeComponentDefinition(element.getTagName(), eleSource);
 
-		createBeanDefEntry(AssertMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(BtreeIndexCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ConnectionMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(GlobalLockMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(MemoryMetrics.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(OperationCounters.class, compositeDef, mongoRefName, eleSource, parserContext);
-		createBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, eleSource, parserContext);
+		String statusRefName = registerServerStatusProvider(mongoRefName, element, compositeDef, eleSource,
+				parserContext);
+
+		createBeanDefEntry(AssertMetrics.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(BackgroundFlushingMetrics.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(BtreeIndexCounters.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(ConnectionMetrics.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(GlobalLockMetrics.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(MemoryMetrics.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(OperationCounters.class, compositeDef, statusRefName, eleSource, parserContext);
+		createBeanDefEntry(ServerInfo.class, compositeDef, statusRefName, eleSource, parserContext);
 		createBeanDefEntry(MongoAdmin.class, compositeDef, mongoRefName, eleSource, parserContext);
 
 		parserContext.registerComponent(compositeDef);
 
 	}
 
+	/**
+	 * Registers the {@link ServerStatusProvider} shared by all monitors.
+	 *
+	 * @return the name of the registered bean.
+	 */
+	private String registerServerStatusProvider(String mongoRefName, Element element,
+			CompositeComponentDefinition compositeDef, Object eleSource, ParserContext parserContext) {
+
+		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(ServerStatusProvider.class);
+		builder.getRawBeanDefinition().setSource(eleSource);
+		builder.addConstructorArgReference(mongoRefName);
+
+		String refreshInterval = element.getAttribute("refresh-interval");
+		if (StringUtils.hasText(refreshInterval)) {
+			builder.addPropertyValue("refreshInterval", refreshInterval);
+		}
+
+		String backgroundRefresh = element.getAttribute("background-refresh");
+		if (StringUtils.hasText(backgroundRefresh)) {
+			builder.addPropertyValue("backgroundRefresh", backgroundRefresh);
+		}
+
+		BeanDefinition statusDef = builder.getBeanDefinition();
+		String statusName = parserContext.getReaderContext().registerWithGeneratedName(statusDef);
+		compositeDef.addNestedComponent(new BeanComponentDefinition(statusDef, statusName));
+
+		return statusName;
+	}
+
 	protected void createBeanDefEntry(Class<?> clazz, CompositeComponentDefinition compositeDef, String mongoRefName,
 			Object eleSource, ParserContext parserContext) {
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(clazz);
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * A single event emitted by a MongoDB change stream. Exposes the raw event {@link Document}, its
+ * {@link #getOperationType() operation type}, the {@link #getResumeToken() resume token} and the
+ * {@link #getBody() changed document} converted into the requested domain type.
+ *
+ * @param <T> the domain type of the event body.
+ * @since 2.0
+ * @see ReactiveMongoOperations#changeStream(ChangeStreamOptions, Class)
+ */
+public class ChangeEvent<T> {
+
+	private final Document raw;
+	private final T body;
+
+	/**
+	 * Creates a new {@link ChangeEvent} for the given raw event and converted body.
+	 *
+	 * @param raw the raw change stream event, must not be {@literal null}.
+	 * @param body the converted {@literal fullDocument}, can be {@literal null}.
+	 */
+	public ChangeEvent(Document raw, T body) {
+
+		Assert.notNull(raw, "Raw event must not be null!");
+
+		this.raw = raw;
+		this.body = body;
+	}
+
+	/**
+	 * Get the raw change stream event as returned by the server.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Document getRaw() {
+		return raw;
+	}
+
+	/**
+	 * Get the type of the operation that caused the event, e.g. {@literal insert}, {@literal update},
+	 * {@literal replace}, {@literal delete} or {@literal invalidate}.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public String getOperationType() {
+		return raw.getString("operationType");
+	}
+
+	/**
+	 * Get the resume token of the event that allows to continue the change stream right after this event via
+	 * {@link ChangeStreamOptions.ChangeStreamOptionsBuilder#resumeAfter(Document)}.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Document getResumeToken() {
+		return raw.get("_id", Document.class);
+	}
+
+	/**
+	 * Get the changed document converted into the domain type. Delete events, and update events without
+	 * {@literal fullDocument} lookup, do not carry a body.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public T getBody() {
+		return body;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ChangeEvent {" + "raw=" + raw + ", body=" + body + '}';
+	}
+}
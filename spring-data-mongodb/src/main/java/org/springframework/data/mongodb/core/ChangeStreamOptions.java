@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
+import org.springframework.util.Assert;
+
+/**
+ * Options applicable to MongoDB change streams. Use {@link #builder()} to create a new instance or {@link #empty()} to
+ * obtain the defaults which watch all changes and look up the current version of updated documents.
+ *
+ * @since 2.0
+ * @see ReactiveMongoOperations#changeStream(ChangeStreamOptions, Class)
+ */
+public class ChangeStreamOptions {
+
+	/**
+	 * Value for {@literal fullDocument} that returns the most current majority-committed version of updated documents.
+	 */
+	public static final String UPDATE_LOOKUP = "updateLookup";
+
+	/**
+	 * Value for {@literal fullDocument} that returns the delta for updates only.
+	 */
+	public static final String DEFAULT = "default";
+
+	private static final ChangeStreamOptions EMPTY = builder().build();
+
+	private Document filter;
+	private Document resumeToken;
+	private String fullDocument = UPDATE_LOOKUP;
+
+	private ChangeStreamOptions() {}
+
+	/**
+	 * @return the {@link ChangeStreamOptions} defaults.
+	 */
+	public static ChangeStreamOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * @return a new {@link ChangeStreamOptionsBuilder}.
+	 */
+	public static ChangeStreamOptionsBuilder builder() {
+		return new ChangeStreamOptionsBuilder();
+	}
+
+	/**
+	 * Get the filter applied to the change events. Field names not referring to event properties
+	 * ({@literal operationType}, {@literal documentKey}, {@literal ns}, {@literal updateDescription}) are resolved
+	 * against the changed document and therefore do not match events without {@literal fullDocument}. The identifier is
+	 * resolved against the {@literal documentKey}.
+	 *
+	 * @return {@link Optional#empty()} if not set.
+	 */
+	public Optional<Document> getFilter() {
+		return Optional.ofNullable(filter);
+	}
+
+	/**
+	 * @return {@link Optional#empty()} if not set.
+	 */
+	public Optional<Document> getResumeToken() {
+		return Optional.ofNullable(resumeToken);
+	}
+
+	/**
+	 * @return {@link Optional#empty()} if not set.
+	 */
+	public Optional<String> getFullDocument() {
+		return Optional.ofNullable(fullDocument);
+	}
+
+	/**
+	 * Builder for {@link ChangeStreamOptions}.
+	 *
+	 * @since 2.0
+	 */
+	public static class ChangeStreamOptionsBuilder {
+
+		private Document filter;
+		private Document resumeToken;
+		private String fullDocument = UPDATE_LOOKUP;
+
+		private ChangeStreamOptionsBuilder() {}
+
+		/**
+		 * Set the filter to apply using {@link CriteriaDefinition criteria} against the domain type.
+		 *
+		 * @param criteria must not be {@literal null}.
+		 * @return this.
+		 */
+		public ChangeStreamOptionsBuilder filter(CriteriaDefinition criteria) {
+
+			Assert.notNull(criteria, "Criteria must not be null!");
+
+			return filter(criteria.getCriteriaObject());
+		}
+
+		/**
+		 * Set the filter to apply as a raw {@link Document}.
+		 *
+		 * @param filter must not be {@literal null}.
+		 * @return this.
+		 */
+		public ChangeStreamOptionsBuilder filter(Document filter) {
+
+			Assert.notNull(filter, "Filter must not be null!");
+
+			this.filter = filter;
+			return this;
+		}
+
+		/**
+		 * Set the resume token (typically {@link ChangeEvent#getResumeToken()}) after which to start listening.
+		 *
+		 * @param resumeToken must not be {@literal null}.
+		 * @return this.
+		 */
+		public ChangeStreamOptionsBuilder resumeAfter(Document resumeToken) {
+
+			Assert.notNull(resumeToken, "ResumeToken must not be null!");
+
+			this.resumeToken = resumeToken;
+			return this;
+		}
+
+		/**
+		 * Set the {@literal fullDocument} lookup mode, {@link ChangeStreamOptions#UPDATE_LOOKUP} by default.
+		 *
+		 * @param fullDocument can be {@literal null} to use the server default.
+		 * @return this.
+		 */
+		public ChangeStreamOptionsBuilder fullDocument(String fullDocument) {
+
+			this.fullDocument = fullDocument;
+			return this;
+		}
+
+		/**
+		 * @return the built {@link ChangeStreamOptions}.
+		 */
+		public ChangeStreamOptions build() {
+
+			ChangeStreamOptions options = new ChangeStreamOptions();
+			options.filter = filter;
+			options.resumeToken = resumeToken;
+			options.fullDocument = fullDocument;
+			return options;
+		}
+	}
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Tracks the cursors opened by {@link MongoTemplate} per collection: the number of currently open cursors, their
+ * lifetimes and the number of documents read from them. Cursors still open after the
+ * {@link #setLeakThreshold(Duration) leak threshold} are reported with a warning, e.g. {@link java.util.stream.Stream}s
+ * obtained via {@link MongoTemplate#stream(org.springframework.data.mongodb.core.query.Query, Class)} that were never
+ * closed. A cursor ends its life when it is either closed or exhausted. Open cursors are only referenced weakly, so
+ * leaked cursors becoming unreachable are garbage collected and then reported as leaked as well.
+ * <p>
+ * Additionally registered as {@link CommandListener} with the {@link com.mongodb.MongoClientOptions}, the tracker
+ * counts the {@code getMore} round trips per collection and, if {@link #setMeasureReturnedBytes(boolean) enabled},
+ * the bytes of the cursor batches returned. Note that the command listener observes all cursors of the client, not
+ * only the ones opened by the template.
+ *
+ * @since 2.0
+ * @see MongoTemplate#setCursorUsageTracker(CursorUsageTracker)
+ */
+public class CursorUsageTracker implements CommandListener {
+
+	public static final Duration DEFAULT_LEAK_THRESHOLD = Duration.ofMinutes(5);
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CursorUsageTracker.class);
+	private static final long LEAK_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final Map<String, CollectionCursorStatistics> statistics = new ConcurrentHashMap<>();
+	private final Set<CursorReference> openCursors = ConcurrentHashMap.newKeySet();
+	private final ReferenceQueue<TrackedCursor> collectedCursors = new ReferenceQueue<>();
+	private final Map<Integer, String> pendingCursorCommands = new ConcurrentHashMap<>();
+	private final AtomicLong lastLeakCheck = new AtomicLong(System.nanoTime());
+
+	private volatile long leakThresholdNanos = DEFAULT_LEAK_THRESHOLD.toNanos();
+	private volatile boolean measureReturnedBytes;
+
+	/**
+	 * Configures the time after which a cursor that is still open is considered leaked. Defaults to
+	 * {@link #DEFAULT_LEAK_THRESHOLD}.
+	 *
+	 * @param leakThreshold must not be {@literal null} or negative.
+	 */
+	public void setLeakThreshold(Duration leakThreshold) {
+
+		Assert.notNull(leakThreshold, "Leak threshold must not be null!");
+		Assert.isTrue(!leakThreshold.isNegative(), "Leak threshold must not be negative!");
+
+		this.leakThresholdNanos = leakThreshold.toNanos();
+	}
+
+	/**
+	 * Configures whether to measure the bytes of the cursor batches returned when registered as {@link CommandListener}.
+	 * The size of a batch is determined by encoding it again on the client, which doubles the encoding work for every
+	 * read of the client. Defaults to {@literal false}.
+	 *
+	 * @param measureReturnedBytes
+	 */
+	public void setMeasureReturnedBytes(boolean measureReturnedBytes) {
+		this.measureReturnedBytes = measureReturnedBytes;
+	}
+
+	/**
+	 * Returns the statistics for the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public CollectionCursorStatistics getStatistics(String collectionName) {
+
+		Assert.notNull(collectionName, "Collection name must not be null!");
+		return statistics.computeIfAbsent(collectionName, CollectionCursorStatistics::new);
+	}
+
+	/**
+	 * @return the statistics of all collections cursors were opened or {@code getMore} commands were issued for.
+	 */
+	public Map<String, CollectionCursorStatistics> getStatistics() {
+		return Collections.unmodifiableMap(statistics);
+	}
+
+	/**
+	 * @return the overall number of currently open cursors.
+	 */
+	public int getOpenCursorCount() {
+
+		expungeCollectedCursors();
+		return openCursors.size();
+	}
+
+	/**
+	 * Logs a warning for each open cursor exceeding the leak threshold that has not been reported before. Invoked
+	 * whenever a cursor is opened, at most once per second, but may be invoked periodically as well.
+	 *
+	 * @return the number of currently open cursors exceeding the leak threshold.
+	 */
+	public int checkForLeakedCursors() {
+
+		expungeCollectedCursors();
+
+		long now = System.nanoTime();
+		int leaked = 0;
+
+		for (CursorReference cursor : new ArrayList<>(openCursors)) {
+
+			long age = now - cursor.openedAt;
+
+			if (age < leakThresholdNanos) {
+				continue;
+			}
+
+			leaked++;
+
+			if (!cursor.reported) {
+
+				cursor.reported = true;
+				cursor.statistics.leaked.increment();
+
+				LOGGER.warn("Cursor on collection {} opened by thread {} has been open for {} ms after reading {} documents. "
+						+ "Make sure to close streams and iterators obtained from MongoTemplate.", cursor.statistics.collectionName,
+						cursor.threadName, TimeUnit.NANOSECONDS.toMillis(age), cursor.documents);
+			}
+		}
+
+		return leaked;
+	}
+
+	/**
+	 * Removes the cursors that were garbage collected without having been closed or exhausted, reporting those not
+	 * reported as leaked before.
+	 */
+	private void expungeCollectedCursors() {
+
+		Reference<? extends TrackedCursor> reference;
+
+		while ((reference = collectedCursors.poll()) != null) {
+
+			CursorReference cursor = (CursorReference) reference;
+
+			if (!openCursors.remove(cursor)) {
+				continue;
+			}
+
+			cursor.statistics.open.decrement();
+
+			if (!cursor.reported) {
+
+				cursor.reported = true;
+				cursor.statistics.leaked.increment();
+
+				LOGGER.warn("Cursor on collection {} opened by thread {} has been garbage collected without being closed after "
+						+ "reading {} documents. Make sure to close streams and iterators obtained from MongoTemplate.",
+						cursor.statistics.collectionName, cursor.threadName, cursor.documents);
+			}
+		}
+	}
+
+	/**
+	 * Decorates the given {@link MongoCursor} to be tracked until it is closed or exhausted.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param cursor must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	MongoCursor<Document> track(String collectionName, MongoCursor<Document> cursor) {
+
+		expungeCollectedCursors();
+
+		long now = System.nanoTime();
+		long lastCheck = lastLeakCheck.get();
+
+		if (now - lastCheck >= LEAK_CHECK_INTERVAL && lastLeakCheck.compareAndSet(lastCheck, now)) {
+			checkForLeakedCursors();
+		}
+
+		return new TrackedCursor(getStatistics(collectionName), cursor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.event.CommandListener#commandStarted(com.mongodb.event.CommandStartedEvent)
+	 */
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+
+		String commandName = event.getCommandName();
+
+		if (!measureReturnedBytes && !"getMore".equals(commandName)) {
+			return;
+		}
+
+		String collectionName = getCursorCollectionName(commandName, event.getCommand());
+
+		if (collectionName != null) {
+			pendingCursorCommands.put(event.getRequestId(), collectionName);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.event.CommandListener#commandSucceeded(com.mongodb.event.CommandSucceededEvent)
+	 */
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+
+		String collectionName = pendingCursorCommands.remove(event.getRequestId());
+
+		if (collectionName == null) {
+			return;
+		}
+
+		CollectionCursorStatistics collectionStatistics = getStatistics(collectionName);
+
+		if ("getMore".equals(event.getCommandName())) {
+			collectionStatistics.getMores.increment();
+		}
+
+		if (!measureReturnedBytes) {
+			return;
+		}
+
+		BsonValue cursor = event.getResponse() == null ? null : event.getResponse().get("cursor");
+
+		if (cursor != null && cursor.isDocument()) {
+			collectionStatistics.bytes.add(sizeOf(cursor.asDocument()));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.mongodb.event.CommandListener#commandFailed(com.mongodb.event.CommandFailedEvent)
+	 */
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+		pendingCursorCommands.remove(event.getRequestId());
+	}
+
+	private static String getCursorCollectionName(String commandName, BsonDocument command) {
+
+		if ("getMore".equals(commandName)) {
+			return command.isString("collection") ? command.getString("collection").getValue() : null;
+		}
+
+		if ("find".equals(commandName) || "aggregate".equals(commandName)) {
+			return command.isString(commandName) ? command.getString(commandName).getValue() : null;
+		}
+
+		return null;
+	}
+
+	private static int sizeOf(BsonDocument document) {
+
+		BasicOutputBuffer buffer = new BasicOutputBuffer();
+		new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+		return buffer.getSize();
+	}
+
+	/**
+	 * Cursor usage statistics of a single collection.
+	 */
+	public static class CollectionCursorStatistics {
+
+		private final String collectionName;
+		private final LongAdder opened = new LongAdder();
+		private final LongAdder open = new LongAdder();
+		private final LongAdder documents = new LongAdder();
+		private final LongAdder getMores = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+		private final LongAdder leaked = new LongAdder();
+		private final LongAdder lifetimeNanos = new LongAdder();
+		private final LongAdder finished = new LongAdder();
+		private final AtomicLong maxLifetimeNanos = new AtomicLong();
+
+		CollectionCursorStatistics(String collectionName) {
+			this.collectionName = collectionName;
+		}
+
+		/**
+		 * @return the collection name.
+		 */
+		public String getCollectionName() {
+			return collectionName;
+		}
+
+		/**
+		 * @return the number of cursors opened so far.
+		 */
+		public long getOpenedCursorCount() {
+			return opened.sum();
+		}
+
+		/**
+		 * @return the number of cursors currently open.
+		 */
+		public long getOpenCursorCount() {
+			return open.sum();
+		}
+
+		/**
+		 * @return the number of cursors reported as leaked, either because they exceeded the leak threshold or were
+		 *         garbage collected while still open.
+		 */
+		public long getLeakedCursorCount() {
+			return leaked.sum();
+		}
+
+		/**
+		 * @return the number of documents read from cursors.
+		 */
+		public long getDocumentCount() {
+			return documents.sum();
+		}
+
+		/**
+		 * @return the number of {@code getMore} round trips. Only available if registered as {@link CommandListener}.
+		 */
+		public long getGetMoreCount() {
+			return getMores.sum();
+		}
+
+		/**
+		 * @return the number of bytes of the cursor batches returned. Only available if registered as
+		 *         {@link CommandListener} with {@link CursorUsageTracker#setMeasureReturnedBytes(boolean)} enabled.
+		 */
+		public long getBytesReturned() {
+			return bytes.sum();
+		}
+
+		/**
+		 * @param unit must not be {@literal null}.
+		 * @return the average lifetime of closed or exhausted cursors.
+		 */
+		public long getAverageLifetime(TimeUnit unit) {
+
+			long count = finished.sum();
+			return count == 0 ? 0 : unit.convert(lifetimeNanos.sum() / count, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @param unit must not be {@literal null}.
+		 * @return the longest lifetime of closed or exhausted cursors.
+		 */
+		public long getMaxLifetime(TimeUnit unit) {
+			return unit.convert(maxLifetimeNanos.get(), TimeUnit.NANOSECONDS);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format(
+					"%s: open=%d, opened=%d, leaked=%d, documents=%d, getMores=%d, bytes=%d, avgLifetime=%dms, maxLifetime=%dms",
+					collectionName, getOpenCursorCount(), getOpenedCursorCount(), getLeakedCursorCount(), getDocumentCount(),
+					getGetMoreCount(), getBytesReturned(), getAverageLifetime(TimeUnit.MILLISECONDS),
+					getMaxLifetime(TimeUnit.MILLISECONDS));
+		}
+	}
+
+	/**
+	 * Weak reference to a {@link TrackedCursor} holding the state required to report it, so that leaked cursors don't
+	 * keep the driver cursor and its current batch reachable.
+	 */
+	private static class CursorReference extends WeakReference<TrackedCursor> {
+
+		private final CollectionCursorStatistics statistics;
+		private final long openedAt;
+		private final String threadName;
+
+		private volatile long documents;
+		private volatile boolean reported;
+
+		CursorReference(TrackedCursor cursor, CollectionCursorStatistics statistics, ReferenceQueue<TrackedCursor> queue) {
+
+			super(cursor, queue);
+
+			this.statistics = statistics;
+			this.openedAt = System.nanoTime();
+			this.threadName = Thread.currentThread().getName();
+		}
+	}
+
+	/**
+	 * {@link MongoCursor} recording its usage with the {@link CollectionCursorStatistics} of its collection.
+	 */
+	private class TrackedCursor implements MongoCursor<Document> {
+
+		private final CollectionCursorStatistics statistics;
+		private final MongoCursor<Document> delegate;
+		private final CursorReference reference;
+
+		private boolean finished;
+
+		TrackedCursor(CollectionCursorStatistics statistics, MongoCursor<Document> delegate) {
+
+			this.statistics = statistics;
+			this.delegate = delegate;
+			this.reference = new CursorReference(this, statistics, collectedCursors);
+
+			statistics.opened.increment();
+			statistics.open.increment();
+			openCursors.add(reference);
+		}
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			boolean hasNext = delegate.hasNext();
+
+			if (!hasNext) {
+				finish();
+			}
+
+			return hasNext;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Document next() {
+			return read(delegate.next());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.mongodb.client.MongoCursor#tryNext()
+		 */
+		@Override
+		public Document tryNext() {
+			return read(delegate.tryNext());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.mongodb.client.MongoCursor#getServerCursor()
+		 */
+		@Override
+		public ServerCursor getServerCursor() {
+			return delegate.getServerCursor();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.mongodb.client.MongoCursor#getServerAddress()
+		 */
+		@Override
+		public ServerAddress getServerAddress() {
+			return delegate.getServerAddress();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.mongodb.client.MongoCursor#close()
+		 */
+		@Override
+		public void close() {
+
+			try {
+				delegate.close();
+			} finally {
+				finish();
+			}
+		}
+
+		private Document read(Document document) {
+
+			if (document != null) {
+				reference.documents++;
+				statistics.documents.increment();
+			}
+
+			return document;
+		}
+
+		private synchronized void finish() {
+
+			if (finished) {
+				return;
+			}
+
+			finished = true;
+
+			if (!openCursors.remove(reference)) {
+				return;
+			}
+
+			long lifetime = System.nanoTime() - reference.openedAt;
+
+			statistics.open.decrement();
+			statistics.finished.increment();
+			statistics.lifetimeNanos.add(lifetime);
+			statistics.maxLifetimeNanos.accumulateAndGet(lifetime, Math::max);
+		}
+	}
+}
@@ -23,6 +23,10 @@ import com.mongodb.client.model.DeleteOptions;
 import org.bson.Document;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingBatchEvent;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.Pair;
@@ -56,11 +60,15 @@ class DefaultBulkOperations implements BulkOperations {
 	private PersistenceExceptionTranslator exceptionTranslator;
 	private WriteConcernResolver writeConcernResolver;
 	private WriteConcern defaultWriteConcern;
+	private EntityLifecycleEventDelegate eventDelegate;
 
 	private BulkWriteOptions bulkOptions;
 
 	List<WriteModel<Document>> models = new ArrayList<>();
 
+	private final List<Object> insertedEntities = new ArrayList<>();
+	private final List<Document> insertedDocuments = new ArrayList<>();
+
 	/**
 	 * Creates a new {@link DefaultBulkOperations} for the given {@link MongoOperations}, {@link BulkMode}, collection
 	 * name and {@link WriteConcern}.
@@ -115,6 +123,17 @@ class DefaultBulkOperations implements BulkOperations {
 		this.defaultWriteConcern = defaultWriteConcern;
 	}
 
+	/**
+	 * Configures the {@link EntityLifecycleEventDelegate} to publish {@link MongoMappingBatchEvent}s for entities
+	 * inserted via {@link #insert(List)}. Defaults to {@literal null} which does not publish any events.
+	 *
+	 * @param eventDelegate can be {@literal null}.
+	 * @since 2.0
+	 */
+	void setEventDelegate(EntityLifecycleEventDelegate eventDelegate) {
+		this.eventDelegate = eventDelegate;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.lang.Object)
@@ -146,10 +165,52 @@ class DefaultBulkOperations implements BulkOperations {
 
 		Assert.notNull(documents, "Documents must not be null!");
 
+		if (eventDelegate == null || !eventDelegate.isBatchEventsEnabled()) {
+
+			for (Object document : documents) {
+				insert(document);
+			}
+
+			return this;
+		}
+
+		List<Object> entities = new ArrayList<>(documents.size());
+
+		for (Object document : documents) {
+
+			Assert.notNull(document, "Document must not be null!");
+
+			if (!(document instanceof Document)) {
+				entities.add(document);
+			}
+		}
+
+		eventDelegate.publishBatchEvents(BeforeConvertBatchEvent.class, entities, null,
+				(batch, sinks, type) -> new BeforeConvertBatchEvent<>(batch, type, collectionName));
+
+		List<Document> sinks = new ArrayList<>(entities.size());
+
 		for (Object document : documents) {
-			insert(document);
+
+			if (document instanceof Document) {
+
+				models.add(new InsertOneModel<>((Document) document));
+				continue;
+			}
+
+			Document sink = new Document();
+			mongoOperations.getConverter().write(document, sink);
+
+			sinks.add(sink);
+			models.add(new InsertOneModel<>(sink));
 		}
 
+		eventDelegate.publishBatchEvents(BeforeSaveBatchEvent.class, entities, sinks,
+				(batch, batchSinks, type) -> new BeforeSaveBatchEvent<>(batch, batchSinks, type, collectionName));
+
+		insertedEntities.addAll(entities);
+		insertedDocuments.addAll(sinks);
+
 		return this;
 	}
 
@@ -282,7 +343,14 @@ class DefaultBulkOperations implements BulkOperations {
 				collection = collection.withWriteConcern(defaultWriteConcern);
 			}
 
-			return collection.bulkWrite(models, bulkOptions);
+			com.mongodb.bulk.BulkWriteResult result = collection.bulkWrite(models, bulkOptions);
+
+			if (eventDelegate != null) {
+				eventDelegate.publishBatchEvents(AfterSaveBatchEvent.class, insertedEntities, insertedDocuments,
+						(batch, sinks, type) -> new AfterSaveBatchEvent<>(batch, sinks, type, collectionName));
+			}
+
+			return result;
 
 		} catch (BulkWriteException o_O) {
 
@@ -290,7 +358,10 @@ class DefaultBulkOperations implements BulkOperations {
 			throw toThrow == null ? o_O : toThrow;
 
 		} finally {
+
 			this.bulkOptions = initBulkOperation();
+			this.insertedEntities.clear();
+			this.insertedDocuments.clear();
 		}
 	}
 
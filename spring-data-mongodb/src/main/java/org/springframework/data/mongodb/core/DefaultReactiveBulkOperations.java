@@ -0,0 +1,343 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+/**
+ * Default implementation for {@link ReactiveBulkOperations}.
+ *
+ * @since 2.0
+ */
+class DefaultReactiveBulkOperations implements ReactiveBulkOperations {
+
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+	private static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofSeconds(1);
+	private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+	private final ReactiveMongoOperations mongoOperations;
+	private final BulkMode bulkMode;
+	private final String collectionName;
+	private final MongoPersistentEntity<?> entity;
+	private final QueryMapper queryMapper;
+	private final UpdateMapper updateMapper;
+	private final List<Publisher<WriteModel<Document>>> models = new ArrayList<>();
+
+	private WriteConcern defaultWriteConcern;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private long batchBytes;
+	private Duration batchTimeout = DEFAULT_BATCH_TIMEOUT;
+
+	/**
+	 * Creates a new {@link DefaultReactiveBulkOperations} for the given {@link ReactiveMongoOperations},
+	 * {@link BulkMode}, collection name and entity type.
+	 *
+	 * @param mongoOperations the underlying {@link ReactiveMongoOperations}, must not be {@literal null}.
+	 * @param bulkMode must not be {@literal null}.
+	 * @param collectionName name of the collection to work on, must not be {@literal null} or empty.
+	 * @param entityType the entity type, can be {@literal null}.
+	 */
+	DefaultReactiveBulkOperations(ReactiveMongoOperations mongoOperations, BulkMode bulkMode, String collectionName,
+			Class<?> entityType) {
+
+		Assert.notNull(mongoOperations, "ReactiveMongoOperations must not be null!");
+		Assert.notNull(bulkMode, "BulkMode must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.mongoOperations = mongoOperations;
+		this.bulkMode = bulkMode;
+		this.collectionName = collectionName;
+		this.entity = entityType == null ? null
+				: mongoOperations.getConverter().getMappingContext().getPersistentEntity(entityType).orElse(null);
+		this.queryMapper = new QueryMapper(mongoOperations.getConverter());
+		this.updateMapper = new UpdateMapper(mongoOperations.getConverter());
+	}
+
+	/**
+	 * Configures the default {@link WriteConcern} to be used. Defaults to {@literal null}.
+	 *
+	 * @param defaultWriteConcern can be {@literal null}.
+	 */
+	public void setDefaultWriteConcern(WriteConcern defaultWriteConcern) {
+		this.defaultWriteConcern = defaultWriteConcern;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#insert(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public ReactiveBulkOperations insert(Publisher<? extends Object> documents) {
+
+		Assert.notNull(documents, "Documents must not be null!");
+
+		models.add(Flux.from(documents).map(this::toInsertModel));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateOne(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public ReactiveBulkOperations updateOne(Publisher<Pair<Query, Update>> updates) {
+		return update(updates, false, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#updateMulti(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public ReactiveBulkOperations updateMulti(Publisher<Pair<Query, Update>> updates) {
+		return update(updates, false, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#upsert(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public ReactiveBulkOperations upsert(Publisher<Pair<Query, Update>> upserts) {
+		return update(upserts, true, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#remove(org.reactivestreams.Publisher)
+	 */
+	@Override
+	public ReactiveBulkOperations remove(Publisher<Query> removes) {
+
+		Assert.notNull(removes, "Removals must not be null!");
+
+		models.add(Flux.from(removes).map(this::toDeleteModel));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#batchSize(int)
+	 */
+	@Override
+	public ReactiveBulkOperations batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#batchBytes(long)
+	 */
+	@Override
+	public ReactiveBulkOperations batchBytes(long batchBytes) {
+
+		Assert.isTrue(batchBytes >= 0, "Batch bytes must not be negative!");
+
+		this.batchBytes = batchBytes;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#batchTimeout(java.time.Duration)
+	 */
+	@Override
+	public ReactiveBulkOperations batchTimeout(Duration batchTimeout) {
+
+		Assert.notNull(batchTimeout, "Batch timeout must not be null!");
+		Assert.isTrue(!batchTimeout.isNegative() && !batchTimeout.isZero(), "Batch timeout must be positive!");
+
+		this.batchTimeout = batchTimeout;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveBulkOperations#execute()
+	 */
+	@Override
+	public Flux<BulkWriteResult> execute() {
+
+		List<Publisher<WriteModel<Document>>> sources = new ArrayList<>(models);
+		BulkWriteOptions options = new BulkWriteOptions().ordered(bulkMode == BulkMode.ORDERED);
+
+		Flux<WriteModel<Document>> writes = bulkMode == BulkMode.ORDERED ? Flux.concat(sources) : Flux.merge(sources);
+
+		Flux<List<WriteModel<Document>>> batches = writes //
+				.windowTimeout(batchSize, batchTimeout) //
+				.concatMap(window -> batchBytes > 0 ? splitByBytes(window) : window.collectList()) //
+				.filter(batch -> !batch.isEmpty());
+
+		if (bulkMode == BulkMode.ORDERED) {
+			return batches.concatMap(batch -> write(batch, options));
+		}
+
+		return batches.flatMap(batch -> write(batch, options));
+	}
+
+	private Flux<BulkWriteResult> write(List<WriteModel<Document>> batch, BulkWriteOptions options) {
+
+		return mongoOperations.execute(collectionName, collection -> {
+
+			MongoCollection<Document> collectionToUse = defaultWriteConcern != null
+					? collection.withWriteConcern(defaultWriteConcern) : collection;
+
+			return collectionToUse.bulkWrite(batch, options);
+		});
+	}
+
+	/**
+	 * Splits the given window of write operations into batches whose approximate BSON size does not exceed the
+	 * configured {@link #batchBytes(long) batch bytes}.
+	 *
+	 * @param window must not be {@literal null}.
+	 * @return
+	 */
+	private Flux<List<WriteModel<Document>>> splitByBytes(Flux<WriteModel<Document>> window) {
+
+		return Flux.defer(() -> {
+
+			long[] pending = new long[1];
+
+			return window.bufferUntil(model -> {
+
+				long size = sizeOf(model);
+
+				if (pending[0] > 0 && pending[0] + size > batchBytes) {
+					pending[0] = size;
+					return true;
+				}
+
+				pending[0] += size;
+				return false;
+			}, true);
+		});
+	}
+
+	private WriteModel<Document> toInsertModel(Object document) {
+
+		if (document instanceof Document) {
+			return new InsertOneModel<>((Document) document);
+		}
+
+		Document sink = new Document();
+		mongoOperations.getConverter().write(document, sink);
+
+		return new InsertOneModel<>(sink);
+	}
+
+	private WriteModel<Document> toDeleteModel(Query query) {
+
+		DeleteOptions deleteOptions = new DeleteOptions();
+		query.getCollation().map(Collation::toMongoCollation).ifPresent(deleteOptions::collation);
+
+		return new DeleteManyModel<>(queryMapper.getMappedObject(query.getQueryObject(), entity), deleteOptions);
+	}
+
+	private ReactiveBulkOperations update(Publisher<Pair<Query, Update>> updates, boolean upsert, boolean multi) {
+
+		Assert.notNull(updates, "Updates must not be null!");
+
+		models.add(Flux.from(updates).map(update -> toUpdateModel(update.getFirst(), update.getSecond(), upsert, multi)));
+		return this;
+	}
+
+	private WriteModel<Document> toUpdateModel(Query query, Update update, boolean upsert, boolean multi) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		UpdateOptions options = new UpdateOptions();
+		options.upsert(upsert);
+		query.getCollation().map(Collation::toMongoCollation).ifPresent(options::collation);
+
+		Document mappedQuery = queryMapper.getMappedObject(query.getQueryObject(), entity);
+		Document mappedUpdate = updateMapper.getMappedObject(update.getUpdateObject(), entity);
+
+		if (multi) {
+			return new UpdateManyModel<>(mappedQuery, mappedUpdate, options);
+		}
+
+		return new UpdateOneModel<>(mappedQuery, mappedUpdate, options);
+	}
+
+	/**
+	 * Returns the approximate BSON size of the given {@link WriteModel}.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @return
+	 */
+	private static long sizeOf(WriteModel<Document> model) {
+
+		if (model instanceof InsertOneModel) {
+			return documentSize(((InsertOneModel<?>) model).getDocument());
+		}
+
+		if (model instanceof UpdateOneModel) {
+			UpdateOneModel<?> update = (UpdateOneModel<?>) model;
+			return documentSize(update.getFilter()) + documentSize(update.getUpdate());
+		}
+
+		if (model instanceof UpdateManyModel) {
+			UpdateManyModel<?> update = (UpdateManyModel<?>) model;
+			return documentSize(update.getFilter()) + documentSize(update.getUpdate());
+		}
+
+		if (model instanceof DeleteManyModel) {
+			return documentSize(((DeleteManyModel<?>) model).getFilter());
+		}
+
+		return 0;
+	}
+
+	private static long documentSize(Object source) {
+		return source instanceof Document
+				? new RawBsonDocument((Document) source, DOCUMENT_CODEC).getByteBuffer().remaining() : 0;
+	}
+}
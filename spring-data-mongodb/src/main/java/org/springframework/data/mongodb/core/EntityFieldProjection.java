@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.convert.MongoTypeMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Derives a field projection from a {@link MongoPersistentEntity} so that reads into a type mapping only a subset of
+ * the stored document only fetch the fields the type is actually able to hold. The resulting {@link Document} refers
+ * to property names and thus still needs to be mapped against the entity. The type key is always included so that
+ * documents of subtypes are still read as such.
+ *
+ * @since 2.0
+ */
+final class EntityFieldProjection {
+
+	private EntityFieldProjection() {}
+
+	/**
+	 * Returns the given fields if present or derives a projection including all properties of the given entity
+	 * otherwise.
+	 *
+	 * @param fields can be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param typeMapper must not be {@literal null}.
+	 * @return the given fields or the derived projection, can be {@literal null} if neither the fields are present nor
+	 *         a projection could be derived.
+	 */
+	static Document deriveIfAbsent(Document fields, Optional<? extends MongoPersistentEntity<?>> entity,
+			MongoTypeMapper typeMapper) {
+
+		if (fields != null && !fields.isEmpty()) {
+			return fields;
+		}
+
+		return entity.map(it -> derive(it, typeMapper)).filter(it -> !it.isEmpty()).orElse(fields);
+	}
+
+	/**
+	 * Derives a projection including all properties and associations of the given {@link MongoPersistentEntity} as well
+	 * as the type key written by the given {@link MongoTypeMapper}. The text score property is left to the query mapper
+	 * which adds it to any projection anyway. Entities backed by {@link Map}s or {@link Collection}s result in an empty
+	 * projection as they can hold arbitrary fields.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param typeMapper must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static Document derive(MongoPersistentEntity<?> entity, MongoTypeMapper typeMapper) {
+
+		Document projection = new Document();
+
+		if (Map.class.isAssignableFrom(entity.getType()) || Collection.class.isAssignableFrom(entity.getType())) {
+			return projection;
+		}
+
+		entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+
+			if (!property.isTextScoreProperty()) {
+				projection.put(property.getName(), 1);
+			}
+		});
+
+		entity.doWithAssociations((AssociationHandler<MongoPersistentProperty>) association -> {
+			projection.put(association.getInverse().getName(), 1);
+		});
+
+		Document typeInformation = new Document();
+		typeMapper.writeType(entity.getTypeInformation(), typeInformation);
+
+		for (String typeKey : typeInformation.keySet()) {
+			projection.put(typeKey, 1);
+		}
+
+		return projection;
+	}
+}
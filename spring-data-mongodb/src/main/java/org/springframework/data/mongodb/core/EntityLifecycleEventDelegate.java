@@ -0,0 +1,375 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Decides whether a {@link MongoMappingEvent} needs to be created and published at all. Looking up and invoking
+ * listeners for every document read or written is expensive, so the templates ask this delegate upfront and skip
+ * creating events nobody listens to. Whether a listener is interested in a given event and domain type is resolved
+ * once per combination and cached until the {@link ApplicationContext} is refreshed or further listeners are added.
+ * Until the first refresh, and for {@link ApplicationEventPublisher}s whose listeners cannot be inspected, events are
+ * always published.
+ *
+ * @since 2.0
+ */
+class EntityLifecycleEventDelegate {
+
+	private final Map<EventKey, Boolean> listenerCache = new ConcurrentHashMap<>();
+
+	private volatile ApplicationEventPublisher publisher;
+	private volatile boolean inspectable;
+	private volatile boolean eventsEnabled = true;
+	private volatile boolean batchEventsEnabled;
+	private volatile int listenerCount = -1;
+
+	/**
+	 * Sets the {@link ApplicationEventPublisher} to publish events to.
+	 *
+	 * @param publisher can be {@literal null}.
+	 */
+	void setPublisher(ApplicationEventPublisher publisher) {
+
+		this.publisher = publisher;
+		this.inspectable = false;
+		this.listenerCache.clear();
+
+		if (publisher instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) publisher).addApplicationListener(new RefreshListener(this, publisher));
+		}
+	}
+
+	/**
+	 * @param eventsEnabled {@literal false} to not publish any {@link MongoMappingEvent}s.
+	 */
+	void setEventsEnabled(boolean eventsEnabled) {
+		this.eventsEnabled = eventsEnabled;
+	}
+
+	/**
+	 * @return whether {@link MongoMappingEvent}s are published at all.
+	 */
+	boolean isEventsEnabled() {
+		return eventsEnabled;
+	}
+
+	/**
+	 * @param batchEventsEnabled {@literal true} to publish {@link MongoMappingBatchEvent}s for bulk reads and writes
+	 *          instead of one event per element.
+	 */
+	void setBatchEventsEnabled(boolean batchEventsEnabled) {
+		this.batchEventsEnabled = batchEventsEnabled;
+	}
+
+	/**
+	 * @return whether {@link MongoMappingBatchEvent}s are published for bulk reads and writes.
+	 */
+	boolean isBatchEventsEnabled() {
+		return eventsEnabled && batchEventsEnabled;
+	}
+
+	/**
+	 * Returns whether an event of the given type for the given domain type would reach any listener.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType the domain type the event is published for, can be {@literal null}.
+	 * @return
+	 */
+	boolean isEventRequired(Class<?> eventType, Class<?> domainType) {
+
+		ApplicationEventPublisher publisher = this.publisher;
+
+		if (!eventsEnabled || publisher == null) {
+			return false;
+		}
+
+		if (publisher instanceof MongoMappingEventPublisher) {
+			return false;
+		}
+
+		if (!inspectable) {
+			return true;
+		}
+
+		ApplicationContext context = (ApplicationContext) publisher;
+		int currentListenerCount = countListeners(context);
+
+		// listeners added after refresh invalidate the cached lookups
+		if (currentListenerCount != listenerCount) {
+			listenerCache.clear();
+			listenerCount = currentListenerCount;
+		}
+
+		EventKey key = new EventKey(eventType, domainType);
+		Boolean required = listenerCache.get(key);
+
+		if (required == null) {
+			required = hasListener(context, eventType, domainType);
+			listenerCache.put(key, required);
+		}
+
+		return required;
+	}
+
+	/**
+	 * Publishes the given event if events are enabled.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	void publishEvent(MongoMappingEvent<?> event) {
+
+		ApplicationEventPublisher publisher = this.publisher;
+
+		if (eventsEnabled && publisher != null) {
+			publisher.publishEvent(event);
+		}
+	}
+
+	/**
+	 * Publishes {@link MongoMappingBatchEvent}s for the given elements. Elements are grouped by their type so that each
+	 * published event only carries elements of a single type, preserving the order of elements within a type.
+	 *
+	 * @param eventType the type of the batch events to publish, must not be {@literal null}.
+	 * @param elements must not be {@literal null}.
+	 * @param documents the {@link Document}s matching the given elements, can be {@literal null}.
+	 * @param factory creates the event for a group of elements, must not be {@literal null}.
+	 */
+	<T> void publishBatchEvents(Class<?> eventType, List<T> elements, List<Document> documents,
+			BatchEventFactory<T> factory) {
+
+		if (elements.isEmpty()) {
+			return;
+		}
+
+		Map<Class<?>, List<T>> elementsByType = new LinkedHashMap<>();
+		Map<Class<?>, List<Document>> documentsByType = new LinkedHashMap<>();
+
+		for (int i = 0; i < elements.size(); i++) {
+
+			T element = elements.get(i);
+			Class<?> type = element.getClass();
+
+			elementsByType.computeIfAbsent(type, key -> new ArrayList<>()).add(element);
+
+			if (documents != null) {
+				documentsByType.computeIfAbsent(type, key -> new ArrayList<>()).add(documents.get(i));
+			}
+		}
+
+		for (Entry<Class<?>, List<T>> entry : elementsByType.entrySet()) {
+
+			if (isEventRequired(eventType, entry.getKey())) {
+				publishEvent(factory.create(entry.getValue(), documentsByType.get(entry.getKey()), entry.getKey()));
+			}
+		}
+	}
+
+	private void refreshed(ApplicationEventPublisher context) {
+
+		if (this.publisher == context) {
+			this.listenerCache.clear();
+			this.listenerCount = -1;
+			this.inspectable = isInspectable((ApplicationContext) context);
+		}
+	}
+
+	private static boolean isInspectable(ApplicationContext context) {
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+			if (!(current instanceof AbstractApplicationContext)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int countListeners(ApplicationContext context) {
+
+		int count = 0;
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+			count += ((AbstractApplicationContext) current).getApplicationListeners().size();
+		}
+
+		return count;
+	}
+
+	private static boolean hasListener(ApplicationContext context, Class<?> eventType, Class<?> domainType) {
+
+		ResolvableType resolvableEventType = ResolvableType.forClass(eventType);
+		Class<?> sourceType = AfterLoadEvent.class.isAssignableFrom(eventType)
+				|| AbstractDeleteEvent.class.isAssignableFrom(eventType) ? Document.class : domainType;
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			AbstractApplicationContext candidate = (AbstractApplicationContext) current;
+
+			for (ApplicationListener<?> listener : candidate.getApplicationListeners()) {
+				if (supports(listener, resolvableEventType, sourceType, domainType)) {
+					return true;
+				}
+			}
+
+			for (String beanName : candidate.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+				// do not create instances of non-singleton listeners just to inspect them
+				if (!candidate.isSingleton(beanName)) {
+					return true;
+				}
+
+				if (supports(candidate.getBean(beanName, ApplicationListener.class), resolvableEventType, sourceType,
+						domainType)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean supports(ApplicationListener<?> listener, ResolvableType eventType, Class<?> sourceType,
+			Class<?> domainType) {
+
+		if (listener instanceof RefreshListener) {
+			return false;
+		}
+
+		if (listener instanceof AbstractMongoEventListener) {
+
+			Class<?> listenerDomainType = GenericTypeResolver.resolveTypeArgument(listener.getClass(),
+					AbstractMongoEventListener.class);
+
+			return domainType != null
+					&& (listenerDomainType == null || listenerDomainType.isAssignableFrom(domainType));
+		}
+
+		GenericApplicationListener adapter = listener instanceof GenericApplicationListener
+				? (GenericApplicationListener) listener : new GenericApplicationListenerAdapter(listener);
+
+		return adapter.supportsEventType(eventType) && adapter.supportsSourceType(sourceType);
+	}
+
+	/**
+	 * Creates a {@link MongoMappingBatchEvent} for a group of elements of the same type.
+	 */
+	interface BatchEventFactory<T> {
+
+		/**
+		 * @param elements will never be {@literal null}.
+		 * @param documents the {@link Document}s matching the elements, can be {@literal null}.
+		 * @param type the type of the elements, will never be {@literal null}.
+		 * @return the event to publish.
+		 */
+		MongoMappingBatchEvent<T> create(List<T> elements, List<Document> documents, Class<?> type);
+	}
+
+	/**
+	 * Clears the cached listener lookups once the {@link ApplicationContext} has been refreshed, i.e. all listeners
+	 * have been registered.
+	 */
+	private static class RefreshListener implements ApplicationListener<ContextRefreshedEvent> {
+
+		private final EntityLifecycleEventDelegate delegate;
+		private final ApplicationEventPublisher context;
+
+		RefreshListener(EntityLifecycleEventDelegate delegate, ApplicationEventPublisher context) {
+
+			this.delegate = delegate;
+			this.context = context;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+
+			if (event.getApplicationContext() == context) {
+				delegate.refreshed(context);
+			}
+		}
+	}
+
+	/**
+	 * Cache key of event and domain type.
+	 */
+	private static class EventKey {
+
+		private final Class<?> eventType;
+		private final Class<?> domainType;
+
+		EventKey(Class<?> eventType, Class<?> domainType) {
+
+			this.eventType = eventType;
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof EventKey)) {
+				return false;
+			}
+
+			EventKey that = (EventKey) obj;
+			return eventType == that.eventType && domainType == that.domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * eventType.hashCode() + ObjectUtils.nullSafeHashCode(domainType);
+		}
+	}
+}
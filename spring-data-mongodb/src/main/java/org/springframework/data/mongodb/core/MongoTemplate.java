@@ -20,6 +20,7 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 import static org.springframework.data.util.Optionals.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
@@ -76,13 +77,20 @@ import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingBatchEvent;
 import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
@@ -154,6 +162,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final String ID_FIELD = "_id";
+	private static final Duration DEFAULT_SLOW_OPERATION_THRESHOLD = Duration.ofMillis(100);
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
 	private static final Collection<String> ITERABLE_CLASSES;
 
@@ -179,6 +188,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private ReadPreference readPreference;
 	private ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
+	private OperationMetricsRecorder operationMetricsRecorder;
+	private OperationMetricsRecorder slowOperationRecorder;
+	private Duration slowOperationThreshold = DEFAULT_SLOW_OPERATION_THRESHOLD;
+	private CursorUsageTracker cursorUsageTracker;
+	private boolean deriveFieldProjections;
 	private ResourceLoader resourceLoader;
 	private MongoPersistentEntityIndexCreator indexCreator;
 
@@ -223,6 +238,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		if (null != mappingContext && mappingContext instanceof MongoMappingContext) {
 			indexCreator = new MongoPersistentEntityIndexCreator((MongoMappingContext) mappingContext, this);
 			eventPublisher = new MongoMappingEventPublisher(indexCreator);
+			eventDelegate.setPublisher(eventPublisher);
 			if (mappingContext instanceof ApplicationEventPublisherAware) {
 				((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 			}
@@ -269,6 +285,102 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures whether lifecycle events such as {@link AfterLoadEvent}, {@link BeforeSaveEvent} etc. should be
+	 * published. Events are only created if a listener for the event and domain type is registered. Defaults to
+	 * {@literal true}.
+	 *
+	 * @param enabled {@literal false} to disable lifecycle events entirely.
+	 * @since 2.0
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setEventsEnabled(enabled);
+	}
+
+	/**
+	 * Configures whether bulk reads and writes, i.e. batch inserts, queries returning a {@link List} and
+	 * {@link BulkOperations}, publish a single {@link MongoMappingBatchEvent} per lifecycle phase and domain type, e.g.
+	 * {@link BeforeSaveBatchEvent}, instead of one event per element. {@link AbstractMongoEventListener}s receive the
+	 * batch through their batch callbacks which invoke the per-element callbacks unless overridden. Plain
+	 * {@link org.springframework.context.ApplicationListener}s for per-element events are not invoked for batches.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param enabled {@literal true} to publish batch events.
+	 * @since 2.0
+	 */
+	public void setBatchLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setBatchEventsEnabled(enabled);
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report the timings of {@code find}, {@code findOne},
+	 * {@code insert}, {@code aggregate} and {@code findAndModify} operations to. Each {@link OperationSample} splits the
+	 * time spent into query mapping, driver execution and entity conversion. Defaults to {@literal null} which does not
+	 * measure operations at all.
+	 *
+	 * @param operationMetricsRecorder can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setOperationMetricsRecorder(OperationMetricsRecorder operationMetricsRecorder) {
+		this.operationMetricsRecorder = operationMetricsRecorder;
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report operations taking at least the
+	 * {@link #setSlowOperationThreshold(Duration) slow operation threshold} to. Samples handed to it expose the
+	 * {@link OperationSample#getQueryShape() shape} of the query the operation was executed with, which is only derived
+	 * on demand. Defaults to {@literal null} which does not detect slow operations at all.
+	 *
+	 * @param slowOperationRecorder can be {@literal null}.
+	 * @since 2.0
+	 * @see org.springframework.data.mongodb.monitor.SlowOperationLog
+	 */
+	public void setSlowOperationRecorder(OperationMetricsRecorder slowOperationRecorder) {
+		this.slowOperationRecorder = slowOperationRecorder;
+	}
+
+	/**
+	 * Configures the minimum time an operation has to take to be reported to the
+	 * {@link #setSlowOperationRecorder(OperationMetricsRecorder) slow operation recorder}. Defaults to
+	 * {@literal 100 ms}.
+	 *
+	 * @param slowOperationThreshold must not be {@literal null} or negative.
+	 * @since 2.0
+	 */
+	public void setSlowOperationThreshold(Duration slowOperationThreshold) {
+
+		Assert.notNull(slowOperationThreshold, "Slow operation threshold must not be null!");
+		Assert.isTrue(!slowOperationThreshold.isNegative(), "Slow operation threshold must not be negative!");
+
+		this.slowOperationThreshold = slowOperationThreshold;
+	}
+
+	/**
+	 * Configures the {@link CursorUsageTracker} to track the cursors opened for queries, {@code stream} and
+	 * {@code aggregateStream} with. Defaults to {@literal null} which does not track cursors at all.
+	 *
+	 * @param cursorUsageTracker can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setCursorUsageTracker(CursorUsageTracker cursorUsageTracker) {
+		this.cursorUsageTracker = cursorUsageTracker;
+	}
+
+	/**
+	 * Configures whether to derive a field projection from the mapped properties of the entity type when reading
+	 * documents via {@code find(…)} or {@code findOne(…)} with a {@link Query} not defining any fields. Enabling this
+	 * avoids transferring and decoding fields of the stored documents the requested type is not able to hold, e.g.
+	 * when reading into a type mapping only a few fields of a collection. The type key is always fetched so documents
+	 * of subtypes are still read as such, though only with the fields mapped by the requested type. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param deriveFieldProjections
+	 * @since 2.0
+	 */
+	public void setDeriveFieldProjections(boolean deriveFieldProjections) {
+		this.deriveFieldProjections = deriveFieldProjections;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -278,6 +390,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		prepareIndexCreator(applicationContext);
 
 		eventPublisher = applicationContext;
+		eventDelegate.setPublisher(eventPublisher);
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
@@ -352,8 +465,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				FindIterable<Document> cursor = new QueryCursorPreparer(query, entityType)
 						.prepare(collection.find(mappedQuery).projection(mappedFields));
 
-				return new CloseableIterableCursorAdapter<T>(cursor, exceptionTranslator,
-						new ReadDocumentCallback<T>(mongoConverter, entityType, collectionName));
+				return new CloseableIterableCursorAdapter<T>(trackCursor(collectionName, cursor.iterator()),
+						exceptionTranslator, new ReadDocumentCallback<T>(mongoConverter, entityType, collectionName));
 			}
 		});
 	}
@@ -545,6 +658,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		operations.setWriteConcernResolver(writeConcernResolver);
 		operations.setDefaultWriteConcern(writeConcern);
 
+		if (eventDelegate.isBatchEventsEnabled()) {
+			operations.setEventDelegate(eventDelegate);
+		}
+
 		return operations;
 	}
 
@@ -828,17 +945,38 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> void doInsert(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
-		initializeVersionProperty(objectToSave);
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
-		assertUpdateableIdIfNotSet(objectToSave);
+		OperationTimer timer = startTimer(OperationTimer.INSERT, collectionName);
 
-		Document dbDoc = toDocument(objectToSave, writer);
+		try {
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
-		Object id = insertDocument(collectionName, dbDoc, objectToSave.getClass());
+			initializeVersionProperty(objectToSave);
+			if (isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			}
+			assertUpdateableIdIfNotSet(objectToSave);
 
-		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			long mark = timer.mark();
+			Document dbDoc = toDocument(objectToSave, writer);
+			timer.converted(mark);
+
+			if (isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			}
+			Object id = insertDocument(collectionName, dbDoc, objectToSave.getClass());
+
+			populateIdIfNecessary(objectToSave, id);
+			if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			}
+
+			timer.documents(1);
+
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -926,15 +1064,44 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		Assert.notNull(writer, "MongoWriter must not be null!");
 
+		OperationTimer timer = startTimer(OperationTimer.INSERT, collectionName);
+
+		try {
+
+			if (eventDelegate.isBatchEventsEnabled()) {
+				doInsertBatchWithBatchEvents(collectionName, batchToSave, writer, timer);
+			} else {
+				doInsertBatchWithElementEvents(collectionName, batchToSave, writer, timer);
+			}
+
+			timer.documents(batchToSave.size());
+
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
+	}
+
+	private <T> void doInsertBatchWithElementEvents(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<T> writer, OperationTimer timer) {
+
 		List<Document> documentList = new ArrayList<Document>();
 		for (T o : batchToSave) {
 
 			initializeVersionProperty(o);
-			maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+			if (isEventRequired(BeforeConvertEvent.class, o.getClass())) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+			}
 
+			long mark = timer.mark();
 			Document document = toDocument(o, writer);
+			timer.converted(mark);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(o, document, collectionName));
+			if (isEventRequired(BeforeSaveEvent.class, o.getClass())) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(o, document, collectionName));
+			}
 			documentList.add(document);
 		}
 
@@ -944,12 +1111,50 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		for (T obj : batchToSave) {
 			if (i < ids.size()) {
 				populateIdIfNecessary(obj, ids.get(i));
-				maybeEmitEvent(new AfterSaveEvent<T>(obj, documentList.get(i), collectionName));
+				if (isEventRequired(AfterSaveEvent.class, obj.getClass())) {
+					maybeEmitEvent(new AfterSaveEvent<T>(obj, documentList.get(i), collectionName));
+				}
 			}
 			i++;
 		}
 	}
 
+	private <T> void doInsertBatchWithBatchEvents(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<T> writer, OperationTimer timer) {
+
+		List<T> elements = new ArrayList<T>(batchToSave);
+
+		for (T element : elements) {
+			initializeVersionProperty(element);
+		}
+
+		eventDelegate.publishBatchEvents(BeforeConvertBatchEvent.class, elements, null,
+				(batch, documents, type) -> new BeforeConvertBatchEvent<T>(batch, type, collectionName));
+
+		List<Document> documentList = new ArrayList<Document>(elements.size());
+		long mark = timer.mark();
+
+		for (T element : elements) {
+			documentList.add(toDocument(element, writer));
+		}
+
+		timer.converted(mark);
+
+		eventDelegate.publishBatchEvents(BeforeSaveBatchEvent.class, elements, documentList,
+				(batch, documents, type) -> new BeforeSaveBatchEvent<T>(batch, documents, type, collectionName));
+
+		List<Object> ids = consolidateIdentifiers(insertDocumentList(collectionName, documentList), documentList);
+		int saved = Math.min(ids.size(), elements.size());
+
+		for (int i = 0; i < saved; i++) {
+			populateIdIfNecessary(elements.get(i), ids.get(i));
+		}
+
+		eventDelegate.publishBatchEvents(AfterSaveBatchEvent.class, elements.subList(0, saved),
+				documentList.subList(0, saved),
+				(batch, documents, type) -> new AfterSaveBatchEvent<T>(batch, documents, type, collectionName));
+	}
+
 	public void save(Object objectToSave) {
 
 		Assert.notNull(objectToSave, "Object to save must not be null!");
@@ -982,14 +1187,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			// Bump version number
 			convertingAccessor.setProperty(property, Optional.of(number.longValue() + 1));
 
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			if (isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			}
 			assertUpdateableIdIfNotSet(objectToSave);
 
 			Document document = new Document();
 
 			this.mongoConverter.write(objectToSave, document);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			if (isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			}
 			Update update = Update.fromDocument(document, ID_FIELD);
 
 			// Create query for entity with the id and old version
@@ -1004,7 +1213,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 						String.format("Cannot save entity %s with version %s to collection %s. Has it been modified meanwhile?", id,
 								versionNumber, collectionName));
 			}
-			maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+			if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+			}
 
 			return objectToSave;
 
@@ -1016,16 +1227,22 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 	protected <T> T doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
 
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+		if (isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+		}
 		assertUpdateableIdIfNotSet(objectToSave);
 
 		Document dbDoc = toDocument(objectToSave, writer);
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		if (isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		}
 		Object id = saveDocument(collectionName, dbDoc, objectToSave.getClass());
 
 		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+			maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+		}
 
 		return objectToSave;
 	}
@@ -1361,7 +1578,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			public DeleteResult doInCollection(MongoCollection<Document> collection)
 					throws MongoException, DataAccessException {
 
-				maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+				if (isEventRequired(BeforeDeleteEvent.class, entityClass)) {
+					maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+				}
 
 				Document mappedQuery = queryMapper.getMappedObject(queryObject, entity);
 
@@ -1386,7 +1605,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					dr = collection.withWriteConcern(writeConcernToUse).deleteMany(mappedQuery, options);
 				}
 
-				maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
+				if (isEventRequired(AfterDeleteEvent.class, entityClass)) {
+					maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
+				}
 
 				return dr;
 			}
@@ -1680,17 +1901,35 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 		Assert.notNull(aggregation, "Aggregation pipeline must not be null!");
 		Assert.notNull(outputType, "Output type must not be null!");
 
-		AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
-		Document command = aggregation.toDocument(collectionName, rootContext);
+		OperationTimer timer = startTimer(OperationTimer.AGGREGATE, collectionName);
 
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("Executing aggregation: {}", serializeToJsonSafely(command));
-		}
+		try {
 
-		Document commandResult = executeCommand(command, this.readPreference);
+			long mark = timer.mark();
+			AggregationOperationContext rootContext = context == null ? Aggregation.DEFAULT_CONTEXT : context;
+			Document command = aggregation.toDocument(collectionName, rootContext);
+			timer.queryMapped(mark);
+			timer.query(command);
 
-		return new AggregationResults<O>(returnPotentiallyMappedResults(outputType, commandResult, collectionName),
-				commandResult);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Executing aggregation: {}", serializeToJsonSafely(command));
+			}
+
+			Document commandResult = executeCommand(command, this.readPreference);
+
+			mark = timer.mark();
+			List<O> results = returnPotentiallyMappedResults(outputType, commandResult, collectionName);
+			timer.converted(mark);
+			timer.documents(results.size());
+
+			return new AggregationResults<O>(results, commandResult);
+
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -1760,7 +1999,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					cursor = cursor.collation(options.getCollation().map(Collation::toMongoCollation).get());
 				}
 
-				return new CloseableIterableCursorAdapter<O>(cursor.iterator(), exceptionTranslator, readCallback);
+				return new CloseableIterableCursorAdapter<O>(trackCursor(collectionName, cursor.iterator()),
+						exceptionTranslator, readCallback);
 			}
 		});
 	}
@@ -1825,9 +2065,28 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	}
 
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
-		if (null != eventPublisher) {
-			eventPublisher.publishEvent(event);
-		}
+		eventDelegate.publishEvent(event);
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type would reach any listener.
+	 * Used to avoid creating events nobody listens to.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean isEventRequired(Class<?> eventType, Class<?> domainType) {
+		return eventDelegate.isEventRequired(eventType, domainType);
+	}
+
+	private MongoCursor<Document> trackCursor(String collectionName, MongoCursor<Document> cursor) {
+		return cursorUsageTracker == null ? cursor : cursorUsageTracker.track(collectionName, cursor);
+	}
+
+	private OperationTimer startTimer(String operation, String collectionName) {
+		return OperationTimer.start(operationMetricsRecorder, slowOperationRecorder, slowOperationThreshold.toNanos(),
+				operation, collectionName);
 	}
 
 	/**
@@ -1883,17 +2142,34 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	 */
 	protected <T> T doFindOne(String collectionName, Document query, Document fields, Class<T> entityClass) {
 
-		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
-		Document mappedQuery = queryMapper.getMappedObject(query, entity);
-		Document mappedFields = fields == null ? null : queryMapper.getMappedObject(fields, entity);
+		OperationTimer timer = startTimer(OperationTimer.FIND_ONE, collectionName);
 
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("findOne using query: {} fields: {} for class: {} in collection: {}", serializeToJsonSafely(query),
-					mappedFields, entityClass, collectionName);
-		}
+		try {
+
+			long mark = timer.mark();
+			Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+			Document fieldsToUse = deriveFieldProjections
+					? EntityFieldProjection.deriveIfAbsent(fields, entity, mongoConverter.getTypeMapper()) : fields;
+			Document mappedQuery = queryMapper.getMappedObject(query, entity);
+			Document mappedFields = fieldsToUse == null ? null : queryMapper.getMappedObject(fieldsToUse, entity);
+			timer.queryMapped(mark);
+			timer.query(mappedQuery);
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("findOne using query: {} fields: {} for class: {} in collection: {}",
+						serializeToJsonSafely(query), mappedFields, entityClass, collectionName);
+			}
+
+			return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields),
+					timer.timeConversion(new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName)),
+					collectionName);
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields),
-				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -1933,18 +2209,34 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	protected <S, T> List<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
 			CursorPreparer preparer, DocumentCallback<T> objectCallback) {
 
-		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+		OperationTimer timer = startTimer(OperationTimer.FIND, collectionName);
 
-		Document mappedFields = queryMapper.getMappedFields(fields, entity);
-		Document mappedQuery = queryMapper.getMappedObject(query, entity);
+		try {
 
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
-					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName);
-		}
+			long mark = timer.mark();
+			Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+
+			Document fieldsToUse = deriveFieldProjections
+					? EntityFieldProjection.deriveIfAbsent(fields, entity, mongoConverter.getTypeMapper()) : fields;
+			Document mappedFields = queryMapper.getMappedFields(fieldsToUse, entity);
+			Document mappedQuery = queryMapper.getMappedObject(query, entity);
+			timer.queryMapped(mark);
+			timer.query(mappedQuery);
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("find using query: {} fields: {} for class: {} in collection: {}",
+						serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName);
+			}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+			return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+					timer.timeConversion(objectCallback), collectionName);
+
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
 	}
 
 	protected Document convertToDocument(CollectionOptions collectionOptions) {
@@ -2003,22 +2295,37 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 			options = new FindAndModifyOptions();
 		}
 
-		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+		OperationTimer timer = startTimer(OperationTimer.FIND_AND_MODIFY, collectionName);
 
-		increaseVersionForUpdateIfNecessary(entity, update);
+		try {
 
-		Document mappedQuery = queryMapper.getMappedObject(query, entity);
-		Document mappedUpdate = updateMapper.getMappedObject(update.getUpdateObject(), entity);
+			long mark = timer.mark();
+			Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
 
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug(
-					"findAndModify using query: {} fields: {} sort: {} for class: {} and update: {} " + "in collection: {}",
-					serializeToJsonSafely(mappedQuery), fields, sort, entityClass, serializeToJsonSafely(mappedUpdate),
+			increaseVersionForUpdateIfNecessary(entity, update);
+
+			Document mappedQuery = queryMapper.getMappedObject(query, entity);
+			Document mappedUpdate = updateMapper.getMappedObject(update.getUpdateObject(), entity);
+			timer.queryMapped(mark);
+			timer.query(mappedQuery);
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(
+						"findAndModify using query: {} fields: {} sort: {} for class: {} and update: {} " + "in collection: {}",
+						serializeToJsonSafely(mappedQuery), fields, sort, entityClass, serializeToJsonSafely(mappedUpdate),
+						collectionName);
+			}
+
+			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
+					timer.timeConversion(new ReadDocumentCallback<T>(readerToUse, entityClass, collectionName)),
 					collectionName);
-		}
 
-		return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, options),
-				new ReadDocumentCallback<T>(readerToUse, entityClass, collectionName), collectionName);
+		} catch (RuntimeException e) {
+			timer.failed();
+			throw e;
+		} finally {
+			timer.stop();
+		}
 	}
 
 	/**
@@ -2122,7 +2429,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					iterable = preparer.prepare(iterable);
 				}
 
-				cursor = iterable.iterator();
+				cursor = trackCursor(collectionName, iterable.iterator());
+
+				if (eventDelegate.isBatchEventsEnabled()) {
+
+					List<Document> documents = new ArrayList<Document>();
+
+					while (cursor.hasNext()) {
+						documents.add(cursor.next());
+					}
+
+					return objectCallback.doWithBatch(documents);
+				}
 
 				List<T> result = new ArrayList<T>();
 
@@ -2159,7 +2477,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 					iterable = preparer.prepare(iterable);
 				}
 
-				cursor = iterable.iterator();
+				cursor = trackCursor(collectionName, iterable.iterator());
 
 				while (cursor.hasNext()) {
 					callbackHandler.processDocument(cursor.next());
@@ -2404,6 +2722,24 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 	interface DocumentCallback<T> {
 
 		T doWith(Document object);
+
+		/**
+		 * Transforms all given {@link Document}s at once. Invokes {@link #doWith(Document)} for each {@link Document} by
+		 * default.
+		 *
+		 * @param objects must not be {@literal null}.
+		 * @return the transformed objects in the order of the given {@link Document}s.
+		 */
+		default List<T> doWithBatch(List<Document> objects) {
+
+			List<T> result = new ArrayList<T>(objects.size());
+
+			for (Document object : objects) {
+				result.add(doWith(object));
+			}
+
+			return result;
+		}
 	}
 
 	/**
@@ -2431,14 +2767,51 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		public T doWith(Document object) {
 			if (null != object) {
-				maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				if (isEventRequired(AfterLoadEvent.class, type)) {
+					maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				}
 			}
 			T source = reader.read(type, object);
 			if (null != source) {
-				maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				if (isEventRequired(AfterConvertEvent.class, source.getClass())) {
+					maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				}
 			}
 			return source;
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#doWithBatch(java.util.List)
+		 */
+		@Override
+		public List<T> doWithBatch(List<Document> objects) {
+
+			if (!objects.isEmpty() && isEventRequired(AfterLoadBatchEvent.class, type)) {
+				maybeEmitEvent(new AfterLoadBatchEvent<T>(objects, type, collectionName));
+			}
+
+			List<T> result = new ArrayList<T>(objects.size());
+			List<T> converted = new ArrayList<T>(objects.size());
+			List<Document> convertedDocuments = new ArrayList<Document>(objects.size());
+
+			for (Document object : objects) {
+
+				T source = reader.read(type, object);
+				result.add(source);
+
+				if (null != source) {
+					converted.add(source);
+					convertedDocuments.add(object);
+				}
+			}
+
+			eventDelegate.publishBatchEvents(AfterConvertBatchEvent.class, converted, convertedDocuments,
+					(batch, documents, batchType) -> new AfterConvertBatchEvent<T>(documents, batch, batchType,
+							collectionName));
+
+			return result;
+		}
 	}
 
 	class UnwrapAndReadDocumentCallback<T> extends ReadDocumentCallback<T> {
@@ -2449,11 +2822,31 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 
 		@Override
 		public T doWith(Document object) {
+			return super.doWith(unwrap(object));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.ReadDocumentCallback#doWithBatch(java.util.List)
+		 */
+		@Override
+		public List<T> doWithBatch(List<Document> objects) {
+
+			List<Document> unwrapped = new ArrayList<Document>(objects.size());
+
+			for (Document object : objects) {
+				unwrapped.add(unwrap(object));
+			}
+
+			return super.doWithBatch(unwrapped);
+		}
+
+		private Document unwrap(Document object) {
 
 			Object idField = object.get(Fields.UNDERSCORE_ID);
 
 			if (!(idField instanceof Document)) {
-				return super.doWith(object);
+				return object;
 			}
 
 			Document toMap = new Document();
@@ -2466,7 +2859,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware,
 				}
 			}
 
-			return super.doWith(toMap);
+			return toMap;
 		}
 	}
 
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+/**
+ * Callback interface to record client-side metrics of operations executed by {@link MongoTemplate} and
+ * {@link ReactiveMongoTemplate}. Implementations are invoked synchronously once an operation has completed and thus
+ * must not block.
+ *
+ * @since 2.0
+ * @see MongoTemplate#setOperationMetricsRecorder(OperationMetricsRecorder)
+ * @see ReactiveMongoTemplate#setOperationMetricsRecorder(OperationMetricsRecorder)
+ */
+public interface OperationMetricsRecorder {
+
+	/**
+	 * Records the timings of a completed operation.
+	 *
+	 * @param sample will never be {@literal null}.
+	 */
+	void record(OperationSample sample);
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * The timings of a single template operation, split into the time spent mapping the query, executing the operation
+ * using the driver and converting between entities and {@link org.bson.Document}s.
+ *
+ * @since 2.0
+ * @see OperationMetricsRecorder
+ */
+public final class OperationSample {
+
+	private final String operation;
+	private final String collectionName;
+	private final long queryMappingNanos;
+	private final long conversionNanos;
+	private final long totalNanos;
+	private final long documentCount;
+	private final boolean success;
+	private final Document query;
+
+	/**
+	 * Creates a new {@link OperationSample}.
+	 *
+	 * @param operation the name of the operation, e.g. {@literal find}, must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 * @param queryMappingNanos the time spent mapping the query and update documents.
+	 * @param conversionNanos the time spent converting between entities and documents.
+	 * @param totalNanos the overall time of the operation.
+	 * @param documentCount the number of documents read or written.
+	 * @param success whether the operation completed successfully.
+	 */
+	public OperationSample(String operation, String collectionName, long queryMappingNanos, long conversionNanos,
+			long totalNanos, long documentCount, boolean success) {
+		this(operation, collectionName, queryMappingNanos, conversionNanos, totalNanos, documentCount, success, null);
+	}
+
+	/**
+	 * Creates a new {@link OperationSample} retaining the query the operation was executed with.
+	 *
+	 * @param operation the name of the operation, e.g. {@literal find}, must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 * @param queryMappingNanos the time spent mapping the query and update documents.
+	 * @param conversionNanos the time spent converting between entities and documents.
+	 * @param totalNanos the overall time of the operation.
+	 * @param documentCount the number of documents read or written.
+	 * @param success whether the operation completed successfully.
+	 * @param query the mapped query, can be {@literal null}.
+	 */
+	public OperationSample(String operation, String collectionName, long queryMappingNanos, long conversionNanos,
+			long totalNanos, long documentCount, boolean success, Document query) {
+
+		Assert.notNull(operation, "Operation must not be null!");
+
+		this.operation = operation;
+		this.collectionName = collectionName;
+		this.queryMappingNanos = queryMappingNanos;
+		this.conversionNanos = conversionNanos;
+		this.totalNanos = totalNanos;
+		this.documentCount = documentCount;
+		this.success = success;
+		this.query = query;
+	}
+
+	/**
+	 * @return the name of the operation, e.g. {@literal find}, {@literal insert}, {@literal aggregate} or
+	 *         {@literal findAndModify}.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the name of the collection the operation was executed against, can be {@literal null}.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * Returns the time spent in the given {@link Phase}.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getTime(Phase phase, TimeUnit unit) {
+
+		Assert.notNull(phase, "Phase must not be null!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		return unit.convert(getNanos(phase), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the overall time of the operation in nanoseconds.
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return the number of documents read or written.
+	 */
+	public long getDocumentCount() {
+		return documentCount;
+	}
+
+	/**
+	 * @return {@literal true} if the operation completed without an error.
+	 */
+	public boolean isSuccess() {
+		return success;
+	}
+
+	/**
+	 * Returns the shape of the query the operation was executed with, i.e. the query with all values replaced by
+	 * {@literal ?} so that queries only differing in their values share the same shape. The shape is computed on each
+	 * invocation and only available for samples handed to a slow operation recorder.
+	 *
+	 * @return {@literal null} if no query was captured.
+	 */
+	public Document getQueryShape() {
+		return query == null ? null : shapeOf(query);
+	}
+
+	private static Document shapeOf(Document document) {
+
+		Document shape = new Document();
+
+		for (Entry<String, Object> entry : document.entrySet()) {
+			shape.put(entry.getKey(), shapeOfValue(entry.getValue()));
+		}
+
+		return shape;
+	}
+
+	private static Object shapeOfValue(Object value) {
+
+		if (value instanceof Document) {
+			return shapeOf((Document) value);
+		}
+
+		if (value instanceof Collection) {
+
+			List<Object> shapes = new ArrayList<>();
+
+			for (Object element : (Collection<?>) value) {
+
+				Object elementShape = shapeOfValue(element);
+
+				if (element instanceof Document) {
+					shapes.add(elementShape);
+				} else if (!shapes.contains(elementShape)) {
+					shapes.add(elementShape);
+				}
+			}
+
+			return shapes;
+		}
+
+		return "?";
+	}
+
+	private long getNanos(Phase phase) {
+
+		switch (phase) {
+			case QUERY_MAPPING:
+				return queryMappingNanos;
+			case CONVERSION:
+				return conversionNanos;
+			case EXECUTION:
+				return Math.max(0, totalNanos - queryMappingNanos - conversionNanos);
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported phase %s!", phase));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s on %s: %d documents in %dus (mapping %dus, execution %dus, conversion %dus)", operation,
+				collectionName, documentCount, TimeUnit.NANOSECONDS.toMicros(totalNanos),
+				getTime(Phase.QUERY_MAPPING, TimeUnit.MICROSECONDS), getTime(Phase.EXECUTION, TimeUnit.MICROSECONDS),
+				getTime(Phase.CONVERSION, TimeUnit.MICROSECONDS));
+	}
+
+	/**
+	 * The phases of an operation.
+	 */
+	public enum Phase {
+
+		/**
+		 * Mapping of query, fields, sort and update documents onto the persistent entity.
+		 */
+		QUERY_MAPPING,
+
+		/**
+		 * Execution of the operation by the driver including the network round trips. Covers all time not spent in
+		 * either of the other phases. For reactive operations, only time with outstanding demand is accounted, i.e.
+		 * neither the time the subscriber spends processing elements nor the time waiting for it to request more.
+		 */
+		EXECUTION,
+
+		/**
+		 * Conversion of entities into {@link org.bson.Document}s and vice versa.
+		 */
+		CONVERSION
+	}
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback;
+
+/**
+ * Measures the phases of a single template operation and reports them to an {@link OperationMetricsRecorder} once
+ * {@link #stop() stopped}. Operations exceeding the slow operation threshold are additionally reported, along with the
+ * query they were executed with, to a dedicated slow operation recorder. Not thread-safe, callers have to make sure
+ * that signals for one operation are not processed concurrently.
+ *
+ * @since 2.0
+ */
+class OperationTimer {
+
+	static final String FIND = "find";
+	static final String FIND_ONE = "findOne";
+	static final String INSERT = "insert";
+	static final String AGGREGATE = "aggregate";
+	static final String FIND_AND_MODIFY = "findAndModify";
+
+	/**
+	 * {@link OperationTimer} not measuring anything.
+	 */
+	static final OperationTimer NONE = new OperationTimer(null, null, 0, "none", null) {
+
+		@Override
+		long mark() {
+			return 0;
+		}
+
+		@Override
+		void queryMapped(long since) {}
+
+		@Override
+		void converted(long since) {}
+
+		@Override
+		void query(Document query) {}
+
+		@Override
+		void addPriorQueryMappingTime(long nanos) {}
+
+		@Override
+		void measureActiveTime() {}
+
+		@Override
+		void active(long nanos) {}
+
+		@Override
+		void documents(long count) {}
+
+		@Override
+		void failed() {}
+
+		@Override
+		<T> DocumentCallback<T> timeConversion(DocumentCallback<T> callback) {
+			return callback;
+		}
+
+		@Override
+		<T> ReactiveMongoTemplate.DocumentCallback<T> timeConversion(
+				ReactiveMongoTemplate.DocumentCallback<T> callback) {
+			return callback;
+		}
+
+		@Override
+		void stop() {}
+	};
+
+	private final OperationMetricsRecorder recorder;
+	private final OperationMetricsRecorder slowOperationRecorder;
+	private final long slowOperationThresholdNanos;
+	private final String operation;
+	private final String collectionName;
+	private long started;
+	private long priorNanos;
+	private boolean measuresActiveTime;
+	private long activeNanos;
+
+	private long queryMappingNanos;
+	private long conversionNanos;
+	private long documentCount;
+	private Document query;
+	private boolean success = true;
+	private boolean stopped;
+
+	private OperationTimer(OperationMetricsRecorder recorder, OperationMetricsRecorder slowOperationRecorder,
+			long slowOperationThresholdNanos, String operation, String collectionName) {
+
+		this.recorder = recorder;
+		this.slowOperationRecorder = slowOperationRecorder;
+		this.slowOperationThresholdNanos = slowOperationThresholdNanos;
+		this.operation = operation;
+		this.collectionName = collectionName;
+		this.started = System.nanoTime();
+	}
+
+	/**
+	 * Starts measuring an operation.
+	 *
+	 * @param recorder can be {@literal null} to not measure at all.
+	 * @param operation must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static OperationTimer start(OperationMetricsRecorder recorder, String operation, String collectionName) {
+		return start(recorder, null, 0, operation, collectionName);
+	}
+
+	/**
+	 * Starts measuring an operation that is additionally reported to the given slow operation recorder if it takes at
+	 * least the given threshold.
+	 *
+	 * @param recorder can be {@literal null}.
+	 * @param slowOperationRecorder can be {@literal null}.
+	 * @param slowOperationThresholdNanos the minimum time in nanoseconds for an operation to be considered slow.
+	 * @param operation must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	static OperationTimer start(OperationMetricsRecorder recorder, OperationMetricsRecorder slowOperationRecorder,
+			long slowOperationThresholdNanos, String operation, String collectionName) {
+
+		if (recorder == null && slowOperationRecorder == null) {
+			return NONE;
+		}
+
+		return new OperationTimer(recorder, slowOperationRecorder, slowOperationThresholdNanos, operation,
+				collectionName);
+	}
+
+	/**
+	 * @return the current time to be handed to {@link #queryMapped(long)} or {@link #converted(long)}.
+	 */
+	long mark() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Adds the time since the given mark to the query mapping phase.
+	 *
+	 * @param since obtained via {@link #mark()}.
+	 */
+	void queryMapped(long since) {
+		queryMappingNanos += System.nanoTime() - since;
+	}
+
+	/**
+	 * Adds the time since the given mark to the conversion phase.
+	 *
+	 * @param since obtained via {@link #mark()}.
+	 */
+	void converted(long since) {
+		conversionNanos += System.nanoTime() - since;
+	}
+
+	/**
+	 * Registers the mapped query the operation is executed with. Only retained to derive the query shape of slow
+	 * operations from.
+	 *
+	 * @param query can be {@literal null}.
+	 */
+	void query(Document query) {
+		this.query = query;
+	}
+
+	/**
+	 * Adds query mapping time spent before the timer was started, e.g. while assembling a reactive pipeline, to both
+	 * the query mapping phase and the overall time of the operation.
+	 *
+	 * @param nanos the time spent mapping in nanoseconds.
+	 */
+	void addPriorQueryMappingTime(long nanos) {
+
+		queryMappingNanos += nanos;
+		priorNanos += nanos;
+		started -= nanos;
+	}
+
+	/**
+	 * Makes the overall time of the operation consist of the prior query mapping time and the time reported via
+	 * {@link #active(long)} instead of the time between start and stop. Used for reactive operations to exclude time
+	 * spent waiting for the subscriber.
+	 *
+	 * @see OperationTimingSubscriber
+	 */
+	void measureActiveTime() {
+		measuresActiveTime = true;
+	}
+
+	/**
+	 * Adds the given time the operation actually spent working, i.e. waiting for the database including the query
+	 * mapping and conversion done meanwhile, to the overall time of the operation.
+	 *
+	 * @param nanos the time in nanoseconds.
+	 */
+	void active(long nanos) {
+		activeNanos += nanos;
+	}
+
+	/**
+	 * @param count the number of documents read or written to add.
+	 */
+	void documents(long count) {
+		documentCount += count;
+	}
+
+	/**
+	 * Marks the operation as failed.
+	 */
+	void failed() {
+		success = false;
+	}
+
+	/**
+	 * Decorates the given {@link DocumentCallback} to add the time spent converting {@link Document}s to the conversion
+	 * phase and to count the documents read.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	<T> DocumentCallback<T> timeConversion(DocumentCallback<T> callback) {
+		return new TimingDocumentCallback<T>(callback);
+	}
+
+	/**
+	 * Decorates the given reactive {@link ReactiveMongoTemplate.DocumentCallback} to add the time spent converting
+	 * {@link Document}s to the conversion phase and to count the documents read.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	<T> ReactiveMongoTemplate.DocumentCallback<T> timeConversion(ReactiveMongoTemplate.DocumentCallback<T> callback) {
+
+		return object -> {
+
+			long mark = mark();
+
+			try {
+				return callback.doWith(object);
+			} finally {
+
+				converted(mark);
+				documents(1);
+			}
+		};
+	}
+
+	/**
+	 * Stops measuring and reports the timings to the {@link OperationMetricsRecorder} and, if the operation exceeded
+	 * the threshold, to the slow operation recorder. Subsequent invocations are ignored.
+	 */
+	void stop() {
+
+		if (stopped) {
+			return;
+		}
+
+		stopped = true;
+		long totalNanos = measuresActiveTime ? priorNanos + activeNanos : System.nanoTime() - started;
+
+		if (recorder != null) {
+			recorder.record(new OperationSample(operation, collectionName, queryMappingNanos, conversionNanos,
+					totalNanos, documentCount, success));
+		}
+
+		if (slowOperationRecorder != null && totalNanos >= slowOperationThresholdNanos) {
+			slowOperationRecorder.record(new OperationSample(operation, collectionName, queryMappingNanos,
+					conversionNanos, totalNanos, documentCount, success, query));
+		}
+	}
+
+	private class TimingDocumentCallback<T> implements DocumentCallback<T> {
+
+		private final DocumentCallback<T> delegate;
+
+		TimingDocumentCallback(DocumentCallback<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#doWith(org.bson.Document)
+		 */
+		@Override
+		public T doWith(Document object) {
+
+			long mark = mark();
+
+			try {
+				return delegate.doWith(object);
+			} finally {
+
+				converted(mark);
+
+				if (object != null) {
+					documents(1);
+				}
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.MongoTemplate.DocumentCallback#doWithBatch(java.util.List)
+		 */
+		@Override
+		public List<T> doWithBatch(List<Document> objects) {
+
+			long mark = mark();
+
+			try {
+				return delegate.doWithBatch(objects);
+			} finally {
+
+				converted(mark);
+				documents(objects.size());
+			}
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link Subscriber} reporting the time a reactive operation actually waits for the database to an
+ * {@link OperationTimer}. Time spent by the downstream subscriber processing emitted elements and time without
+ * outstanding demand, i.e. waiting for the subscriber to request more elements, is excluded.
+ *
+ * @since 2.0
+ */
+class OperationTimingSubscriber<T> implements Subscriber<T>, Subscription {
+
+	private final Subscriber<? super T> actual;
+	private final OperationTimer timer;
+
+	private Subscription subscription;
+	private long demand;
+	private long waitingSince;
+	private boolean emitting;
+
+	private OperationTimingSubscriber(Subscriber<? super T> actual, OperationTimer timer) {
+
+		this.actual = actual;
+		this.timer = timer;
+		this.waitingSince = System.nanoTime();
+
+		timer.measureActiveTime();
+	}
+
+	/**
+	 * Measures the time the given {@link Flux} waits for the database using the given {@link OperationTimer}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param timer must not be {@literal null}.
+	 * @return
+	 */
+	static <T> Flux<T> measure(Flux<T> source, OperationTimer timer) {
+		return Flux.from((Publisher<T>) subscriber -> source
+				.subscribe(new OperationTimingSubscriber<T>(subscriber, timer)));
+	}
+
+	/**
+	 * Measures the time the given {@link Mono} waits for the database using the given {@link OperationTimer}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param timer must not be {@literal null}.
+	 * @return
+	 */
+	static <T> Mono<T> measure(Mono<T> source, OperationTimer timer) {
+		return Mono.from((Publisher<T>) subscriber -> source
+				.subscribe(new OperationTimingSubscriber<T>(subscriber, timer)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscriber#onSubscribe(org.reactivestreams.Subscription)
+	 */
+	@Override
+	public void onSubscribe(Subscription subscription) {
+
+		synchronized (this) {
+
+			this.subscription = subscription;
+			pause();
+		}
+
+		actual.onSubscribe(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscriber#onNext(java.lang.Object)
+	 */
+	@Override
+	public void onNext(T element) {
+
+		synchronized (this) {
+
+			pause();
+			emitting = true;
+
+			if (demand != Long.MAX_VALUE) {
+				demand--;
+			}
+		}
+
+		try {
+			actual.onNext(element);
+		} finally {
+
+			synchronized (this) {
+
+				emitting = false;
+
+				if (demand > 0) {
+					resume();
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscriber#onError(java.lang.Throwable)
+	 */
+	@Override
+	public void onError(Throwable error) {
+
+		synchronized (this) {
+			pause();
+		}
+
+		actual.onError(error);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscriber#onComplete()
+	 */
+	@Override
+	public void onComplete() {
+
+		synchronized (this) {
+			pause();
+		}
+
+		actual.onComplete();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscription#request(long)
+	 */
+	@Override
+	public void request(long n) {
+
+		synchronized (this) {
+
+			if (n > 0) {
+
+				demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+				// requests issued while processing an element only count once the element was processed
+				if (!emitting) {
+					resume();
+				}
+			}
+		}
+
+		subscription.request(n);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Subscription#cancel()
+	 */
+	@Override
+	public void cancel() {
+
+		synchronized (this) {
+			pause();
+		}
+
+		subscription.cancel();
+	}
+
+	private void pause() {
+
+		if (waitingSince != 0) {
+
+			timer.active(System.nanoTime() - waitingSince);
+			waitingSince = 0;
+		}
+	}
+
+	private void resume() {
+
+		if (waitingSince == 0) {
+			waitingSince = System.nanoTime();
+		}
+	}
+}
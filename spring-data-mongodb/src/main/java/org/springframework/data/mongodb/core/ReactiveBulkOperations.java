@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Reactive bulk operations for insert/update/remove actions on a collection. Write operations are registered as
+ * {@link Publisher}s that may emit an arbitrary (and even unbounded) number of elements. Once {@link #execute()
+ * executed}, the emitted operations are grouped into batches bounded by {@link #batchSize(int) count},
+ * {@link #batchBytes(long) size} and {@link #batchTimeout(Duration) time} that are each sent to the server with a
+ * single {@literal bulkWrite} command.
+ *
+ * @since 2.0
+ * @see BulkOperations
+ */
+public interface ReactiveBulkOperations {
+
+	/**
+	 * Add a stream of inserts to the bulk operation.
+	 *
+	 * @param documents the documents to insert, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the inserts added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations insert(Publisher<? extends Object> documents);
+
+	/**
+	 * Add a stream of updates to the bulk operation. For each update request, only the first matching document is
+	 * updated.
+	 *
+	 * @param updates the update operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the updates added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateOne(Publisher<Pair<Query, Update>> updates);
+
+	/**
+	 * Add a stream of updates to the bulk operation. For each update request, all matching documents are updated.
+	 *
+	 * @param updates the update operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the updates added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations updateMulti(Publisher<Pair<Query, Update>> updates);
+
+	/**
+	 * Add a stream of upserts to the bulk operation. An upsert is an update if the set of matching documents is not
+	 * empty, else an insert.
+	 *
+	 * @param upserts the update/insert operations to perform, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the upserts added, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations upsert(Publisher<Pair<Query, Update>> upserts);
+
+	/**
+	 * Add a stream of remove operations to the bulk operation.
+	 *
+	 * @param removes the {@link Query queries} selecting the documents to remove, must not be {@literal null}.
+	 * @return the current {@link ReactiveBulkOperations} instance with the removals added, will never be
+	 *         {@literal null}.
+	 */
+	ReactiveBulkOperations remove(Publisher<Query> removes);
+
+	/**
+	 * Limit the number of write operations sent with a single {@literal bulkWrite}. Defaults to {@literal 1000}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return the current {@link ReactiveBulkOperations} instance, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations batchSize(int batchSize);
+
+	/**
+	 * Limit the approximate BSON size of the write operations sent with a single {@literal bulkWrite}. A single write
+	 * operation exceeding the limit is sent on its own. Defaults to {@literal 0} which does not limit the batch size
+	 * and leaves splitting of oversized batches to the driver.
+	 *
+	 * @param batchBytes the maximum number of bytes, {@literal 0} to not limit the size of a batch.
+	 * @return the current {@link ReactiveBulkOperations} instance, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations batchBytes(long batchBytes);
+
+	/**
+	 * Limit the time write operations are collected before a {@literal bulkWrite} for the pending operations is issued,
+	 * even if the batch has not been filled. Defaults to {@literal 1} second.
+	 *
+	 * @param batchTimeout must not be {@literal null} and be positive.
+	 * @return the current {@link ReactiveBulkOperations} instance, will never be {@literal null}.
+	 */
+	ReactiveBulkOperations batchTimeout(Duration batchTimeout);
+
+	/**
+	 * Subscribe to the registered write operation streams and execute them in batches. Using {@link BulkMode#ORDERED},
+	 * the streams are consumed one after another in registration order, batches are written one after another and the
+	 * first error terminates the resulting {@link Flux}. Using {@link BulkMode#UNORDERED}, the streams are consumed
+	 * concurrently, operations are written in the order they are emitted and batches may be written concurrently.
+	 *
+	 * @return a {@link Flux} emitting one {@link BulkWriteResult} per written batch.
+	 */
+	Flux<BulkWriteResult> execute();
+}
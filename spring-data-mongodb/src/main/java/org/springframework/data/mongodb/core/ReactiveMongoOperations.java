@@ -21,6 +21,7 @@ import org.bson.Document;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.springframework.data.geo.GeoResult;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.BasicQuery;
@@ -67,6 +68,34 @@ public interface ReactiveMongoOperations {
 	 */
 	ReactiveIndexOperations indexOps(Class<?> entityClass);
 
+	/**
+	 * Returns a new {@link ReactiveBulkOperations} for the given collection.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @return {@link ReactiveBulkOperations} on the named collection
+	 */
+	ReactiveBulkOperations bulkOps(BulkMode mode, String collectionName);
+
+	/**
+	 * Returns a new {@link ReactiveBulkOperations} for the given entity type.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class, must not be {@literal null}.
+	 * @return {@link ReactiveBulkOperations} on the named collection associated of the given entity class.
+	 */
+	ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityType);
+
+	/**
+	 * Returns a new {@link ReactiveBulkOperations} for the given entity type and collection name.
+	 *
+	 * @param mode the {@link BulkMode} to use for bulk operations, must not be {@literal null}.
+	 * @param entityType the name of the entity class, can be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @return {@link ReactiveBulkOperations} on the named collection associated with the given entity class.
+	 */
+	ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityType, String collectionName);
+
 	/**
 	 * Execute the a MongoDB command expressed as a JSON string. This will call the method JSON.parse that is part of the
 	 * MongoDB driver to convert the JSON string to a DBObject. Any errors that result from executing this command will be
@@ -620,6 +649,19 @@ public interface ReactiveMongoOperations {
 	 */
 	<T> Flux<T> insertAll(Mono<? extends Collection<? extends T>> objectsToSave);
 
+	/**
+	 * Insert a stream of objects into the specified collection. Emitted objects are grouped into batches bounded by size
+	 * and time that are each written using a single batch write to the database. The saved objects are emitted in the
+	 * order they were received.
+	 *
+	 * @param objectsToSave the {@link Flux} which provides objects to save, must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in, must not be {@literal null} or empty.
+	 * @return
+	 * @see ReactiveMongoTemplate#setWriteBatchSize(int)
+	 * @see ReactiveMongoTemplate#setWriteBatchTimeout(java.time.Duration)
+	 */
+	<T> Flux<T> insertAll(Flux<? extends T> objectsToSave, String collectionName);
+
 	/**
 	 * Save the object to the collection for the entity type of the object to save. This will perform an insert if the
 	 * object is not already present, that is an 'upsert'.
@@ -694,6 +736,20 @@ public interface ReactiveMongoOperations {
 	 */
 	<T> Mono<T> save(Mono<? extends T> objectToSave, String collectionName);
 
+	/**
+	 * Save a stream of objects to the specified collection. Emitted objects are grouped into batches bounded by size and
+	 * time that are each written using a single bulk write to the database, inserting objects without an id and
+	 * replacing (upserting) objects with an id. Objects with a version property are saved one by one to retain optimistic
+	 * locking. The saved objects are emitted in the order they were received.
+	 *
+	 * @param objectsToSave the {@link Flux} which provides objects to save, must not be {@literal null}.
+	 * @param collectionName name of the collection to store the objects in, must not be {@literal null} or empty.
+	 * @return
+	 * @see ReactiveMongoTemplate#setWriteBatchSize(int)
+	 * @see ReactiveMongoTemplate#setWriteBatchTimeout(java.time.Duration)
+	 */
+	<T> Flux<T> saveAll(Flux<? extends T> objectsToSave, String collectionName);
+
 	/**
 	 * Performs an upsert. If no document is found that matches the query, a new document is created and inserted by
 	 * combining the query document and the update document.
@@ -935,6 +991,82 @@ public interface ReactiveMongoOperations {
 	 */
 	<T> Flux<T> tail(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a stream of objects of the specified
+	 * type using a {@link com.mongodb.CursorType#TailableAwait tailable} cursor that is reopened once it dies. The
+	 * stream keeps track of the {@link TailOptions#getResumeKey() resume key} of the last emitted object and reopens the
+	 * cursor right after it, applying the configured backoff, so that no object is emitted twice. Only transient cursor
+	 * failures cause a restart, all other errors are propagated. The query's skip only applies to the initial cursor
+	 * while its limit bounds the overall number of emitted objects.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification
+	 * @param options the {@link TailOptions} to apply, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @return the {@link Flux} of converted objects
+	 * @since 2.0
+	 */
+	<T> Flux<T> tail(Query query, TailOptions options, Class<T> entityClass);
+
+	/**
+	 * Map the results of an ad-hoc query on the collection for the entity class to a stream of objects of the specified
+	 * type using a {@link com.mongodb.CursorType#TailableAwait tailable} cursor that is reopened once it dies. The
+	 * stream keeps track of the {@link TailOptions#getResumeKey() resume key} of the last emitted object and reopens the
+	 * cursor right after it, applying the configured backoff, so that no object is emitted twice. Only transient cursor
+	 * failures cause a restart, all other errors are propagated. The query's skip only applies to the initial cursor
+	 * while its limit bounds the overall number of emitted objects.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification
+	 * @param options the {@link TailOptions} to apply, must not be {@literal null}.
+	 * @param entityClass the parametrized type of the returned {@link Flux}.
+	 * @param collectionName name of the collection to retrieve the objects from
+	 * @return the {@link Flux} of converted objects
+	 * @since 2.0
+	 */
+	<T> Flux<T> tail(Query query, TailOptions options, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Subscribe to a MongoDB change stream on the collection for the entity class. Unlike {@link #tail(Query, Class)},
+	 * change streams do not require a capped collection. The returned {@link Flux} is infinite and emits a
+	 * {@link ChangeEvent} for each change matching the {@link ChangeStreamOptions#getFilter() filter}. The changed
+	 * document is converted into the given type using the configured {@link MongoConverter}.
+	 * <p/>
+	 * Each subscription starts at the {@link ChangeStreamOptions#getResumeToken() configured resume token}. The stream
+	 * keeps track of the resume token of the last emitted event and resumes right after it once after a transient error,
+	 * e.g. a primary stepdown or a network failure. Other errors are propagated. To continue after an error, subscribe
+	 * again resuming after the {@link ChangeEvent#getResumeToken() resume token} of the last received event.
+	 * <p/>
+	 * Change streams require MongoDB 3.6 or newer running as replica set or sharded cluster.
+	 *
+	 * @param options the {@link ChangeStreamOptions} to apply, must not be {@literal null}.
+	 * @param entityClass the domain type to convert the changed documents into, must not be {@literal null}.
+	 * @return the {@link Flux} of {@link ChangeEvent}s.
+	 * @since 2.0
+	 */
+	<T> Flux<ChangeEvent<T>> changeStream(ChangeStreamOptions options, Class<T> entityClass);
+
+	/**
+	 * Subscribe to a MongoDB change stream on the given collection. Unlike {@link #tail(Query, Class, String)}, change
+	 * streams do not require a capped collection. The returned {@link Flux} is infinite and emits a {@link ChangeEvent}
+	 * for each change matching the {@link ChangeStreamOptions#getFilter() filter}. The changed document is converted
+	 * into the given type using the configured {@link MongoConverter}.
+	 * <p/>
+	 * Each subscription starts at the {@link ChangeStreamOptions#getResumeToken() configured resume token}. The stream
+	 * keeps track of the resume token of the last emitted event and resumes right after it once after a transient error,
+	 * e.g. a primary stepdown or a network failure. Other errors are propagated. To continue after an error, subscribe
+	 * again resuming after the {@link ChangeEvent#getResumeToken() resume token} of the last received event.
+	 * <p/>
+	 * Change streams require MongoDB 3.6 or newer running as replica set or sharded cluster.
+	 *
+	 * @param options the {@link ChangeStreamOptions} to apply, must not be {@literal null}.
+	 * @param entityClass the domain type to convert the changed documents into, must not be {@literal null}.
+	 * @param collectionName name of the collection to watch, must not be {@literal null} or empty.
+	 * @return the {@link Flux} of {@link ChangeEvent}s.
+	 * @since 2.0
+	 */
+	<T> Flux<ChangeEvent<T>> changeStream(ChangeStreamOptions options, Class<T> entityClass, String collectionName);
+
 	/**
 	 * Returns the underlying {@link MongoConverter}.
 	 *
@@ -20,9 +20,13 @@ import static org.springframework.data.mongodb.core.query.SerializationUtils.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,6 +37,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -66,6 +73,7 @@ import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.convert.DbRefProxyHandler;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DbRefResolverCallback;
@@ -104,15 +112,23 @@ import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
 import com.mongodb.DBRef;
 import com.mongodb.Mongo;
+import com.mongodb.MongoCursorNotFoundException;
 import com.mongodb.MongoException;
+import com.mongodb.MongoNodeIsRecoveringException;
+import com.mongodb.MongoNotPrimaryException;
+import com.mongodb.MongoSocketException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.FindPublisher;
@@ -143,7 +159,17 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMongoTemplate.class);
 	private static final String ID_FIELD = "_id";
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+	private static final Duration DEFAULT_WRITE_BATCH_TIMEOUT = Duration.ofMillis(100);
+	private static final Duration DEFAULT_SLOW_OPERATION_THRESHOLD = Duration.ofMillis(100);
 	private static final Collection<Class<?>> ITERABLE_CLASSES;
+	private static final Set<String> CHANGE_EVENT_FIELDS = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList("operationType", "documentKey", "ns", "updateDescription")));
+
+	// CursorNotFound, ShutdownInProgress, CappedPositionLost, QueryPlanKilled, PrimarySteppedDown, CursorKilled,
+	// NotMaster, InterruptedAtShutdown, InterruptedDueToReplStateChange, NotMasterNoSlaveOk, NotMasterOrSecondary
+	private static final Set<Integer> TRANSIENT_CURSOR_ERROR_CODES = Collections.unmodifiableSet(
+			new HashSet<>(Arrays.asList(43, 91, 136, 175, 189, 237, 10107, 11600, 11602, 13435, 13436)));
 
 	static {
 
@@ -168,7 +194,16 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	private WriteResultChecking writeResultChecking = WriteResultChecking.NONE;
 	private ReadPreference readPreference;
 	private ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
+	private OperationMetricsRecorder operationMetricsRecorder;
+	private OperationMetricsRecorder slowOperationRecorder;
+	private Duration slowOperationThreshold = DEFAULT_SLOW_OPERATION_THRESHOLD;
+	private boolean deriveFieldProjections;
 	private MongoPersistentEntityIndexCreator indexCreator;
+	private int readPrefetch;
+	private Scheduler readScheduler;
+	private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
+	private Duration writeBatchTimeout = DEFAULT_WRITE_BATCH_TIMEOUT;
 
 	/**
 	 * Constructor used for a basic template configuration.
@@ -213,6 +248,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			indexCreator = new MongoPersistentEntityIndexCreator((MongoMappingContext) mappingContext,
 					(collectionName) -> IndexOperationsAdapter.blocking(indexOps(collectionName)));
 			eventPublisher = new MongoMappingEventPublisher(indexCreator);
+			eventDelegate.setPublisher(eventPublisher);
 			if (mappingContext instanceof ApplicationEventPublisherAware) {
 				((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 			}
@@ -259,6 +295,125 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		this.readPreference = readPreference;
 	}
 
+	/**
+	 * Configures whether lifecycle events such as {@link AfterLoadEvent}, {@link BeforeSaveEvent} etc. should be
+	 * published. Events are only created if a listener for the event and domain type is registered. Defaults to
+	 * {@literal true}.
+	 *
+	 * @param enabled {@literal false} to disable lifecycle events entirely.
+	 * @since 2.0
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setEventsEnabled(enabled);
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report the timings of {@code find}, {@code findOne},
+	 * {@code insert} and {@code findAndModify} operations to. Operations are measured from subscription until
+	 * termination. Each {@link OperationSample} splits the time spent into query mapping, driver execution and entity
+	 * conversion. Defaults to {@literal null} which does not measure operations at all.
+	 *
+	 * @param operationMetricsRecorder can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setOperationMetricsRecorder(OperationMetricsRecorder operationMetricsRecorder) {
+		this.operationMetricsRecorder = operationMetricsRecorder;
+	}
+
+	/**
+	 * Configures the {@link OperationMetricsRecorder} to report operations taking at least the
+	 * {@link #setSlowOperationThreshold(Duration) slow operation threshold} to. Samples handed to it expose the
+	 * {@link OperationSample#getQueryShape() shape} of the query the operation was executed with, which is only derived
+	 * on demand. Defaults to {@literal null} which does not detect slow operations at all.
+	 *
+	 * @param slowOperationRecorder can be {@literal null}.
+	 * @since 2.0
+	 * @see org.springframework.data.mongodb.monitor.SlowOperationLog
+	 */
+	public void setSlowOperationRecorder(OperationMetricsRecorder slowOperationRecorder) {
+		this.slowOperationRecorder = slowOperationRecorder;
+	}
+
+	/**
+	 * Configures the minimum time an operation has to take to be reported to the
+	 * {@link #setSlowOperationRecorder(OperationMetricsRecorder) slow operation recorder}. Defaults to
+	 * {@literal 100 ms}.
+	 *
+	 * @param slowOperationThreshold must not be {@literal null} or negative.
+	 * @since 2.0
+	 */
+	public void setSlowOperationThreshold(Duration slowOperationThreshold) {
+
+		Assert.notNull(slowOperationThreshold, "Slow operation threshold must not be null!");
+		Assert.isTrue(!slowOperationThreshold.isNegative(), "Slow operation threshold must not be negative!");
+
+		this.slowOperationThreshold = slowOperationThreshold;
+	}
+
+	/**
+	 * Configures whether to derive a field projection from the mapped properties of the entity type when reading
+	 * documents via {@code find(…)} or {@code findOne(…)} with a {@link Query} not defining any fields. Enabling this
+	 * avoids transferring and decoding fields of the stored documents the requested type is not able to hold, e.g.
+	 * when reading into a type mapping only a few fields of a collection. The type key is always fetched so documents
+	 * of subtypes are still read as such, though only with the fields mapped by the requested type. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param deriveFieldProjections
+	 * @since 2.0
+	 */
+	public void setDeriveFieldProjections(boolean deriveFieldProjections) {
+		this.deriveFieldProjections = deriveFieldProjections;
+	}
+
+	/**
+	 * Configures the maximum number of documents requested from a cursor ahead of subscriber demand when reading
+	 * multiple documents. The driver derives the size of each {@literal getMore} batch from the outstanding demand, so
+	 * bounding the demand lets batch sizes follow {@link org.reactivestreams.Subscription#request(long)} instead of
+	 * fetching full batches that are buffered until a slow subscriber catches up. Setting a value of {@literal 0} or
+	 * less (the default) passes subscriber demand through unchanged.
+	 *
+	 * @param readPrefetch the maximum number of documents to prefetch.
+	 * @see #setReadScheduler(Scheduler)
+	 */
+	public void setReadPrefetch(int readPrefetch) {
+		this.readPrefetch = readPrefetch;
+	}
+
+	/**
+	 * Configures the {@link Scheduler} to map documents to entities on when reading multiple documents with a
+	 * {@link #setReadPrefetch(int) read prefetch} configured. Setting {@literal null} (the default) maps documents on the
+	 * thread emitting them.
+	 *
+	 * @param readScheduler can be {@literal null}.
+	 * @see #setReadPrefetch(int)
+	 */
+	public void setReadScheduler(Scheduler readScheduler) {
+		this.readScheduler = readScheduler;
+	}
+
+	/**
+	 * Configures the maximum number of objects written with a single batch write by {@link #insertAll(Flux, String)} and
+	 * {@link #saveAll(Flux, String)}. Defaults to {@literal 1000}.
+	 *
+	 * @param writeBatchSize must be greater than zero.
+	 */
+	public void setWriteBatchSize(int writeBatchSize) {
+
+		Assert.isTrue(writeBatchSize > 0, "Write batch size must be greater than zero!");
+		this.writeBatchSize = writeBatchSize;
+	}
+
+	/**
+	 * Configures the maximum time {@link #insertAll(Flux, String)} and {@link #saveAll(Flux, String)} collect objects
+	 * before writing a batch that has not been filled. Setting {@literal null} will reset the default of
+	 * {@literal 100} milliseconds.
+	 *
+	 * @param writeBatchTimeout can be {@literal null}.
+	 */
+	public void setWriteBatchTimeout(Duration writeBatchTimeout) {
+		this.writeBatchTimeout = writeBatchTimeout == null ? DEFAULT_WRITE_BATCH_TIMEOUT : writeBatchTimeout;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -268,6 +423,7 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		prepareIndexCreator(applicationContext);
 
 		eventPublisher = applicationContext;
+		eventDelegate.setPublisher(eventPublisher);
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
@@ -324,6 +480,35 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return this.determineCollectionName(entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#bulkOps(org.springframework.data.mongodb.core.BulkOperations.BulkMode, java.lang.String)
+	 */
+	public ReactiveBulkOperations bulkOps(BulkMode bulkMode, String collectionName) {
+		return bulkOps(bulkMode, null, collectionName);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#bulkOps(org.springframework.data.mongodb.core.BulkOperations.BulkMode, java.lang.Class)
+	 */
+	public ReactiveBulkOperations bulkOps(BulkMode bulkMode, Class<?> entityClass) {
+		return bulkOps(bulkMode, entityClass, determineCollectionName(entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#bulkOps(org.springframework.data.mongodb.core.BulkOperations.BulkMode, java.lang.Class, java.lang.String)
+	 */
+	public ReactiveBulkOperations bulkOps(BulkMode mode, Class<?> entityType, String collectionName) {
+
+		Assert.notNull(mode, "BulkMode must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		DefaultReactiveBulkOperations operations = new DefaultReactiveBulkOperations(this, mode, collectionName,
+				entityType);
+		operations.setDefaultWriteConcern(writeConcern);
+
+		return operations;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#executeCommand(java.lang.String)
 	 */
@@ -816,23 +1001,32 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		assertUpdateableIdIfNotSet(objectToSave);
 
-		return Mono.defer(() -> {
+		return withTimer(OperationTimer.INSERT, collectionName, 0, timer -> Mono.defer(() -> {
 
 			initializeVersionProperty(objectToSave);
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			if (isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			}
 
+			long mark = timer.mark();
 			Document dbDoc = toDbObject(objectToSave, writer);
+			timer.converted(mark);
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			if (isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			}
 
 			Mono<T> afterInsert = insertDBObject(collectionName, dbDoc, objectToSave.getClass()).flatMap(id -> {
 				populateIdIfNecessary(objectToSave, id);
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+					maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				}
+				timer.documents(1);
 				return Mono.just(objectToSave);
 			});
 
 			return afterInsert;
-		});
+		}));
 	}
 
 	/* (non-Javadoc)
@@ -864,6 +1058,19 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return Flux.from(objectsToSave).flatMap(this::insertAll);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#insertAll(reactor.core.publisher.Flux, java.lang.String)
+	 */
+	@Override
+	public <T> Flux<T> insertAll(Flux<? extends T> objectsToSave, String collectionName) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return objectsToSave.bufferTimeout(writeBatchSize, writeBatchTimeout)
+				.concatMap(batch -> this.<T> doInsertBatch(collectionName, batch, this.mongoConverter));
+	}
+
 	protected <T> Flux<T> doInsertAll(Collection<? extends T> listToSave, MongoWriter<Object> writer) {
 
 		final Map<String, List<T>> elementsByCollection = new HashMap<String, List<T>>();
@@ -891,17 +1098,30 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		Assert.notNull(writer, "MongoWriter must not be null!");
 
+		return withTimerMany(OperationTimer.INSERT, collectionName, 0,
+				timer -> doInsertBatch(collectionName, batchToSave, writer, timer));
+	}
+
+	private <T> Flux<T> doInsertBatch(final String collectionName, final Collection<? extends T> batchToSave,
+			final MongoWriter<Object> writer, OperationTimer timer) {
+
 		Mono<List<Tuple2<T, Document>>> prepareDocuments = Flux.fromIterable(batchToSave)
 				.flatMap(new Function<T, Flux<Tuple2<T, Document>>>() {
 					@Override
 					public Flux<Tuple2<T, Document>> apply(T o) {
 
 						initializeVersionProperty(o);
-						maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+						if (isEventRequired(BeforeConvertEvent.class, o.getClass())) {
+							maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+						}
 
+						long mark = timer.mark();
 						Document dbDoc = toDbObject(o, writer);
+						timer.converted(mark);
 
-						maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
+						if (isEventRequired(BeforeSaveEvent.class, o.getClass())) {
+							maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
+						}
 						return Flux.zip(Mono.just(o), Mono.just(dbDoc));
 					}
 				}).collectList();
@@ -916,7 +1136,10 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return insertDocuments.map(tuple -> {
 
 			populateIdIfNecessary(tuple.getT1(), tuple.getT2().get(ID_FIELD));
-			maybeEmitEvent(new AfterSaveEvent<T>(tuple.getT1(), tuple.getT2(), collectionName));
+			if (isEventRequired(AfterSaveEvent.class, tuple.getT1().getClass())) {
+				maybeEmitEvent(new AfterSaveEvent<T>(tuple.getT1(), tuple.getT2(), collectionName));
+			}
+			timer.documents(1);
 			return tuple.getT1();
 		});
 	}
@@ -937,6 +1160,19 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		return objectToSave.flatMap(o -> save(o, collectionName));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#saveAll(reactor.core.publisher.Flux, java.lang.String)
+	 */
+	@Override
+	public <T> Flux<T> saveAll(Flux<? extends T> objectsToSave, String collectionName) {
+
+		Assert.notNull(objectsToSave, "Objects to save must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return objectsToSave.bufferTimeout(writeBatchSize, writeBatchTimeout)
+				.concatMap(batch -> this.<T> doSaveBatch(collectionName, batch, this.mongoConverter));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#save(java.lang.Object)
 	 */
@@ -995,35 +1231,118 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			// Bump version number
 			convertingAccessor.setProperty(versionProperty, Optional.of(versionNumber.orElse(0).longValue() + 1));
 
-			ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			if (ReactiveMongoTemplate.this.isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+				ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			}
 
 			Document document = ReactiveMongoTemplate.this.toDbObject(objectToSave, mongoConverter);
 
-			ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			if (ReactiveMongoTemplate.this.isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+				ReactiveMongoTemplate.this.maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, document, collectionName));
+			}
 			Update update = Update.fromDocument(document, ID_FIELD);
 
 			return doUpdate(collectionName, query, update, objectToSave.getClass(), false, false).map(updateResult -> {
 
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+				if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+					maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, document, collectionName));
+				}
 				return objectToSave;
 			});
 		});
 	}
 
+	/**
+	 * Save the given batch of objects using a single ordered bulk write that inserts objects without an id and replaces
+	 * (upserts) objects with an id. Falls back to saving objects one by one if the batch contains a versioned entity.
+	 *
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param batchToSave must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return the saved objects in the order of the given batch.
+	 */
+	protected <T> Flux<T> doSaveBatch(String collectionName, Collection<? extends T> batchToSave,
+			MongoWriter<Object> writer) {
+
+		Assert.notNull(writer, "MongoWriter must not be null!");
+
+		if (batchToSave.isEmpty()) {
+			return Flux.empty();
+		}
+
+		boolean containsVersionedEntity = batchToSave.stream().map(o -> getPersistentEntity(o.getClass()))
+				.anyMatch(entity -> entity != null && entity.hasVersionProperty());
+
+		if (containsVersionedEntity) {
+			return Flux.fromIterable(batchToSave).concatMap(o -> save(o, collectionName));
+		}
+
+		return Flux.defer(() -> {
+
+			List<Tuple2<T, Document>> tuples = new ArrayList<>(batchToSave.size());
+			List<WriteModel<Document>> models = new ArrayList<>(batchToSave.size());
+
+			for (T o : batchToSave) {
+
+				assertUpdateableIdIfNotSet(o);
+				if (isEventRequired(BeforeConvertEvent.class, o.getClass())) {
+					maybeEmitEvent(new BeforeConvertEvent<T>(o, collectionName));
+				}
+				Document dbDoc = toDbObject(o, writer);
+				if (isEventRequired(BeforeSaveEvent.class, o.getClass())) {
+					maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc, collectionName));
+				}
+
+				models.add(dbDoc.containsKey(ID_FIELD)
+						? new ReplaceOneModel<>(Filters.eq(ID_FIELD, dbDoc.get(ID_FIELD)), dbDoc, new UpdateOptions().upsert(true))
+						: new InsertOneModel<>(dbDoc));
+				tuples.add(Tuples.of(o, dbDoc));
+			}
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Saving list of Documents containing " + models.size() + " items");
+			}
+
+			Flux<Tuple2<T, Document>> saveDocuments = execute(collectionName, collection -> {
+
+				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, null, null,
+						null);
+				WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+
+				return prepareCollection(collection, writeConcernToUse).bulkWrite(models, new BulkWriteOptions().ordered(true));
+			}).thenMany(Flux.fromIterable(tuples));
+
+			return saveDocuments.map(tuple -> {
+
+				populateIdIfNecessary(tuple.getT1(), tuple.getT2().get(ID_FIELD));
+				if (isEventRequired(AfterSaveEvent.class, tuple.getT1().getClass())) {
+					maybeEmitEvent(new AfterSaveEvent<T>(tuple.getT1(), tuple.getT2(), collectionName));
+				}
+				return tuple.getT1();
+			});
+		});
+	}
+
 	protected <T> Mono<T> doSave(String collectionName, T objectToSave, MongoWriter<Object> writer) {
 
 		assertUpdateableIdIfNotSet(objectToSave);
 
 		return createMono(collectionName, collection -> {
 
-			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			if (isEventRequired(BeforeConvertEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave, collectionName));
+			}
 			Document dbDoc = toDbObject(objectToSave, writer);
-			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			if (isEventRequired(BeforeSaveEvent.class, objectToSave.getClass())) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc, collectionName));
+			}
 
 			return saveDocument(collectionName, dbDoc, objectToSave.getClass()).map(id -> {
 
 				populateIdIfNecessary(objectToSave, id);
-				maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				if (isEventRequired(AfterSaveEvent.class, objectToSave.getClass())) {
+					maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc, collectionName));
+				}
 				return objectToSave;
 			});
 		});
@@ -1417,7 +1736,9 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		return execute(collectionName, collection -> {
 
-			maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+			if (isEventRequired(BeforeDeleteEvent.class, entityClass)) {
+				maybeEmitEvent(new BeforeDeleteEvent<T>(queryObject, entityClass, collectionName));
+			}
 
 			Document dboq = queryMapper.getMappedObject(queryObject, entity);
 
@@ -1439,7 +1760,11 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 			return collectionToUse.deleteMany(dboq);
 
-		}).doOnNext(deleteResult -> maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName)))
+		}).doOnNext(deleteResult -> {
+			if (isEventRequired(AfterDeleteEvent.class, entityClass)) {
+				maybeEmitEvent(new AfterDeleteEvent<T>(queryObject, entityClass, collectionName));
+			}
+		})
 				.next();
 	}
 
@@ -1505,6 +1830,249 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 				new TailingQueryFindPublisherPreparer(query, entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#tail(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.TailOptions, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> tail(Query query, TailOptions options, Class<T> entityClass) {
+		return tail(query, options, entityClass, determineCollectionName(entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#tail(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.TailOptions, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Flux<T> tail(Query query, TailOptions options, Class<T> entityClass, String collectionName) {
+
+		Assert.notNull(options, "TailOptions must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		Query queryToUse = query != null ? query : new Query();
+		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+
+		Document mappedQuery = queryMapper.getMappedObject(queryToUse.getQueryObject(), entity);
+		Document mappedFields = queryMapper.getMappedFields(queryToUse.getFieldsObject(), entity);
+		String resumeKey = queryMapper.getMappedFields(new Document(options.getResumeKey(), 1), entity).keySet().iterator()
+				.next();
+
+		if (!mappedFields.isEmpty() && !mappedFields.containsKey(resumeKey) && !mappedFields.containsValue(0)) {
+			mappedFields.put(resumeKey, 1);
+		}
+
+		return Flux.defer(() -> {
+
+			AtomicReference<Object> lastSeen = new AtomicReference<>();
+			AtomicLong emitted = new AtomicLong();
+			AtomicLong restarts = new AtomicLong();
+			ReadDocumentCallback<T> readCallback = new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName);
+
+			Flux<T> cursor = executeFindMultiInternal(
+					collection -> new FindCallback(resumeQuery(mappedQuery, resumeKey, lastSeen.get()), mappedFields)
+							.doInCollection(collection),
+					new ResumingTailFindPublisherPreparer(queryToUse, entityClass, emitted), document -> {
+
+						// advance only once converted so that a restart reads a document failing to convert again
+						T result = readCallback.doWith(document);
+
+						lastSeen.set(getValue(document, resumeKey));
+						emitted.incrementAndGet();
+						restarts.set(0);
+						return result;
+					}, collectionName);
+
+			Flux<T> tail = cursor //
+					.retryWhen(errors -> errors.concatMap(error -> isTransientCursorError(error) //
+							? restart(options, restarts, error) //
+							: Mono.error(error))) //
+					.repeatWhen(completions -> completions.takeWhile(it -> restarts.get() < options.getMaxRestarts())
+							.concatMap(it -> restart(options, restarts, null)));
+
+			return queryToUse.getLimit() > 0 ? tail.take(queryToUse.getLimit()) : tail;
+		});
+	}
+
+	private static Mono<Long> restart(TailOptions options, AtomicLong restarts, Throwable error) {
+
+		long attempt = restarts.incrementAndGet();
+
+		if (attempt > options.getMaxRestarts()) {
+			return error != null ? Mono.error(error) : Mono.empty();
+		}
+
+		if (error != null) {
+			LOGGER.warn(String.format("Tailable cursor failed with %s, restarting (attempt %d).", error.getMessage(),
+					attempt));
+		} else if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Tailable cursor completed, restarting (attempt %d).", attempt));
+		}
+
+		return Mono.delay(options.getBackoff(attempt));
+	}
+
+	/**
+	 * Returns whether the given error is caused by the cursor dying for reasons unrelated to the query itself, i.e. the
+	 * cursor got killed or lost its position, the server is not (or no longer) primary or the connection failed.
+	 *
+	 * @param error can be {@literal null}.
+	 * @return
+	 */
+	static boolean isTransientCursorError(Throwable error) {
+
+		for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+
+			if (cause instanceof MongoSocketException || cause instanceof MongoCursorNotFoundException
+					|| cause instanceof MongoNotPrimaryException || cause instanceof MongoNodeIsRecoveringException) {
+				return true;
+			}
+
+			if (cause instanceof MongoException
+					&& TRANSIENT_CURSOR_ERROR_CODES.contains(((MongoException) cause).getCode())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Document resumeQuery(Document query, String resumeKey, Object lastSeen) {
+
+		if (lastSeen == null) {
+			return query;
+		}
+
+		Document resumeAfter = new Document(resumeKey, new Document("$gt", lastSeen));
+		return query.isEmpty() ? resumeAfter : new Document("$and", Arrays.asList(query, resumeAfter));
+	}
+
+	private static Object getValue(Document document, String path) {
+
+		Object value = document;
+		for (String segment : path.split("\\.")) {
+
+			if (!(value instanceof Document)) {
+				return null;
+			}
+			value = ((Document) value).get(segment);
+		}
+
+		return value;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#changeStream(org.springframework.data.mongodb.core.ChangeStreamOptions, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<ChangeEvent<T>> changeStream(ChangeStreamOptions options, Class<T> entityClass) {
+		return changeStream(options, entityClass, determineCollectionName(entityClass));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.ReactiveMongoOperations#changeStream(org.springframework.data.mongodb.core.ChangeStreamOptions, java.lang.Class, java.lang.String)
+	 */
+	@Override
+	public <T> Flux<ChangeEvent<T>> changeStream(ChangeStreamOptions options, Class<T> entityClass,
+			String collectionName) {
+
+		Assert.notNull(options, "ChangeStreamOptions must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
+		ReadDocumentCallback<T> readCallback = new ReadDocumentCallback<T>(mongoConverter, entityClass, collectionName);
+
+		return Flux.defer(() -> {
+
+			AtomicReference<Document> resumeToken = new AtomicReference<>(options.getResumeToken().orElse(null));
+			AtomicBoolean resumed = new AtomicBoolean();
+
+			Flux<Document> events = createFlux(collectionName,
+					collection -> collection.aggregate(createChangeStreamPipeline(options, resumeToken.get(), entity)));
+
+			return events.map(event -> {
+
+				Document fullDocument = event.get("fullDocument", Document.class);
+				ChangeEvent<T> changeEvent = new ChangeEvent<T>(event,
+						fullDocument == null ? null : readCallback.doWith(fullDocument));
+
+				// advance only once converted so that resuming does not skip an event failing to convert
+				Object token = event.get("_id");
+				if (token instanceof Document) {
+					resumeToken.set((Document) token);
+				}
+
+				resumed.set(false);
+				return changeEvent;
+			}).retryWhen(errors -> errors.concatMap(error -> isTransientCursorError(error) && !resumed.getAndSet(true) //
+					? Mono.just(error) //
+					: Mono.error(error)));
+		});
+	}
+
+	private List<Document> createChangeStreamPipeline(ChangeStreamOptions options, Document resumeToken,
+			MongoPersistentEntity<?> entity) {
+
+		Document changeStream = new Document();
+		if (resumeToken != null) {
+			changeStream.put("resumeAfter", resumeToken);
+		}
+		options.getFullDocument().ifPresent(it -> changeStream.put("fullDocument", it));
+
+		List<Document> pipeline = new ArrayList<>(2);
+		pipeline.add(new Document("$changeStream", changeStream));
+
+		options.getFilter().map(it -> queryMapper.getMappedObject(it, entity)) //
+				.ifPresent(it -> pipeline.add(new Document("$match", prefixChangeStreamFilter(it))));
+
+		return pipeline;
+	}
+
+	/**
+	 * Resolve the fields of the given mapped filter against the {@literal fullDocument} of the change event unless they
+	 * refer to a property of the event itself. The identifier is resolved against the {@literal documentKey} which is
+	 * also present for delete events.
+	 *
+	 * @param filter
+	 * @return
+	 */
+	private static Document prefixChangeStreamFilter(Document filter) {
+
+		Document prefixed = new Document();
+
+		for (Entry<String, Object> entry : filter.entrySet()) {
+
+			String key = entry.getKey();
+			Object value = entry.getValue();
+
+			if (key.startsWith("$")) {
+
+				if (value instanceof List) {
+
+					List<Object> values = new ArrayList<>();
+					for (Object element : (List<?>) value) {
+						values.add(element instanceof Document ? prefixChangeStreamFilter((Document) element) : element);
+					}
+					value = values;
+				}
+
+				prefixed.put(key, value);
+				continue;
+			}
+
+			String root = key.split("\\.")[0];
+
+			if (CHANGE_EVENT_FIELDS.contains(root)) {
+				prefixed.put(key, value);
+			} else if (ID_FIELD.equals(root)) {
+				prefixed.put("documentKey." + key, value);
+			} else {
+				prefixed.put("fullDocument." + key, value);
+			}
+		}
+
+		return prefixed;
+	}
+
 	/**
 	 * Retrieve and remove all documents matching the given {@code query} by calling {@link #find(Query, Class, String)}
 	 * and {@link #remove(Query, Class, String)}, whereas the {@link Query} for {@link #remove(Query, Class, String)} is
@@ -1557,17 +2125,26 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	protected <T> Mono<T> doFindOne(String collectionName, Document query, Document fields, Class<T> entityClass,
 			Collation collation) {
 
+		long mark = markQueryMapping();
 		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
+		Document fieldsToUse = deriveFieldProjections
+				? EntityFieldProjection.deriveIfAbsent(fields, entity, mongoConverter.getTypeMapper()) : fields;
 		Document mappedQuery = queryMapper.getMappedObject(query, entity);
-		Document mappedFields = fields == null ? null : queryMapper.getMappedObject(fields, entity);
+		Document mappedFields = fieldsToUse == null ? null : queryMapper.getMappedObject(fieldsToUse, entity);
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(String.format("findOne using query: %s fields: %s for class: %s in collection: %s",
 					serializeToJsonSafely(query), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, collation),
-				new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
+		return withTimer(OperationTimer.FIND_ONE, collectionName, mark,
+				timer -> {
+
+					timer.query(mappedQuery);
+					return executeFindOneInternal(new FindOneCallback(mappedQuery, mappedFields, collation),
+							timer.timeConversion(new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName)),
+							collectionName);
+				});
 	}
 
 	/**
@@ -1607,9 +2184,12 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	protected <S, T> Flux<T> doFind(String collectionName, Document query, Document fields, Class<S> entityClass,
 			FindPublisherPreparer preparer, DocumentCallback<T> objectCallback) {
 
+		long mark = markQueryMapping();
 		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
 
-		Document mappedFields = queryMapper.getMappedFields(fields, entity);
+		Document fieldsToUse = deriveFieldProjections
+				? EntityFieldProjection.deriveIfAbsent(fields, entity, mongoConverter.getTypeMapper()) : fields;
+		Document mappedFields = queryMapper.getMappedFields(fieldsToUse, entity);
 		Document mappedQuery = queryMapper.getMappedObject(query, entity);
 
 		if (LOGGER.isDebugEnabled()) {
@@ -1617,8 +2197,20 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 					serializeToJsonSafely(mappedQuery), mappedFields, entityClass, collectionName));
 		}
 
-		return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
-				collectionName);
+		if (preparer instanceof TailingQueryFindPublisherPreparer) {
+
+			// tailable cursors wait for new documents rather than for the database to execute the query
+			return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer, objectCallback,
+					collectionName);
+		}
+
+		return withTimerMany(OperationTimer.FIND, collectionName, mark,
+				timer -> {
+
+					timer.query(mappedQuery);
+					return executeFindMultiInternal(new FindCallback(mappedQuery, mappedFields), preparer,
+							timer.timeConversion(objectCallback), collectionName);
+				});
 	}
 
 	protected CreateCollectionOptions convertToCreateCollectionOptions(CollectionOptions collectionOptions) {
@@ -1675,12 +2267,15 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		Optional<? extends MongoPersistentEntity<?>> entity = mappingContext.getPersistentEntity(entityClass);
 
-		return Mono.defer(() -> {
+		return withTimer(OperationTimer.FIND_AND_MODIFY, collectionName, 0, timer -> Mono.defer(() -> {
 
+			long mark = timer.mark();
 			increaseVersionForUpdateIfNecessary(entity.get(), update);
 
 			Document mappedQuery = queryMapper.getMappedObject(query, entity);
 			Document mappedUpdate = updateMapper.getMappedObject(update.getUpdateObject(), entity);
+			timer.queryMapped(mark);
+			timer.query(mappedQuery);
 
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug(String.format(
@@ -1690,14 +2285,103 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			}
 
 			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, mappedUpdate, optionsToUse),
-					new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName), collectionName);
-		});
+					timer.timeConversion(new ReadDocumentCallback<T>(this.mongoConverter, entityClass, collectionName)),
+					collectionName);
+		}));
 	}
 
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
-		if (null != eventPublisher) {
-			eventPublisher.publishEvent(event);
+		eventDelegate.publishEvent(event);
+	}
+
+	/**
+	 * Returns whether a {@link MongoMappingEvent} of the given type for the given domain type would reach any listener.
+	 * Used to avoid creating events nobody listens to.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private boolean isEventRequired(Class<?> eventType, Class<?> domainType) {
+		return eventDelegate.isEventRequired(eventType, domainType);
+	}
+
+	/**
+	 * @return the current time to measure query mapping done at assembly time from, {@literal 0} if operations are not
+	 *         measured.
+	 */
+	private long markQueryMapping() {
+		return operationMetricsRecorder == null && slowOperationRecorder == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Measures the given operation if an {@link OperationMetricsRecorder} or a slow operation recorder is configured.
+	 * Only the time the operation waits for the database is measured, time spent in downstream operators and waiting for
+	 * demand is excluded.
+	 *
+	 * @param operation the name of the operation.
+	 * @param collectionName the collection name.
+	 * @param queryMappingStart obtained via {@link #markQueryMapping()} if the query was mapped at assembly time,
+	 *          {@literal 0} otherwise.
+	 * @param execution creates the operation to measure.
+	 * @return
+	 */
+	private <T> Mono<T> withTimer(String operation, String collectionName, long queryMappingStart,
+			Function<OperationTimer, Mono<T>> execution) {
+
+		OperationMetricsRecorder recorder = this.operationMetricsRecorder;
+		OperationMetricsRecorder slowRecorder = this.slowOperationRecorder;
+		long slowThresholdNanos = this.slowOperationThreshold.toNanos();
+
+		if (recorder == null && slowRecorder == null) {
+			return execution.apply(OperationTimer.NONE);
+		}
+
+		long queryMappingNanos = queryMappingStart == 0 ? 0 : System.nanoTime() - queryMappingStart;
+
+		return Mono.defer(() -> {
+
+			OperationTimer timer = OperationTimer.start(recorder, slowRecorder, slowThresholdNanos, operation,
+					collectionName);
+			timer.addPriorQueryMappingTime(queryMappingNanos);
+
+			return OperationTimingSubscriber.measure(execution.apply(timer), timer) //
+					.doOnError(e -> timer.failed()) //
+					.doFinally(signal -> timer.stop());
+		});
+	}
+
+	/**
+	 * Measures the given operation if an {@link OperationMetricsRecorder} or a slow operation recorder is configured.
+	 * Only the time the operation waits for the database is measured, time spent in downstream operators and waiting for
+	 * demand is excluded.
+	 *
+	 * @see OperationTimingSubscriber
+	 * @see #withTimer(String, String, long, Function)
+	 */
+	private <T> Flux<T> withTimerMany(String operation, String collectionName, long queryMappingStart,
+			Function<OperationTimer, Flux<T>> execution) {
+
+		OperationMetricsRecorder recorder = this.operationMetricsRecorder;
+		OperationMetricsRecorder slowRecorder = this.slowOperationRecorder;
+		long slowThresholdNanos = this.slowOperationThreshold.toNanos();
+
+		if (recorder == null && slowRecorder == null) {
+			return execution.apply(OperationTimer.NONE);
 		}
+
+		long queryMappingNanos = queryMappingStart == 0 ? 0 : System.nanoTime() - queryMappingStart;
+
+		return Flux.defer(() -> {
+
+			OperationTimer timer = OperationTimer.start(recorder, slowRecorder, slowThresholdNanos, operation,
+					collectionName);
+			timer.addPriorQueryMappingTime(queryMappingNanos);
+
+			return OperationTimingSubscriber.measure(execution.apply(timer), timer) //
+					.doOnError(e -> timer.failed()) //
+					.doFinally(signal -> timer.stop());
+		});
 	}
 
 	/**
@@ -1834,6 +2518,8 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 	 * <li>Execute the given {@link ReactiveCollectionCallback} for a {@link FindPublisher}.</li>
 	 * <li>Prepare that {@link FindPublisher} with the given {@link FindPublisherPreparer} (will be skipped if
 	 * {@link FindPublisherPreparer} is {@literal null}</li>
+	 * <li>Bound the demand signalled to the {@link FindPublisher} if a {@link #setReadPrefetch(int) read prefetch} is
+	 * configured.</li>
 	 * <li>Apply the given {@link DocumentCallback} in {@link Flux#map(Function)} of {@link FindPublisher}</li>
 	 * <ol>
 	 *
@@ -1855,10 +2541,26 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 			if (preparer != null) {
 				findPublisher = preparer.prepare(findPublisher);
 			}
-			return Flux.from(findPublisher).map(objectCallback::doWith);
+			return potentiallyBoundDemand(Flux.from(findPublisher)).map(objectCallback::doWith);
 		});
 	}
 
+	/**
+	 * Limits the demand signalled upstream to the configured {@link #setReadPrefetch(int) read prefetch} and moves
+	 * emission onto the {@link #setReadScheduler(Scheduler) read scheduler}, if configured.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @return
+	 */
+	private Flux<Document> potentiallyBoundDemand(Flux<Document> documents) {
+
+		if (readPrefetch <= 0) {
+			return documents;
+		}
+
+		return readScheduler != null ? documents.publishOn(readScheduler, readPrefetch) : documents.limitRate(readPrefetch);
+	}
+
 	private <T> T execute(MongoDatabaseCallback<T> action) {
 
 		Assert.notNull(action, "MongoDatabaseCallback must not be null!");
@@ -2222,11 +2924,15 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 
 		public T doWith(Document object) {
 			if (null != object) {
-				maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				if (isEventRequired(AfterLoadEvent.class, type)) {
+					maybeEmitEvent(new AfterLoadEvent<T>(object, type, collectionName));
+				}
 			}
 			T source = reader.read(type, object);
 			if (null != source) {
-				maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				if (isEventRequired(AfterConvertEvent.class, source.getClass())) {
+					maybeEmitEvent(new AfterConvertEvent<T>(object, source, collectionName));
+				}
 			}
 			return source;
 		}
@@ -2344,6 +3050,41 @@ public class ReactiveMongoTemplate implements ReactiveMongoOperations, Applicati
 		}
 	}
 
+	/**
+	 * {@link TailingQueryFindPublisherPreparer} for cursors reopened after the last emitted document. The skip only
+	 * applies to the initial cursor, reopened cursors are limited to the documents remaining to reach the limit.
+	 */
+	class ResumingTailFindPublisherPreparer extends TailingQueryFindPublisherPreparer {
+
+		private final Query query;
+		private final AtomicLong emitted;
+
+		ResumingTailFindPublisherPreparer(Query query, Class<?> type, AtomicLong emitted) {
+
+			super(query, type);
+
+			this.query = query;
+			this.emitted = emitted;
+		}
+
+		@Override
+		public <T> FindPublisher<T> prepare(FindPublisher<T> findPublisher) {
+
+			FindPublisher<T> prepared = super.prepare(findPublisher);
+			long emitted = this.emitted.get();
+
+			if (emitted == 0) {
+				return prepared;
+			}
+
+			if (query.getSkip() > 0) {
+				prepared = prepared.skip(0);
+			}
+
+			return query.getLimit() > 0 ? prepared.limit((int) (query.getLimit() - emitted)) : prepared;
+		}
+	}
+
 	private static List<? extends Document> toDocuments(final Collection<? extends Document> documents) {
 		return new ArrayList<>(documents);
 	}
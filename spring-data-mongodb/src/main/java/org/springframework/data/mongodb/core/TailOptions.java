@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for resumable tailable cursors. A resumable tail keeps track of the {@link #getResumeKey() resume key} of
+ * the last emitted document and transparently reopens the cursor after that document once the cursor dies, e.g.
+ * because it was killed, the primary stepped down, the connection failed or the capped collection wrapped around.
+ * Reopening is delayed using an exponential backoff between {@link #getMinBackoff()} and {@link #getMaxBackoff()}. Any
+ * other error, e.g. caused by an invalid query, a collection that is not capped or a document that cannot be converted,
+ * is propagated right away.
+ * <p>
+ * The resume key must be increasing in insertion order, which holds for the default {@literal _id} when using
+ * {@link org.bson.types.ObjectId}s generated by a single client.
+ *
+ * @since 2.0
+ * @see ReactiveMongoOperations#tail(org.springframework.data.mongodb.core.query.Query, TailOptions, Class)
+ */
+public class TailOptions {
+
+	public static final long DEFAULT_MAX_RESTARTS = 10;
+
+	private static final TailOptions DEFAULT = builder().build();
+
+	private String resumeKey;
+	private long maxRestarts;
+	private Duration minBackoff;
+	private Duration maxBackoff;
+
+	private TailOptions() {}
+
+	/**
+	 * @return {@link TailOptions} resuming on {@literal _id} with up to {@link #DEFAULT_MAX_RESTARTS} consecutive
+	 *         restarts, backing off from {@literal 100ms} up to {@literal 10s}.
+	 */
+	public static TailOptions resumable() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return a new {@link TailOptionsBuilder}.
+	 */
+	public static TailOptionsBuilder builder() {
+		return new TailOptionsBuilder();
+	}
+
+	/**
+	 * @return the property (or field) name used to resume the tail. Never {@literal null}.
+	 */
+	public String getResumeKey() {
+		return resumeKey;
+	}
+
+	/**
+	 * @return the maximum number of consecutive restarts without receiving a document in between.
+	 */
+	public long getMaxRestarts() {
+		return maxRestarts;
+	}
+
+	/**
+	 * @return the delay before the first restart. Never {@literal null}.
+	 */
+	public Duration getMinBackoff() {
+		return minBackoff;
+	}
+
+	/**
+	 * @return the upper bound for the delay between restarts. Never {@literal null}.
+	 */
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * Compute the delay before the given restart attempt.
+	 *
+	 * @param attempt the {@literal 1}-based number of consecutive restarts.
+	 * @return the delay to apply.
+	 */
+	Duration getBackoff(long attempt) {
+
+		Duration backoff = minBackoff;
+		for (long i = 1; i < attempt && !backoff.isZero() && backoff.compareTo(maxBackoff) < 0; i++) {
+			backoff = backoff.multipliedBy(2);
+		}
+
+		return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+	}
+
+	/**
+	 * Builder for {@link TailOptions}.
+	 *
+	 * @since 2.0
+	 */
+	public static class TailOptionsBuilder {
+
+		private String resumeKey = "_id";
+		private long maxRestarts = DEFAULT_MAX_RESTARTS;
+		private Duration minBackoff = Duration.ofMillis(100);
+		private Duration maxBackoff = Duration.ofSeconds(10);
+
+		private TailOptionsBuilder() {}
+
+		/**
+		 * Set the property (or field) name whose value is tracked to resume the tail. Defaults to {@literal _id}.
+		 *
+		 * @param resumeKey must not be {@literal null} or empty.
+		 * @return this.
+		 */
+		public TailOptionsBuilder resumeKey(String resumeKey) {
+
+			Assert.hasText(resumeKey, "ResumeKey must not be null or empty!");
+
+			this.resumeKey = resumeKey;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of consecutive restarts before the error is propagated (or the stream is completed).
+		 * The counter is reset whenever a document is received. Defaults to {@link TailOptions#DEFAULT_MAX_RESTARTS}.
+		 *
+		 * @param maxRestarts must not be negative.
+		 * @return this.
+		 */
+		public TailOptionsBuilder maxRestarts(long maxRestarts) {
+
+			Assert.isTrue(maxRestarts >= 0, "MaxRestarts must not be negative!");
+
+			this.maxRestarts = maxRestarts;
+			return this;
+		}
+
+		/**
+		 * Set the exponential backoff applied between consecutive restarts.
+		 *
+		 * @param minBackoff the delay before the first restart, must not be {@literal null} or negative.
+		 * @param maxBackoff the upper bound for the delay, must not be {@literal null} or less than {@code minBackoff}.
+		 * @return this.
+		 */
+		public TailOptionsBuilder backoff(Duration minBackoff, Duration maxBackoff) {
+
+			Assert.notNull(minBackoff, "MinBackoff must not be null!");
+			Assert.notNull(maxBackoff, "MaxBackoff must not be null!");
+			Assert.isTrue(!minBackoff.isNegative(), "MinBackoff must not be negative!");
+			Assert.isTrue(maxBackoff.compareTo(minBackoff) >= 0, "MaxBackoff must not be less than MinBackoff!");
+
+			this.minBackoff = minBackoff;
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		/**
+		 * @return the built {@link TailOptions}.
+		 */
+		public TailOptions build() {
+
+			TailOptions options = new TailOptions();
+			options.resumeKey = resumeKey;
+			options.maxRestarts = maxRestarts;
+			options.minBackoff = minBackoff;
+			options.maxBackoff = maxBackoff;
+			return options;
+		}
+	}
+}
@@ -20,9 +20,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.springframework.data.convert.ConfigurableTypeInformationMapper;
 import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.SimpleTypeInformationMapper;
 import org.springframework.data.convert.TypeAliasAccessor;
@@ -31,17 +33,21 @@ import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.Pair;
 import org.springframework.data.util.TypeInformation;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.DBObject;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
  * Default implementation of {@link MongoTypeMapper} allowing configuration of the key to lookup and store type
  * information in {@link Document}. The key defaults to {@link #DEFAULT_TYPE_KEY}. Actual type-to-{@link String}
  * conversion and back is done in {@link #getTypeString(TypeInformation)} or {@link #getTypeInformation(String)}
- * respectively.
+ * respectively. Aliases written for a type and types read for an alias are cached so that repeated type resolution for
+ * the same types boils down to a single map lookup. If configured with a {@link TypeAliasRegistry}, compact aliases
+ * are written instead of class names while documents carrying class names remain readable.
  * 
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -58,6 +64,9 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 
 	private final TypeAliasAccessor<Bson> accessor;
 	private final String typeKey;
+	private final TypeAliasRegistry typeAliasRegistry;
+	private final Map<TypeInformation<?>, Alias> aliasCache = new ConcurrentHashMap<>();
+	private final Map<Pair<TypeInformation<?>, Object>, TypeInformation<?>> typeCache = new ConcurrentHashMap<>();
 
 	public DefaultMongoTypeMapper() {
 		this(DEFAULT_TYPE_KEY);
@@ -69,21 +78,58 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 
 	public DefaultMongoTypeMapper(String typeKey, MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
 		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext,
-				Arrays.asList(new SimpleTypeInformationMapper()));
+				Arrays.asList(new SimpleTypeInformationMapper()), null);
+	}
+
+	/**
+	 * Creates a new {@link DefaultMongoTypeMapper} writing the given, usually short, aliases for the configured types
+	 * instead of their fully qualified class names. Types without a configured alias fall back to their
+	 * {@link org.springframework.data.annotation.TypeAlias} or class name.
+	 *
+	 * @param typeKey the key to store type information under, can be {@literal null} to not store type information.
+	 * @param mappingContext can be {@literal null}.
+	 * @param typeAliases must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public DefaultMongoTypeMapper(String typeKey, MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext,
+			Map<? extends Class<?>, String> typeAliases) {
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext, Arrays.asList(
+				new ConfigurableTypeInformationMapper(typeAliases), new SimpleTypeInformationMapper()), null);
+	}
+
+	/**
+	 * Creates a new {@link DefaultMongoTypeMapper} writing the compact aliases of the given {@link TypeAliasRegistry}
+	 * instead of fully qualified class names. Aliases defined via {@link org.springframework.data.annotation.TypeAlias}
+	 * are kept. Documents carrying class names, e.g. written before compact aliases were enabled, are still read and
+	 * matched by type restrictions.
+	 *
+	 * @param typeKey the key to store type information under, can be {@literal null} to not store type information.
+	 * @param mappingContext can be {@literal null}.
+	 * @param typeAliasRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public DefaultMongoTypeMapper(String typeKey, MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext,
+			TypeAliasRegistry typeAliasRegistry) {
+
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), mappingContext,
+				Arrays.asList(new SimpleTypeInformationMapper()), typeAliasRegistry);
+
+		Assert.notNull(typeAliasRegistry, "TypeAliasRegistry must not be null!");
 	}
 
 	public DefaultMongoTypeMapper(String typeKey, List<? extends TypeInformationMapper> mappers) {
-		this(typeKey, new DocumentTypeAliasAccessor(typeKey), null, mappers);
+		this(typeKey, new DocumentTypeAliasAccessor(typeKey), null, mappers, null);
 	}
 
 	private DefaultMongoTypeMapper(String typeKey, TypeAliasAccessor<Bson> accessor,
 			MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext,
-			List<? extends TypeInformationMapper> mappers) {
+			List<? extends TypeInformationMapper> mappers, TypeAliasRegistry typeAliasRegistry) {
 
 		super(accessor, mappingContext, mappers);
 
 		this.typeKey = typeKey;
 		this.accessor = accessor;
+		this.typeAliasRegistry = typeAliasRegistry;
 	}
 
 	/*
@@ -94,6 +140,52 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 		return typeKey == null ? false : typeKey.equals(key);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.DefaultTypeMapper#readType(java.lang.Object, org.springframework.data.util.TypeInformation)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> TypeInformation<? extends T> readType(Bson source, TypeInformation<T> basicType) {
+
+		Optional<Object> alias = accessor.readAliasFrom(source).getValue();
+
+		if (!alias.isPresent()) {
+			return super.readType(source, basicType);
+		}
+
+		Pair<TypeInformation<?>, Object> key = Pair.of(basicType, alias.get());
+		TypeInformation<?> cached = typeCache.get(key);
+
+		if (cached != null) {
+			return (TypeInformation<? extends T>) cached;
+		}
+
+		Optional<Class<?>> compactType = typeAliasRegistry == null ? Optional.empty()
+				: typeAliasRegistry.resolveType(alias.get());
+
+		// don't cache unknown aliases as they might become resolvable once the entity gets registered
+		if (!compactType.isPresent() && !super.readType(source).isPresent()) {
+			return basicType;
+		}
+
+		TypeInformation<? extends T> type = compactType.isPresent() ? specialize(basicType, compactType.get())
+				: super.readType(source, basicType);
+
+		typeCache.put(key, type);
+
+		return type;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.DefaultTypeMapper#writeType(org.springframework.data.util.TypeInformation, java.lang.Object)
+	 */
+	@Override
+	public void writeType(TypeInformation<?> info, Bson sink) {
+		getCachedAliasFor(info).getValue().ifPresent(alias -> accessor.writeTypeTo(sink, alias));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.core.convert.MongoTypeMapper#writeTypeRestrictions(java.util.Set)
@@ -109,16 +201,63 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<Bson> implements M
 
 		for (Class<?> restrictedType : restrictedTypes) {
 
-			Alias typeAlias = getAliasFor(ClassTypeInformation.from(restrictedType));
+			TypeInformation<?> type = ClassTypeInformation.from(restrictedType);
+
+			addRestriction(restrictedMappedTypes, getCachedAliasFor(type));
 
-			if (typeAlias != null && !ObjectUtils.nullSafeEquals(Alias.NONE, typeAlias) && typeAlias.getValue().isPresent()) {
-				restrictedMappedTypes.add(typeAlias.getValue().get());
+			// documents written before compact aliases were enabled
+			if (typeAliasRegistry != null) {
+				addRestriction(restrictedMappedTypes, getAliasFor(type));
 			}
 		}
 
 		accessor.writeTypeTo(result, new Document("$in", restrictedMappedTypes));
 	}
 
+	private static void addRestriction(BasicDBList restrictedMappedTypes, Alias typeAlias) {
+
+		if (typeAlias != null && !ObjectUtils.nullSafeEquals(Alias.NONE, typeAlias) && typeAlias.getValue().isPresent()
+				&& !restrictedMappedTypes.contains(typeAlias.getValue().get())) {
+			restrictedMappedTypes.add(typeAlias.getValue().get());
+		}
+	}
+
+	private Alias getCachedAliasFor(TypeInformation<?> info) {
+
+		Alias alias = aliasCache.get(info);
+
+		if (alias == null) {
+			alias = getCompactAliasFor(info, getAliasFor(info));
+			aliasCache.put(info, alias);
+		}
+
+		return alias;
+	}
+
+	/**
+	 * Replaces the given alias with the compact one registered for the type if it is the plain class name.
+	 */
+	private Alias getCompactAliasFor(TypeInformation<?> info, Alias alias) {
+
+		if (typeAliasRegistry == null || !alias.getValue().filter(info.getType().getName()::equals).isPresent()) {
+			return alias;
+		}
+
+		return typeAliasRegistry.getAlias(info.getType()).map(Alias::of).orElse(alias);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> TypeInformation<? extends T> specialize(TypeInformation<T> basicType, Class<?> type) {
+
+		Class<T> rawType = basicType.getType();
+
+		if (!rawType.isAssignableFrom(type) || rawType.equals(type)) {
+			return basicType;
+		}
+
+		return (TypeInformation<? extends T>) basicType.specialize(ClassTypeInformation.from(type));
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.convert.DefaultTypeMapper#getFallbackTypeFor(java.lang.Object)
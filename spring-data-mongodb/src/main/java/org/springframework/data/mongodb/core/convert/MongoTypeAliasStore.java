@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+
+/**
+ * {@link TypeAliasStore} keeping the alias table in a MongoDB collection, one document per type with the type name as
+ * {@literal _id} and a unique index on the alias.
+ *
+ * @since 2.0
+ */
+public class MongoTypeAliasStore implements TypeAliasStore {
+
+	public static final String DEFAULT_COLLECTION_NAME = "_typeAliases";
+
+	private static final String ALIAS = "alias";
+
+	private final MongoDbFactory mongoDbFactory;
+	private final String collectionName;
+	private volatile boolean indexCreated;
+
+	/**
+	 * Creates a new {@link MongoTypeAliasStore} using the {@link #DEFAULT_COLLECTION_NAME}.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 */
+	public MongoTypeAliasStore(MongoDbFactory mongoDbFactory) {
+		this(mongoDbFactory, DEFAULT_COLLECTION_NAME);
+	}
+
+	/**
+	 * Creates a new {@link MongoTypeAliasStore} using the given collection.
+	 *
+	 * @param mongoDbFactory must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public MongoTypeAliasStore(MongoDbFactory mongoDbFactory, String collectionName) {
+
+		Assert.notNull(mongoDbFactory, "MongoDbFactory must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.mongoDbFactory = mongoDbFactory;
+		this.collectionName = collectionName;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.TypeAliasStore#findAll()
+	 */
+	@Override
+	public Map<String, String> findAll() {
+
+		Map<String, String> aliases = new HashMap<>();
+
+		try {
+			for (Document document : getCollection().find()) {
+				aliases.put(document.getString(ALIAS), document.getString("_id"));
+			}
+		} catch (MongoException e) {
+			throw translate(e);
+		}
+
+		return aliases;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.TypeAliasStore#findTypeName(java.lang.String)
+	 */
+	@Override
+	public String findTypeName(String alias) {
+
+		Assert.notNull(alias, "Alias must not be null!");
+
+		try {
+
+			Document document = getCollection().find(Filters.eq(ALIAS, alias)).first();
+			return document == null ? null : document.getString("_id");
+
+		} catch (MongoException e) {
+			throw translate(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.TypeAliasStore#assign(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public String assign(String typeName, String alias) {
+
+		Assert.notNull(typeName, "Type name must not be null!");
+		Assert.notNull(alias, "Alias must not be null!");
+
+		try {
+
+			Document assigned = getCollection().findOneAndUpdate(Filters.eq("_id", typeName),
+					Updates.setOnInsert(ALIAS, alias),
+					new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+
+			return assigned.getString(ALIAS);
+
+		} catch (MongoException e) {
+			throw translate(e);
+		}
+	}
+
+	private MongoCollection<Document> getCollection() {
+
+		MongoCollection<Document> collection = mongoDbFactory.getDb().getCollection(collectionName);
+
+		if (!indexCreated) {
+
+			try {
+				collection.createIndex(Indexes.ascending(ALIAS), new IndexOptions().unique(true));
+			} catch (MongoException e) {
+				throw translate(e);
+			}
+
+			indexCreated = true;
+		}
+
+		return collection;
+	}
+
+	private RuntimeException translate(MongoException e) {
+
+		PersistenceExceptionTranslator translator = mongoDbFactory.getExceptionTranslator();
+		RuntimeException translated = translator.translateExceptionIfPossible(e);
+
+		return translated == null ? e : translated;
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of compact type aliases written instead of fully qualified class names by a {@link DefaultMongoTypeMapper}.
+ * Aliases are either registered explicitly or, if the registry is backed by a {@link TypeAliasStore}, assigned
+ * automatically on first write of a type. Automatically assigned aliases start with {@link #COMPACT_ALIAS_PREFIX}
+ * followed by a base 36 sequence number and are persisted in the {@link TypeAliasStore} so that they stay stable across
+ * application instances. Documents written with fully qualified class names before remain readable.
+ *
+ * @since 2.0
+ */
+public class TypeAliasRegistry {
+
+	public static final String COMPACT_ALIAS_PREFIX = "#";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TypeAliasRegistry.class);
+
+	private final Map<Class<?>, String> typeToAlias = new ConcurrentHashMap<>();
+	private final Map<String, Class<?>> aliasToType = new ConcurrentHashMap<>();
+	private final TypeAliasStore store;
+	private final ClassLoader classLoader;
+
+	private volatile boolean loaded;
+
+	/**
+	 * Creates a new {@link TypeAliasRegistry} only using explicitly {@link #register(Class, String) registered}
+	 * aliases.
+	 */
+	public TypeAliasRegistry() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link TypeAliasRegistry} automatically assigning compact aliases persisted in the given
+	 * {@link TypeAliasStore}.
+	 *
+	 * @param store can be {@literal null} to only use explicitly registered aliases.
+	 */
+	public TypeAliasRegistry(TypeAliasStore store) {
+
+		this.store = store;
+		this.classLoader = ClassUtils.getDefaultClassLoader();
+	}
+
+	/**
+	 * Registers the given alias for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param alias must not be {@literal null} or empty.
+	 * @throws IllegalArgumentException if either the type or the alias is already registered differently.
+	 */
+	public void register(Class<?> type, String alias) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.hasText(alias, "Alias must not be null or empty!");
+
+		Class<?> existingType = aliasToType.putIfAbsent(alias, type);
+		Assert.isTrue(existingType == null || existingType.equals(type),
+				String.format("Alias %s is already registered for %s!", alias, existingType));
+
+		String existingAlias = typeToAlias.putIfAbsent(type, alias);
+		Assert.isTrue(existingAlias == null || existingAlias.equals(alias),
+				String.format("Type %s is already registered with alias %s!", type.getName(), existingAlias));
+	}
+
+	/**
+	 * Registers all of the given aliases.
+	 *
+	 * @param aliases must not be {@literal null}.
+	 * @see #register(Class, String)
+	 */
+	public void registerAll(Map<? extends Class<?>, String> aliases) {
+
+		Assert.notNull(aliases, "Aliases must not be null!");
+		aliases.forEach(this::register);
+	}
+
+	/**
+	 * Returns the alias to write for the given type, assigning a new compact alias if the registry is backed by a
+	 * {@link TypeAliasStore} and none is registered yet.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<String> getAlias(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		loadIfNecessary();
+
+		String alias = typeToAlias.get(type);
+
+		if (alias != null || store == null) {
+			return Optional.ofNullable(alias);
+		}
+
+		return Optional.of(assign(type));
+	}
+
+	/**
+	 * Resolves the type registered for the given alias. Compact aliases not known yet are looked up in the
+	 * {@link TypeAliasStore} as they might have been assigned by another instance in the meantime.
+	 *
+	 * @param alias can be {@literal null}.
+	 * @return
+	 * @throws MappingException if the alias is a compact one unknown to the {@link TypeAliasStore} or its type cannot be
+	 *           loaded.
+	 */
+	public Optional<Class<?>> resolveType(Object alias) {
+
+		if (!(alias instanceof String)) {
+			return Optional.empty();
+		}
+
+		loadIfNecessary();
+
+		Class<?> type = aliasToType.get(alias);
+
+		if (type == null && store != null && ((String) alias).startsWith(COMPACT_ALIAS_PREFIX)) {
+			type = lookup((String) alias);
+		}
+
+		return Optional.ofNullable(type);
+	}
+
+	private Class<?> lookup(String alias) {
+
+		String typeName = store.findTypeName(alias);
+
+		if (typeName == null) {
+			throw new MappingException(String.format("Unknown compact type alias %s!", alias));
+		}
+
+		try {
+
+			Class<?> type = ClassUtils.forName(typeName, classLoader);
+			register(type, alias);
+			return type;
+
+		} catch (ClassNotFoundException | LinkageError e) {
+			throw new MappingException(String.format("Cannot load type %s for compact type alias %s!", typeName, alias),
+					e);
+		}
+	}
+
+	private synchronized String assign(Class<?> type) {
+
+		String existing = typeToAlias.get(type);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		int sequence = aliasToType.size();
+
+		while (true) {
+
+			String candidate = COMPACT_ALIAS_PREFIX + Integer.toString(sequence, Character.MAX_RADIX);
+
+			if (aliasToType.containsKey(candidate)) {
+				sequence++;
+				continue;
+			}
+
+			try {
+
+				String alias = store.assign(type.getName(), candidate);
+				register(type, alias);
+				return alias;
+
+			} catch (DuplicateKeyException e) {
+
+				// candidate taken by another instance
+				load();
+				sequence++;
+			}
+		}
+	}
+
+	private void loadIfNecessary() {
+
+		if (!loaded && store != null) {
+			load();
+		}
+	}
+
+	private synchronized void load() {
+
+		for (Entry<String, String> entry : store.findAll().entrySet()) {
+
+			if (aliasToType.containsKey(entry.getKey())) {
+				continue;
+			}
+
+			try {
+				register(ClassUtils.forName(entry.getValue(), classLoader), entry.getKey());
+			} catch (ClassNotFoundException | LinkageError e) {
+
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("Skipping alias %s for unknown type %s.", entry.getKey(), entry.getValue()));
+				}
+			} catch (IllegalArgumentException e) {
+				LOGGER.warn(String.format("Skipping stored alias %s for type %s: %s", entry.getKey(), entry.getValue(),
+						e.getMessage()));
+			}
+		}
+
+		loaded = true;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Map;
+
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * Persistent table of the compact type aliases assigned by a {@link TypeAliasRegistry}. Sharing the table between all
+ * application instances keeps aliases stable across restarts and nodes.
+ *
+ * @since 2.0
+ * @see MongoTypeAliasStore
+ */
+public interface TypeAliasStore {
+
+	/**
+	 * Loads all assigned aliases.
+	 *
+	 * @return the fully qualified type names keyed by their alias, never {@literal null}.
+	 */
+	Map<String, String> findAll();
+
+	/**
+	 * Looks up the type the given alias is assigned to.
+	 *
+	 * @param alias must not be {@literal null}.
+	 * @return the fully qualified type name or {@literal null} if the alias is not assigned.
+	 */
+	String findTypeName(String alias);
+
+	/**
+	 * Assigns the given alias to the given type unless the type already has an alias assigned.
+	 *
+	 * @param typeName the fully qualified type name, must not be {@literal null}.
+	 * @param alias the alias to assign, must not be {@literal null}.
+	 * @return the alias now assigned to the type, which is the already existing one if another instance assigned an
+	 *         alias first.
+	 * @throws DuplicateKeyException if the alias is already assigned to a different type.
+	 */
+	String assign(String typeName, String alias);
+}
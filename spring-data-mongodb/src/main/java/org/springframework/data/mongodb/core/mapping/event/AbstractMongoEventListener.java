@@ -15,6 +15,9 @@
  */
 package org.springframework.data.mongodb.core.mapping.event;
 
+import java.util.List;
+
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
@@ -48,6 +51,17 @@ public abstract class AbstractMongoEventListener<E> implements ApplicationListen
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void onApplicationEvent(MongoMappingEvent<?> event) {
 
+		if (event instanceof MongoMappingBatchEvent) {
+
+			MongoMappingBatchEvent<?> batchEvent = (MongoMappingBatchEvent<?>) event;
+
+			if (domainClass.isAssignableFrom(batchEvent.getType())) {
+				onBatchEvent(batchEvent);
+			}
+
+			return;
+		}
+
 		if (event instanceof AfterLoadEvent) {
 			AfterLoadEvent<?> afterLoadEvent = (AfterLoadEvent<?>) event;
 
@@ -93,6 +107,22 @@ public abstract class AbstractMongoEventListener<E> implements ApplicationListen
 		}
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void onBatchEvent(MongoMappingBatchEvent<?> event) {
+
+		if (event instanceof BeforeConvertBatchEvent) {
+			onBeforeConvertBatch((BeforeConvertBatchEvent<E>) event);
+		} else if (event instanceof BeforeSaveBatchEvent) {
+			onBeforeSaveBatch((BeforeSaveBatchEvent<E>) event);
+		} else if (event instanceof AfterSaveBatchEvent) {
+			onAfterSaveBatch((AfterSaveBatchEvent<E>) event);
+		} else if (event instanceof AfterLoadBatchEvent) {
+			onAfterLoadBatch((AfterLoadBatchEvent<E>) event);
+		} else if (event instanceof AfterConvertBatchEvent) {
+			onAfterConvertBatch((AfterConvertBatchEvent<E>) event);
+		}
+	}
+
 	/**
 	 * Captures {@link BeforeConvertEvent}.
 	 * 
@@ -183,4 +213,81 @@ public abstract class AbstractMongoEventListener<E> implements ApplicationListen
 			LOG.debug("onBeforeDelete({})", event.getDocument());
 		}
 	}
+
+	/**
+	 * Captures {@link BeforeConvertBatchEvent}. Invokes {@link #onBeforeConvert(BeforeConvertEvent)} for every element
+	 * of the batch by default. Override to process the whole batch at once.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.0
+	 */
+	public void onBeforeConvertBatch(BeforeConvertBatchEvent<E> event) {
+
+		for (E element : event.getSource()) {
+			onBeforeConvert(new BeforeConvertEvent<E>(element, event.getCollectionName()));
+		}
+	}
+
+	/**
+	 * Captures {@link BeforeSaveBatchEvent}. Invokes {@link #onBeforeSave(BeforeSaveEvent)} for every element of the
+	 * batch by default. Override to process the whole batch at once.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.0
+	 */
+	public void onBeforeSaveBatch(BeforeSaveBatchEvent<E> event) {
+
+		List<E> elements = event.getSource();
+
+		for (int i = 0; i < elements.size(); i++) {
+			onBeforeSave(new BeforeSaveEvent<E>(elements.get(i), event.getDocuments().get(i), event.getCollectionName()));
+		}
+	}
+
+	/**
+	 * Captures {@link AfterSaveBatchEvent}. Invokes {@link #onAfterSave(AfterSaveEvent)} for every element of the batch
+	 * by default. Override to process the whole batch at once.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.0
+	 */
+	public void onAfterSaveBatch(AfterSaveBatchEvent<E> event) {
+
+		List<E> elements = event.getSource();
+
+		for (int i = 0; i < elements.size(); i++) {
+			onAfterSave(new AfterSaveEvent<E>(elements.get(i), event.getDocuments().get(i), event.getCollectionName()));
+		}
+	}
+
+	/**
+	 * Captures {@link AfterLoadBatchEvent}. Invokes {@link #onAfterLoad(AfterLoadEvent)} for every loaded
+	 * {@link Document} by default. Override to process the whole batch at once.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.0
+	 */
+	public void onAfterLoadBatch(AfterLoadBatchEvent<E> event) {
+
+		for (Document document : event.getDocuments()) {
+			onAfterLoad(new AfterLoadEvent<E>(document, event.getType(), event.getCollectionName()));
+		}
+	}
+
+	/**
+	 * Captures {@link AfterConvertBatchEvent}. Invokes {@link #onAfterConvert(AfterConvertEvent)} for every element of
+	 * the batch by default. Override to process the whole batch at once.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 2.0
+	 */
+	public void onAfterConvertBatch(AfterConvertBatchEvent<E> event) {
+
+		List<E> elements = event.getSource();
+
+		for (int i = 0; i < elements.size(); i++) {
+			onAfterConvert(
+					new AfterConvertEvent<E>(event.getDocuments().get(i), elements.get(i), event.getCollectionName()));
+		}
+	}
 }
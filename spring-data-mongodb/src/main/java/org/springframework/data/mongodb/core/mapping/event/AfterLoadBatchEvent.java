@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import java.util.List;
+
+import org.bson.Document;
+
+/**
+ * Event to be triggered after loading a batch of {@link Document}s to be mapped onto a given type.
+ *
+ * @since 2.0
+ * @see AfterLoadEvent
+ */
+public class AfterLoadBatchEvent<T> extends MongoMappingBatchEvent<Document> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new {@link AfterLoadBatchEvent} for the given {@link Document}s, type and collectionName.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 */
+	public AfterLoadBatchEvent(List<Document> documents, Class<T> type, String collectionName) {
+		super(documents, documents, type, collectionName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.mapping.event.MongoMappingBatchEvent#getType()
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Class<T> getType() {
+		return (Class<T>) super.getType();
+	}
+}
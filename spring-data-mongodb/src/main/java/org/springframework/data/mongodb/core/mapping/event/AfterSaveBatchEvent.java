@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import java.util.List;
+
+import org.bson.Document;
+
+/**
+ * {@link MongoMappingBatchEvent} triggered after the save of a batch of entities.
+ *
+ * @since 2.0
+ * @see AfterSaveEvent
+ */
+public class AfterSaveBatchEvent<E> extends MongoMappingBatchEvent<E> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates new {@link AfterSaveBatchEvent}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param documents the {@link Document}s matching the elements of {@code source}, must not be {@literal null}.
+	 * @param type the domain type of the batch, must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 */
+	public AfterSaveBatchEvent(List<E> source, List<Document> documents, Class<?> type, String collectionName) {
+		super(source, documents, type, collectionName);
+	}
+}
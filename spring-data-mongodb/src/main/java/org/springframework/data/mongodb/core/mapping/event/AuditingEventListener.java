@@ -18,20 +18,21 @@ package org.springframework.data.mongodb.core.mapping.event;
 import java.util.Optional;
 
 import org.springframework.beans.factory.ObjectFactory;
-import org.springframework.context.ApplicationListener;
-import org.springframework.core.Ordered;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
 import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.auditing.IsNewAwareAuditingHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 
 /**
- * Event listener to populate auditing related fields on an entity about to be saved.
+ * Event listener to populate auditing related fields on an entity about to be saved. Handles both
+ * {@link BeforeConvertEvent}s and {@link BeforeConvertBatchEvent}s.
  * 
  * @author Oliver Gierke
  * @author Thomas Darimont
  */
-public class AuditingEventListener implements ApplicationListener<BeforeConvertEvent<Object>>, Ordered {
+public class AuditingEventListener implements SmartApplicationListener {
 
 	private final ObjectFactory<IsNewAwareAuditingHandler> auditingHandlerFactory;
 
@@ -47,14 +48,48 @@ public class AuditingEventListener implements ApplicationListener<BeforeConvertE
 		this.auditingHandlerFactory = auditingHandlerFactory;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.SmartApplicationListener#supportsEventType(java.lang.Class)
+	 */
+	@Override
+	public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+		return BeforeConvertEvent.class.isAssignableFrom(eventType)
+				|| BeforeConvertBatchEvent.class.isAssignableFrom(eventType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.SmartApplicationListener#supportsSourceType(java.lang.Class)
+	 */
+	@Override
+	public boolean supportsSourceType(Class<?> sourceType) {
+		return true;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
 	 */
-	public void onApplicationEvent(BeforeConvertEvent<Object> event) {
+	public void onApplicationEvent(ApplicationEvent event) {
+
+		if (event instanceof BeforeConvertBatchEvent) {
+
+			IsNewAwareAuditingHandler handler = auditingHandlerFactory.getObject();
+
+			for (Object element : ((BeforeConvertBatchEvent<?>) event).getSource()) {
+				if (element != null) {
+					handler.markAudited(element);
+				}
+			}
+
+			return;
+		}
 
-		Optional.ofNullable(event.getSource())//
-				.ifPresent(it -> auditingHandlerFactory.getObject().markAudited(it));
+		if (event instanceof BeforeConvertEvent) {
+			Optional.ofNullable(((BeforeConvertEvent<?>) event).getSource())//
+					.ifPresent(it -> auditingHandlerFactory.getObject().markAudited(it));
+		}
 	}
 
 	/* 
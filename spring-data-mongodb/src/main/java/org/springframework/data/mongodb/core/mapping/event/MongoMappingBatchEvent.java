@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.mapping.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Base class for {@link MongoMappingEvent}s carrying a whole batch of elements of the same type instead of a single
+ * one. Batch events are published instead of the per-element events for bulk reads and writes if batch events are
+ * enabled on the template.
+ *
+ * @param <E> the element type of the batch.
+ * @since 2.0
+ * @see org.springframework.data.mongodb.core.MongoTemplate#setBatchLifecycleEventsEnabled(boolean)
+ */
+public abstract class MongoMappingBatchEvent<E> extends MongoMappingEvent<List<E>> {
+
+	private static final long serialVersionUID = 1L;
+	private final List<Document> documents;
+	private final Class<?> type;
+
+	/**
+	 * Creates new {@link MongoMappingBatchEvent}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param documents the {@link Document}s matching the elements of {@code source}, can be {@literal null}.
+	 * @param type the domain type of the batch, must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 */
+	protected MongoMappingBatchEvent(List<E> source, List<Document> documents, Class<?> type, String collectionName) {
+
+		super(source, null, collectionName);
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.isTrue(documents == null || documents.size() == source.size(),
+				"Number of documents must match number of elements!");
+
+		this.documents = documents == null ? Collections.emptyList() : documents;
+		this.type = type;
+	}
+
+	/**
+	 * Returns the {@link Document}s of the batch in the order of the elements returned by {@link #getSource()}.
+	 *
+	 * @return never {@literal null}, an empty {@link List} if the event does not carry documents.
+	 */
+	public List<Document> getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * Returns the domain type of the elements in the batch.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return the number of elements in the batch.
+	 */
+	public int size() {
+		return getSource().size();
+	}
+}
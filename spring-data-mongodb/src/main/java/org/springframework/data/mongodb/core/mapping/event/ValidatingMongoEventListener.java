@@ -15,8 +15,10 @@
  */
 package org.springframework.data.mongodb.core.mapping.event;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 
@@ -66,4 +68,25 @@ public class ValidatingMongoEventListener extends AbstractMongoEventListener<Obj
 			throw new ConstraintViolationException(violations);
 		}
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener#onBeforeSaveBatch(org.springframework.data.mongodb.core.mapping.event.BeforeSaveBatchEvent)
+	 */
+	@Override
+	public void onBeforeSaveBatch(BeforeSaveBatchEvent<Object> event) {
+
+		LOG.debug("Validating batch of {} objects", event.size());
+		Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>();
+
+		for (Object element : event.getSource()) {
+			violations.addAll(validator.validate(element));
+		}
+
+		if (!violations.isEmpty()) {
+
+			LOG.info("During batch validation violations found: {}", violations);
+			throw new ConstraintViolationException(violations);
+		}
+	}
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * {@link InputStream} reading a byte range of a GridFS file directly from its chunks. Only the chunks covering the
+ * requested range are fetched, starting with the chunk containing the first byte of the range. Skipping beyond the
+ * current chunk reopens the chunk cursor at the target chunk instead of reading the chunks in between.
+ * 
+ * @since 2.0
+ */
+class GridFsChunkInputStream extends InputStream {
+
+	private final BsonValue fileId;
+	private final int chunkSize;
+	private final MongoCollection<Document> chunks;
+	private final long end;
+
+	private long position;
+	private int nextChunk;
+	private byte[] buffer;
+	private int bufferOffset;
+	private MongoCursor<Document> cursor;
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link GridFsChunkInputStream} reading {@code length} bytes starting at {@code position}.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param position must not be negative.
+	 * @param length must not be negative. Reading stops at the end of the file.
+	 */
+	GridFsChunkInputStream(GridFSFile file, MongoCollection<Document> chunks, long position, long length) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.isTrue(position >= 0, "Position must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+
+		this.fileId = file.getId();
+		this.chunkSize = file.getChunkSize();
+		this.chunks = chunks;
+		this.position = Math.min(position, file.getLength());
+		this.end = length > file.getLength() - this.position ? file.getLength() : this.position + length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+
+		byte[] single = new byte[1];
+		return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+
+		checkClosed();
+
+		if (len == 0) {
+			return 0;
+		}
+
+		if (position >= end) {
+			return -1;
+		}
+
+		int read = 0;
+
+		while (read < len && position < end) {
+
+			fillBuffer();
+
+			int bytesToCopy = (int) Math.min(Math.min(len - read, buffer.length - bufferOffset), end - position);
+			System.arraycopy(buffer, bufferOffset, b, off + read, bytesToCopy);
+
+			bufferOffset += bytesToCopy;
+			position += bytesToCopy;
+			read += bytesToCopy;
+		}
+
+		return read;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#skip(long)
+	 */
+	@Override
+	public long skip(long n) throws IOException {
+
+		checkClosed();
+
+		if (n <= 0) {
+			return 0;
+		}
+
+		long skipped = Math.min(n, end - position);
+
+		if (skipped == 0) {
+			return 0;
+		}
+
+		long target = position + skipped;
+
+		if (buffer != null && target / chunkSize == (nextChunk - 1)) {
+			bufferOffset += (int) skipped;
+		} else {
+			buffer = null;
+		}
+
+		position = target;
+		return skipped;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() throws IOException {
+
+		checkClosed();
+
+		return buffer == null ? 0 : (int) Math.min(buffer.length - bufferOffset, end - position);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#close()
+	 */
+	@Override
+	public void close() {
+
+		if (!closed) {
+			closed = true;
+			discardCursor();
+		}
+	}
+
+	private void fillBuffer() throws IOException {
+
+		if (buffer != null && bufferOffset < buffer.length) {
+			return;
+		}
+
+		int targetChunk = (int) (position / chunkSize);
+
+		if (cursor == null || targetChunk != nextChunk) {
+
+			discardCursor();
+
+			int lastChunk = (int) ((end - 1) / chunkSize);
+			Document query = new Document("files_id", fileId).append("n",
+					new Document("$gte", targetChunk).append("$lte", lastChunk));
+
+			cursor = chunks.find(query).sort(new Document("n", 1)).iterator();
+			nextChunk = targetChunk;
+		}
+
+		if (!cursor.hasNext()) {
+			throw new IOException(String.format("Could not find chunk %d of file %s!", nextChunk, fileId));
+		}
+
+		Document chunk = cursor.next();
+		Integer n = chunk.getInteger("n");
+
+		if (n == null || n != nextChunk) {
+			throw new IOException(String.format("Could not find chunk %d of file %s!", nextChunk, fileId));
+		}
+
+		buffer = chunk.get("data", Binary.class).getData();
+		bufferOffset = (int) (position - (long) nextChunk * chunkSize);
+		nextChunk++;
+	}
+
+	private void discardCursor() {
+
+		if (cursor != null) {
+			cursor.close();
+			cursor = null;
+		}
+	}
+
+	private void checkClosed() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream is closed!");
+		}
+	}
+}
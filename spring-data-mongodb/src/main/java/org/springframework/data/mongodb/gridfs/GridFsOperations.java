@@ -16,6 +16,10 @@
 package org.springframework.data.mongodb.gridfs;
 
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -118,6 +122,61 @@ public interface GridFsOperations extends ResourcePatternResolver {
 	 */
 	ObjectId store(InputStream content, String filename, String contentType, Document metadata);
 
+	/**
+	 * Stores the content of the file at the given {@link Path} into a file with the given name. The file is
+	 * memory-mapped and chunks are sliced directly from the mapped region.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @return the id of the {@link GridFSFile} just created
+	 * @throws UncheckedIOException if the file cannot be read.
+	 * @since 2.0
+	 */
+	ObjectId store(Path content, String filename);
+
+	/**
+	 * Stores the content of the file at the given {@link Path} into a file with the given name and content type using
+	 * the given metadata. The file is memory-mapped and chunks are sliced directly from the mapped region.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return the id of the {@link GridFSFile} just created
+	 * @throws UncheckedIOException if the file cannot be read.
+	 * @since 2.0
+	 */
+	ObjectId store(Path content, String filename, String contentType, Document metadata);
+
+	/**
+	 * Stores the content of the given {@link FileChannel}, from its current position to its end, into a file with the
+	 * given name and content type using the given metadata. The channel is memory-mapped region by region and chunks are
+	 * sliced directly from the mapped regions. The channel is not closed.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return the id of the {@link GridFSFile} just created
+	 * @throws UncheckedIOException if the channel cannot be read.
+	 * @since 2.0
+	 */
+	ObjectId store(FileChannel content, String filename, String contentType, Document metadata);
+
+	/**
+	 * Stores the remaining content of the given {@link ByteBuffer} into a file with the given name and content type
+	 * using the given metadata. Chunks are sliced directly from the buffer which may be a direct or memory-mapped one.
+	 * The position of the given buffer is not modified.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param filename must not be {@literal null} or empty.
+	 * @param contentType can be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return the id of the {@link GridFSFile} just created
+	 * @since 2.0
+	 */
+	ObjectId store(ByteBuffer content, String filename, String contentType, Document metadata);
+
 	/**
 	 * Returns all files matching the given query. Note, that currently {@link Sort} criterias defined at the
 	 * {@link Query} will not be regarded as MongoDB does not support ordering for GridFS file access.
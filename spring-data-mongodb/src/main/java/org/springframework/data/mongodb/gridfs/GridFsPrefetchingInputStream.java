@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * {@link InputStream} reading a byte range of a GridFS file while fetching up to {@literal parallelism} chunks ahead
+ * concurrently using the given {@link Executor}. Chunks are requested individually by their index and handed out in
+ * order, so at most {@literal parallelism} chunks are buffered in addition to the one currently being read.
+ * 
+ * @since 2.0
+ * @see GridFsChunkInputStream
+ */
+class GridFsPrefetchingInputStream extends InputStream {
+
+	private final BsonValue fileId;
+	private final int chunkSize;
+	private final MongoCollection<Document> chunks;
+	private final long end;
+	private final int lastChunk;
+	private final int parallelism;
+	private final Executor executor;
+	private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+
+	private long position;
+	private int nextChunkToFetch;
+	private int currentChunk = -1;
+	private byte[] buffer;
+	private int bufferOffset;
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link GridFsPrefetchingInputStream} reading {@code length} bytes starting at {@code position}.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @param chunks must not be {@literal null}.
+	 * @param position must not be negative.
+	 * @param length must not be negative. Reading stops at the end of the file.
+	 * @param parallelism the number of chunks to fetch ahead, must be greater than zero.
+	 * @param executor must not be {@literal null}.
+	 */
+	GridFsPrefetchingInputStream(GridFSFile file, MongoCollection<Document> chunks, long position, long length,
+			int parallelism, Executor executor) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+		Assert.isTrue(position >= 0, "Position must not be negative!");
+		Assert.isTrue(length >= 0, "Length must not be negative!");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.fileId = file.getId();
+		this.chunkSize = file.getChunkSize();
+		this.chunks = chunks;
+		this.position = Math.min(position, file.getLength());
+		this.end = length > file.getLength() - this.position ? file.getLength() : this.position + length;
+		this.parallelism = parallelism;
+		this.executor = executor;
+
+		this.nextChunkToFetch = this.position < end ? (int) (this.position / chunkSize) : 0;
+		this.lastChunk = this.position < end ? (int) ((end - 1) / chunkSize) : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() throws IOException {
+
+		byte[] single = new byte[1];
+		return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+
+		checkClosed();
+
+		if (len == 0) {
+			return 0;
+		}
+
+		if (position >= end) {
+			return -1;
+		}
+
+		int read = 0;
+
+		while (read < len && position < end) {
+
+			fillBuffer();
+
+			int bytesToCopy = (int) Math.min(Math.min(len - read, buffer.length - bufferOffset), end - position);
+			System.arraycopy(buffer, bufferOffset, b, off + read, bytesToCopy);
+
+			bufferOffset += bytesToCopy;
+			position += bytesToCopy;
+			read += bytesToCopy;
+		}
+
+		return read;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() throws IOException {
+
+		checkClosed();
+
+		return buffer == null ? 0 : (int) Math.min(buffer.length - bufferOffset, end - position);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.InputStream#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		buffer = null;
+
+		for (CompletableFuture<byte[]> future : pending) {
+			future.cancel(false);
+		}
+
+		pending.clear();
+	}
+
+	private void fillBuffer() throws IOException {
+
+		if (buffer != null && bufferOffset < buffer.length) {
+			return;
+		}
+
+		scheduleFetches();
+
+		CompletableFuture<byte[]> next = pending.poll();
+		currentChunk = currentChunk == -1 ? (int) (position / chunkSize) : currentChunk + 1;
+
+		try {
+			buffer = next.get();
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for chunk " + currentChunk + "!");
+		} catch (ExecutionException o_O) {
+			throw new IOException(
+					String.format("Could not read chunk %d of file %s!", currentChunk, fileId), o_O.getCause());
+		}
+
+		bufferOffset = (int) (position - (long) currentChunk * chunkSize);
+
+		// replace the fetched chunk only now to keep at most parallelism fetches outstanding
+		scheduleFetches();
+	}
+
+	private void scheduleFetches() {
+
+		while (pending.size() < parallelism && nextChunkToFetch <= lastChunk) {
+
+			int n = nextChunkToFetch++;
+			pending.add(CompletableFuture.supplyAsync(() -> fetch(n), executor));
+		}
+	}
+
+	private byte[] fetch(int n) {
+
+		Document chunk = chunks.find(new Document("files_id", fileId).append("n", n)).first();
+
+		if (chunk == null) {
+			throw new IllegalStateException(String.format("Could not find chunk %d of file %s!", n, fileId));
+		}
+
+		return chunk.get("data", Binary.class).getData();
+	}
+
+	private void checkClosed() throws IOException {
+
+		if (closed) {
+			throw new IOException("Stream is closed!");
+		}
+	}
+}
@@ -18,15 +18,22 @@ package org.springframework.data.mongodb.gridfs;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 
+import org.bson.Document;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
 
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.gridfs.GridFSDBFile;
 
 /**
- * {@link GridFSDBFile} based {@link Resource} implementation.
+ * {@link GridFSDBFile} based {@link Resource} implementation. Resources created with a chunks collection open their
+ * content lazily on {@link #getInputStream()}, support reading byte ranges via
+ * {@link #getInputStream(long, long)} and fetching chunks ahead concurrently via
+ * {@link #getInputStream(long, long, int, Executor)}.
  * 
  * @author Oliver Gierke
  * @author Christoph Strobl
@@ -34,6 +41,7 @@ import com.mongodb.gridfs.GridFSDBFile;
 public class GridFsResource extends InputStreamResource {
 
 	private final GridFSFile file;
+	private final MongoCollection<Document> chunks;
 
 	/**
 	 * Creates a new {@link GridFsResource} from the given {@link GridFSDBFile}.
@@ -48,6 +56,96 @@ public class GridFsResource extends InputStreamResource {
 
 		super(inputStream);
 		this.file = file;
+		this.chunks = null;
+	}
+
+	/**
+	 * Creates a new {@link GridFsResource} reading its content lazily from the given chunks collection. No database
+	 * access happens until {@link #getInputStream()} or {@link #getInputStream(long, long)} is called.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @param chunks the {@literal <bucket>.chunks} collection, must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public GridFsResource(GridFSFile file, MongoCollection<Document> chunks) {
+
+		super(new ByteArrayInputStream(new byte[] {}));
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(chunks, "Chunks collection must not be null!");
+
+		this.file = file;
+		this.chunks = chunks;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#getInputStream()
+	 */
+	@Override
+	public InputStream getInputStream() throws IOException, IllegalStateException {
+		return chunks == null ? super.getInputStream() : getInputStream(0, file.getLength());
+	}
+
+	/**
+	 * Opens an {@link InputStream} reading {@code length} bytes of the file content starting at {@code position}. Only
+	 * the chunks covering the requested range are read.
+	 * 
+	 * @param position the offset of the first byte to read, must not be negative.
+	 * @param length the maximum number of bytes to read, must not be negative.
+	 * @return a new {@link InputStream} for the requested range.
+	 * @throws IllegalStateException if the resource was not created with a chunks collection.
+	 * @since 2.0
+	 */
+	public InputStream getInputStream(long position, long length) {
+
+		Assert.state(chunks != null, "Range reads require a GridFsResource created with a chunks collection!");
+
+		return new GridFsChunkInputStream(file, chunks, position, length);
+	}
+
+	/**
+	 * Opens an {@link InputStream} reading the file content while fetching up to {@code parallelism} chunks ahead
+	 * concurrently on the given {@link Executor}. Useful for large files on high latency connections where reading
+	 * chunks one after another is bound by round trip time. Use {@link java.nio.channels.Channels#newChannel(InputStream)}
+	 * to obtain a {@link java.nio.channels.ReadableByteChannel}.
+	 * 
+	 * @param parallelism the number of chunks to fetch ahead, must be greater than zero.
+	 * @param executor the {@link Executor} to fetch chunks on, must not be {@literal null}.
+	 * @return a new {@link InputStream}.
+	 * @throws IllegalStateException if the resource was not created with a chunks collection.
+	 * @since 2.0
+	 */
+	public InputStream getInputStream(int parallelism, Executor executor) {
+		return getInputStream(0, file.getLength(), parallelism, executor);
+	}
+
+	/**
+	 * Opens an {@link InputStream} reading {@code length} bytes of the file content starting at {@code position} while
+	 * fetching up to {@code parallelism} chunks ahead concurrently on the given {@link Executor}.
+	 * 
+	 * @param position the offset of the first byte to read, must not be negative.
+	 * @param length the maximum number of bytes to read, must not be negative.
+	 * @param parallelism the number of chunks to fetch ahead, must be greater than zero.
+	 * @param executor the {@link Executor} to fetch chunks on, must not be {@literal null}.
+	 * @return a new {@link InputStream} for the requested range.
+	 * @throws IllegalStateException if the resource was not created with a chunks collection.
+	 * @since 2.0
+	 */
+	public InputStream getInputStream(long position, long length, int parallelism, Executor executor) {
+
+		Assert.state(chunks != null, "Range reads require a GridFsResource created with a chunks collection!");
+
+		return new GridFsPrefetchingInputStream(file, chunks, position, length, parallelism, executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.io.InputStreamResource#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return chunks == null;
 	}
 
 	/*
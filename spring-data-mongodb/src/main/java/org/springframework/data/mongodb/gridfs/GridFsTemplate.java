@@ -18,13 +18,27 @@ package org.springframework.data.mongodb.gridfs;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
-import org.bson.BsonObjectId;
 import org.bson.Document;
+import org.bson.types.Binary;
 import org.bson.types.ObjectId;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.data.mongodb.MongoDbFactory;
@@ -34,12 +48,15 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.IndexOptions;
 
 /**
  * {@link GridFsOperations} implementation to store content into MongoDB GridFS.
@@ -53,10 +70,21 @@ import com.mongodb.client.gridfs.model.GridFSUploadOptions;
  */
 public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver {
 
+	private static final String DEFAULT_BUCKET = "fs";
+	private static final int DELETE_BATCH_SIZE = 1000;
+	private static final int DEFAULT_CHUNK_SIZE = 255 * 1024;
+	private static final int CHUNKS_PER_INSERT = 16;
+	private static final int CHUNKS_PER_MAPPED_REGION = 256;
+
 	private final MongoDbFactory dbFactory;
 	private final String bucket;
 	private final MongoConverter converter;
 	private final QueryMapper queryMapper;
+	private final Map<String, GridFSBucket> buckets = new ConcurrentHashMap<String, GridFSBucket>();
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private boolean computeMd5 = true;
+	private volatile boolean indexesEnsured;
 
 	/**
 	 * Creates a new {@link GridFsTemplate} using the given {@link MongoDbFactory} and {@link MongoConverter}.
@@ -87,6 +115,31 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		this.queryMapper = new QueryMapper(converter);
 	}
 
+	/**
+	 * Configure the size of the chunks new files are split into. Defaults to {@literal 255} kilobytes.
+	 * 
+	 * @param chunkSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Configure whether to compute the MD5 hash of content stored from a {@link Path}, {@link FileChannel} or
+	 * {@link ByteBuffer}. The hash is computed in the same pass that slices the content into chunks. Defaults to
+	 * {@literal true}.
+	 * 
+	 * @param computeMd5
+	 * @since 2.0
+	 */
+	public void setComputeMd5(boolean computeMd5) {
+		this.computeMd5 = computeMd5;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.io.InputStream, java.lang.String)
@@ -174,10 +227,147 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		}
 
 		opts.metadata(mData);
+		opts.chunkSizeBytes(chunkSize);
 
 		return getGridFs().uploadFromStream(filename, content, opts);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.nio.file.Path, java.lang.String)
+	 */
+	@Override
+	public ObjectId store(Path content, String filename) {
+		return store(content, filename, null, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.nio.file.Path, java.lang.String, java.lang.String, org.bson.Document)
+	 */
+	@Override
+	public ObjectId store(Path content, String filename, String contentType, Document metadata) {
+
+		Assert.notNull(content, "Path must not be null!");
+
+		try (FileChannel channel = FileChannel.open(content, StandardOpenOption.READ)) {
+			return store(channel, filename, contentType, metadata);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.nio.channels.FileChannel, java.lang.String, java.lang.String, org.bson.Document)
+	 */
+	@Override
+	public ObjectId store(FileChannel content, String filename, String contentType, Document metadata) {
+
+		Assert.notNull(content, "FileChannel must not be null!");
+
+		return doStore(filename, contentType, metadata, writer -> {
+
+			try {
+
+				long regionSize = (long) writer.getChunkSize() * CHUNKS_PER_MAPPED_REGION;
+				long position = content.position();
+				long size = content.size();
+
+				while (position < size) {
+
+					long length = Math.min(regionSize, size - position);
+					writer.write(content.map(MapMode.READ_ONLY, position, length));
+					position += length;
+				}
+			} catch (IOException o_O) {
+				throw new UncheckedIOException(o_O);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#store(java.nio.ByteBuffer, java.lang.String, java.lang.String, org.bson.Document)
+	 */
+	@Override
+	public ObjectId store(ByteBuffer content, String filename, String contentType, Document metadata) {
+
+		Assert.notNull(content, "ByteBuffer must not be null!");
+
+		return doStore(filename, contentType, metadata, writer -> writer.write(content.duplicate()));
+	}
+
+	/**
+	 * Writes the chunks produced by the given callback followed by the file document. Chunks are removed again if
+	 * writing fails.
+	 * 
+	 * @param filename
+	 * @param contentType
+	 * @param metadata
+	 * @param callback
+	 * @return
+	 */
+	private ObjectId doStore(String filename, String contentType, Document metadata, Consumer<ChunkWriter> callback) {
+
+		Document mData = new Document();
+		if (StringUtils.hasText(contentType)) {
+			mData.put("type", contentType);
+		}
+
+		if (metadata != null) {
+			mData.putAll(metadata);
+		}
+
+		MongoCollection<Document> files = getFilesCollection();
+		MongoCollection<Document> chunks = getChunksCollection();
+		ensureIndexes(files, chunks);
+
+		ObjectId id = new ObjectId();
+		ChunkWriter writer = new ChunkWriter(id, chunkSize, chunks, computeMd5);
+
+		try {
+
+			callback.accept(writer);
+			writer.flush();
+
+			Document file = new Document("_id", id) //
+					.append("filename", filename) //
+					.append("length", writer.getLength()) //
+					.append("chunkSize", chunkSize) //
+					.append("uploadDate", new Date());
+
+			if (computeMd5) {
+				file.append("md5", writer.getMd5());
+			}
+
+			files.insertOne(file.append("metadata", mData));
+
+			return id;
+		} catch (RuntimeException o_O) {
+
+			chunks.deleteMany(new Document("files_id", id));
+			throw o_O;
+		}
+	}
+
+	/**
+	 * Create the GridFS indexes before the first write of this template.
+	 * 
+	 * @param files
+	 * @param chunks
+	 */
+	private void ensureIndexes(MongoCollection<Document> files, MongoCollection<Document> chunks) {
+
+		if (indexesEnsured) {
+			return;
+		}
+
+		files.createIndex(new Document("filename", 1).append("uploadDate", 1));
+		chunks.createIndex(new Document("files_id", 1).append("n", 1), new IndexOptions().unique(true));
+		indexesEnsured = true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mongodb.gridfs.GridFsOperations#find(com.mongodb.Document)
@@ -208,9 +398,44 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	 */
 	public void delete(Query query) {
 
-		for (GridFSFile x : find(query)) {
-			getGridFs().delete(((BsonObjectId) x.getId()).getValue());
+		Document queryObject = query == null ? new Document() : getMappedQuery(query.getQueryObject());
+		MongoCollection<Document> files = getFilesCollection();
+		MongoCollection<Document> chunks = getChunksCollection();
+
+		List<Object> ids = new ArrayList<Object>(DELETE_BATCH_SIZE);
+
+		try (MongoCursor<Document> cursor = files.find(queryObject).projection(new Document("_id", 1))
+				.batchSize(DELETE_BATCH_SIZE).iterator()) {
+
+			while (cursor.hasNext()) {
+
+				ids.add(cursor.next().get("_id"));
+
+				if (ids.size() == DELETE_BATCH_SIZE) {
+					deleteFilesAndChunks(files, chunks, ids);
+					ids = new ArrayList<Object>(DELETE_BATCH_SIZE);
+				}
+			}
 		}
+
+		if (!ids.isEmpty()) {
+			deleteFilesAndChunks(files, chunks, ids);
+		}
+	}
+
+	/**
+	 * Removes the file documents with the given ids before their chunks so that partially removed files are not
+	 * visible.
+	 * 
+	 * @param files
+	 * @param chunks
+	 * @param ids
+	 */
+	private static void deleteFilesAndChunks(MongoCollection<Document> files, MongoCollection<Document> chunks,
+			List<Object> ids) {
+
+		files.deleteMany(new Document("_id", new Document("$in", ids)));
+		chunks.deleteMany(new Document("files_id", new Document("$in", ids)));
 	}
 
 	/*
@@ -228,7 +453,7 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 	public GridFsResource getResource(String location) {
 
 		GridFSFile file = findOne(query(whereFilename().is(location)));
-		return file != null ? new GridFsResource(file, getGridFs().openDownloadStreamByName(location)) : null;
+		return file != null ? new GridFsResource(file, getChunksCollection()) : null;
 	}
 
 	/*
@@ -246,10 +471,11 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		if (path.isPattern()) {
 
 			GridFSFindIterable files = find(query(whereFilename().regex(path.toRegex())));
+			MongoCollection<Document> chunks = getChunksCollection();
 			List<GridFsResource> resources = new ArrayList<GridFsResource>();
 
 			for (GridFSFile file : files) {
-				resources.add(new GridFsResource(file, getGridFs().openDownloadStreamByName(file.getFilename())));
+				resources.add(new GridFsResource(file, chunks));
 			}
 
 			return resources.toArray(new GridFsResource[resources.size()]);
@@ -266,9 +492,141 @@ public class GridFsTemplate implements GridFsOperations, ResourcePatternResolver
 		return query == null ? null : queryMapper.getMappedObject(query, Optional.empty());
 	}
 
+	private MongoCollection<Document> getFilesCollection() {
+		return dbFactory.getDb().getCollection(getBucketName() + ".files");
+	}
+
+	private MongoCollection<Document> getChunksCollection() {
+		return dbFactory.getDb().getCollection(getBucketName() + ".chunks");
+	}
+
+	private String getBucketName() {
+		return bucket == null ? DEFAULT_BUCKET : bucket;
+	}
+
+	/**
+	 * Returns the {@link GridFSBucket} for the current database. Buckets are created once per database and reused.
+	 * 
+	 * @return
+	 */
 	private GridFSBucket getGridFs() {
 
 		MongoDatabase db = dbFactory.getDb();
-		return bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket);
+		return buckets.computeIfAbsent(db.getName(),
+				name -> bucket == null ? GridFSBuckets.create(db) : GridFSBuckets.create(db, bucket));
+	}
+
+	/**
+	 * Slices {@link ByteBuffer}s into chunks and inserts them in batches of {@link #CHUNKS_PER_INSERT}. Chunk content is
+	 * copied once from the source buffer into the chunk document. The MD5 hash is computed while slicing.
+	 */
+	private static class ChunkWriter {
+
+		private final ObjectId id;
+		private final int chunkSize;
+		private final MongoCollection<Document> chunks;
+		private final MessageDigest digest;
+		private final List<Document> pending = new ArrayList<Document>(CHUNKS_PER_INSERT);
+
+		private byte[] partial;
+		private int partialPosition;
+		private int n;
+		private long length;
+
+		ChunkWriter(ObjectId id, int chunkSize, MongoCollection<Document> chunks, boolean computeMd5) {
+
+			this.id = id;
+			this.chunkSize = chunkSize;
+			this.chunks = chunks;
+
+			try {
+				this.digest = computeMd5 ? MessageDigest.getInstance("MD5") : null;
+			} catch (NoSuchAlgorithmException o_O) {
+				throw new IllegalStateException("MD5 algorithm not available!", o_O);
+			}
+		}
+
+		int getChunkSize() {
+			return chunkSize;
+		}
+
+		void write(ByteBuffer buffer) {
+
+			if (digest != null) {
+				digest.update(buffer.duplicate());
+			}
+
+			length += buffer.remaining();
+
+			while (buffer.hasRemaining()) {
+
+				if (partial == null && buffer.remaining() >= chunkSize) {
+
+					byte[] data = new byte[chunkSize];
+					buffer.get(data);
+					add(data);
+					continue;
+				}
+
+				if (partial == null) {
+					partial = new byte[chunkSize];
+					partialPosition = 0;
+				}
+
+				int bytesToCopy = Math.min(buffer.remaining(), chunkSize - partialPosition);
+				buffer.get(partial, partialPosition, bytesToCopy);
+				partialPosition += bytesToCopy;
+
+				if (partialPosition == chunkSize) {
+					add(partial);
+					partial = null;
+				}
+			}
+		}
+
+		void flush() {
+
+			if (partial != null) {
+				add(Arrays.copyOf(partial, partialPosition));
+				partial = null;
+			}
+
+			insertPending();
+		}
+
+		long getLength() {
+			return length;
+		}
+
+		String getMd5() {
+
+			if (digest == null) {
+				return null;
+			}
+
+			StringBuilder builder = new StringBuilder(32);
+			for (byte b : digest.digest()) {
+				builder.append(String.format("%02x", b));
+			}
+
+			return builder.toString();
+		}
+
+		private void add(byte[] data) {
+
+			pending.add(new Document("files_id", id).append("n", n++).append("data", new Binary(data)));
+
+			if (pending.size() == CHUNKS_PER_INSERT) {
+				insertPending();
+			}
+		}
+
+		private void insertPending() {
+
+			if (!pending.isEmpty()) {
+				chunks.insertMany(new ArrayList<Document>(pending));
+				pending.clear();
+			}
+		}
 	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import reactor.core.publisher.Flux;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.Assert;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Reactive {@link GridFSFile} based resource exposing the file content as a stream of {@link DataBuffer}s. The content
+ * is read lazily, chunk by chunk, upon subscription to {@link #getDownloadStream()}.
+ * 
+ * @since 2.0
+ * @see GridFsResource
+ */
+public class ReactiveGridFsResource {
+
+	private final GridFSFile file;
+	private final Publisher<DataBuffer> content;
+
+	/**
+	 * Creates a new {@link ReactiveGridFsResource} from the given {@link GridFSFile} and content {@link Publisher}.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 */
+	public ReactiveGridFsResource(GridFSFile file, Publisher<DataBuffer> content) {
+
+		Assert.notNull(file, "GridFSFile must not be null!");
+		Assert.notNull(content, "Content must not be null!");
+
+		this.file = file;
+		this.content = content;
+	}
+
+	/**
+	 * Returns the underlying {@link GridFSFile}.
+	 * 
+	 * @return never {@literal null}.
+	 */
+	public GridFSFile getGridFSFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource}'s id.
+	 * 
+	 * @return
+	 */
+	public Object getId() {
+		return file.getId();
+	}
+
+	/**
+	 * Returns the file name.
+	 * 
+	 * @return
+	 */
+	public String getFilename() {
+		return file.getFilename();
+	}
+
+	/**
+	 * Returns the content length in bytes.
+	 * 
+	 * @return
+	 */
+	public long contentLength() {
+		return file.getLength();
+	}
+
+	/**
+	 * Returns the {@link ReactiveGridFsResource}'s content type.
+	 * 
+	 * @return
+	 */
+	public String getContentType() {
+		return file.getContentType();
+	}
+
+	/**
+	 * Returns the file content as a stream of {@link DataBuffer}s, one per chunk. Chunks are requested from the server
+	 * as the subscriber signals demand.
+	 * 
+	 * @return never {@literal null}.
+	 */
+	public Flux<DataBuffer> getDownloadStream() {
+		return Flux.from(content);
+	}
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.springframework.data.mongodb.core.query.Query.*;
+import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.client.gridfs.codecs.GridFSFileCodec;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * {@link ReactiveGridFsOperations} implementation to store content into MongoDB GridFS using the reactive driver.
+ * Files are written in the GridFS format ({@literal <bucket>.files} and {@literal <bucket>.chunks} collections) and
+ * are therefore interchangeable with {@link GridFsTemplate}. Content is split into chunks of
+ * {@link #setChunkSize(int) chunk size} bytes while reading the source {@link Publisher}. At most one chunk is being
+ * written at a time, so the upload signals demand to its source only as fast as chunks are acknowledged.
+ * 
+ * @since 2.0
+ * @see GridFsTemplate
+ */
+public class ReactiveGridFsTemplate implements ReactiveGridFsOperations {
+
+	private static final String DEFAULT_BUCKET = "fs";
+	private static final int DEFAULT_CHUNK_SIZE = 255 * 1024;
+	private static final int DELETE_BATCH_SIZE = 1000;
+
+	private final ReactiveMongoDatabaseFactory dbFactory;
+	private final String bucket;
+	private final MongoConverter converter;
+	private final QueryMapper queryMapper;
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private DataBufferFactory dataBufferFactory = new DefaultDataBufferFactory();
+	private volatile boolean indexesEnsured;
+
+	/**
+	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
+	 * {@link MongoConverter}.
+	 * 
+	 * @param dbFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	public ReactiveGridFsTemplate(ReactiveMongoDatabaseFactory dbFactory, MongoConverter converter) {
+		this(dbFactory, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveGridFsTemplate} using the given {@link ReactiveMongoDatabaseFactory} and
+	 * {@link MongoConverter}.
+	 * 
+	 * @param dbFactory must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param bucket can be {@literal null} to use the default bucket {@literal fs}.
+	 */
+	public ReactiveGridFsTemplate(ReactiveMongoDatabaseFactory dbFactory, MongoConverter converter, String bucket) {
+
+		Assert.notNull(dbFactory, "ReactiveMongoDatabaseFactory must not be null!");
+		Assert.notNull(converter, "MongoConverter must not be null!");
+
+		this.dbFactory = dbFactory;
+		this.converter = converter;
+		this.bucket = StringUtils.hasText(bucket) ? bucket : DEFAULT_BUCKET;
+
+		this.queryMapper = new QueryMapper(converter);
+		this.exceptionTranslator = dbFactory.getExceptionTranslator();
+	}
+
+	/**
+	 * Configure the size of the chunks new files are split into. Defaults to {@literal 255} kilobytes.
+	 * 
+	 * @param chunkSize must be greater than zero.
+	 */
+	public void setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Configure the {@link DataBufferFactory} used to allocate the buffers emitted by downloads. Defaults to
+	 * {@link DefaultDataBufferFactory}.
+	 * 
+	 * @param dataBufferFactory must not be {@literal null}.
+	 */
+	public void setDataBufferFactory(DataBufferFactory dataBufferFactory) {
+
+		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null!");
+
+		this.dataBufferFactory = dataBufferFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename) {
+		return store(content, filename, (Object) null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType) {
+		return store(content, filename, contentType, (Object) null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, Object metadata) {
+		return store(content, filename, null, metadata);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType, Object metadata) {
+
+		Document document = null;
+
+		if (metadata != null) {
+			document = new Document();
+			converter.write(metadata, document);
+		}
+
+		return store(content, filename, contentType, document);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#store(org.reactivestreams.Publisher, java.lang.String, java.lang.String, org.bson.Document)
+	 */
+	@Override
+	public Mono<ObjectId> store(Publisher<DataBuffer> content, String filename, String contentType,
+			Document metadata) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.hasText(filename, "Filename must not be null or empty!");
+
+		Document mData = new Document();
+		if (StringUtils.hasText(contentType)) {
+			mData.put("type", contentType);
+		}
+
+		if (metadata != null) {
+			mData.putAll(metadata);
+		}
+
+		int chunkSizeToUse = this.chunkSize;
+
+		return Mono.defer(() -> {
+
+			ObjectId id = new ObjectId();
+			ChunkWriter writer = new ChunkWriter(chunkSizeToUse);
+			MongoCollection<Document> chunks = getChunksCollection();
+
+			AtomicInteger n = new AtomicInteger();
+
+			Flux<Document> chunkDocuments = Flux.from(content) //
+					.concatMapIterable(writer::write, 1) //
+					.concatWith(Flux.defer(() -> Flux.fromIterable(writer.flush()))) //
+					.map(data -> new Document("files_id", id).append("n", n.getAndIncrement()).append("data", new Binary(data)));
+
+			return ensureIndexes() //
+					.thenMany(chunkDocuments.concatMap(chunk -> Mono.from(chunks.insertOne(chunk)), 1)) //
+					.then(Mono.defer(() -> {
+
+						Document file = new Document("_id", id) //
+								.append("filename", filename) //
+								.append("length", writer.getLength()) //
+								.append("chunkSize", chunkSizeToUse) //
+								.append("uploadDate", new Date()) //
+								.append("md5", writer.getMd5()) //
+								.append("metadata", mData);
+
+						return Mono.from(getFilesCollection().insertOne(file));
+					})) //
+					.then(Mono.just(id)) //
+					.onErrorResume(error -> Mono.from(chunks.deleteMany(new Document("files_id", id))) //
+							.onErrorResume(cleanupError -> Mono.empty()) //
+							.then(Mono.error(error)));
+		}).onErrorMap(translateException());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#find(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Flux<GridFSFile> find(Query query) {
+		return Flux.defer(() -> prepare(query)).onErrorMap(translateException());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#findOne(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Mono<GridFSFile> findOne(Query query) {
+		return Mono.defer(() -> prepare(query).next()).onErrorMap(translateException());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#delete(org.springframework.data.mongodb.core.query.Query)
+	 */
+	@Override
+	public Mono<Void> delete(Query query) {
+
+		return find(query).map(GridFSFile::getId).buffer(DELETE_BATCH_SIZE) //
+				.concatMap(ids -> Mono.from(getFilesCollection().deleteMany(new Document("_id", new Document("$in", ids))))
+						.then(Mono.from(getChunksCollection().deleteMany(new Document("files_id", new Document("$in", ids)))))) //
+				.then() //
+				.onErrorMap(translateException());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#getResource(java.lang.String)
+	 */
+	@Override
+	public Mono<ReactiveGridFsResource> getResource(String filename) {
+
+		Assert.notNull(filename, "Filename must not be null!");
+
+		return findOne(query(whereFilename().is(filename))).map(this::createResource);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.gridfs.ReactiveGridFsOperations#getResources(java.lang.String)
+	 */
+	@Override
+	public Flux<ReactiveGridFsResource> getResources(String filenamePattern) {
+
+		Assert.notNull(filenamePattern, "Filename pattern must not be null!");
+
+		if (!StringUtils.hasText(filenamePattern)) {
+			return Flux.empty();
+		}
+
+		AntPath path = new AntPath(filenamePattern);
+
+		if (path.isPattern()) {
+			return find(query(whereFilename().regex(path.toRegex()))).map(this::createResource);
+		}
+
+		return getResource(filenamePattern).flux();
+	}
+
+	private ReactiveGridFsResource createResource(GridFSFile file) {
+		return new ReactiveGridFsResource(file, download(file));
+	}
+
+	/**
+	 * Read the chunks of the given {@link GridFSFile} in order. The chunk cursor fetches chunks according to the demand
+	 * signalled by the subscriber.
+	 * 
+	 * @param file must not be {@literal null}.
+	 * @return
+	 */
+	private Flux<DataBuffer> download(GridFSFile file) {
+
+		return Flux.defer(() -> {
+
+			AtomicInteger expected = new AtomicInteger();
+			long numberOfChunks = file.getChunkSize() == 0 ? 0
+					: (file.getLength() + file.getChunkSize() - 1) / file.getChunkSize();
+
+			return Flux.from(getChunksCollection().find(new Document("files_id", file.getId())).sort(new Document("n", 1)))
+					.map(chunk -> {
+
+						int n = expected.getAndIncrement();
+						if (chunk.getInteger("n", -1) != n) {
+							throw new DataIntegrityViolationException(
+									String.format("Chunk %d of file %s is missing!", n, file.getId()));
+						}
+
+						return dataBufferFactory.wrap(chunk.get("data", Binary.class).getData());
+					}) //
+					.concatWith(Mono.defer(() -> expected.get() < numberOfChunks
+							? Mono.error(new DataIntegrityViolationException(
+									String.format("Chunk %d of file %s is missing!", expected.get(), file.getId())))
+							: Mono.empty()));
+		}).onErrorMap(translateException());
+	}
+
+	private Flux<GridFSFile> prepare(Query query) {
+
+		MongoCollection<GridFSFile> files = getFilesCollection().withDocumentClass(GridFSFile.class);
+		files = files.withCodecRegistry(CodecRegistries.fromRegistries(files.getCodecRegistry(),
+				CodecRegistries.fromCodecs(new GridFSFileCodec(files.getCodecRegistry()))));
+
+		if (query == null) {
+			return Flux.from(files.find(new Document()));
+		}
+
+		FindPublisher<GridFSFile> publisher = files.find(getMappedQuery(query.getQueryObject()));
+		Document sortObject = getMappedQuery(query.getSortObject());
+
+		return Flux.from(sortObject == null ? publisher : publisher.sort(sortObject));
+	}
+
+	/**
+	 * Create the GridFS indexes on first write. The indexes are created once per template.
+	 * 
+	 * @return
+	 */
+	private Mono<Void> ensureIndexes() {
+
+		if (indexesEnsured) {
+			return Mono.empty();
+		}
+
+		return Mono.from(getFilesCollection().createIndex(new Document("filename", 1).append("uploadDate", 1))) //
+				.then(Mono.from(getChunksCollection().createIndex(new Document("files_id", 1).append("n", 1),
+						new IndexOptions().unique(true)))) //
+				.doOnSuccess(it -> indexesEnsured = true) //
+				.then();
+	}
+
+	private Document getMappedQuery(Document query) {
+		return query == null ? null : queryMapper.getMappedObject(query, Optional.empty());
+	}
+
+	private MongoCollection<Document> getFilesCollection() {
+		return getDatabase().getCollection(bucket + ".files");
+	}
+
+	private MongoCollection<Document> getChunksCollection() {
+		return getDatabase().getCollection(bucket + ".chunks");
+	}
+
+	private MongoDatabase getDatabase() {
+		return dbFactory.getMongoDatabase();
+	}
+
+	private Function<Throwable, Throwable> translateException() {
+
+		return throwable -> {
+
+			if (throwable instanceof RuntimeException) {
+
+				RuntimeException translated = exceptionTranslator.translateExceptionIfPossible((RuntimeException) throwable);
+				return translated != null ? translated : throwable;
+			}
+
+			return throwable;
+		};
+	}
+
+	/**
+	 * Splits a stream of {@link DataBuffer}s into chunks of a fixed size while computing the total length and MD5 hash of
+	 * the content. Consumed buffers are released.
+	 */
+	private static class ChunkWriter {
+
+		private final int chunkSize;
+		private final MessageDigest digest;
+
+		private byte[] current;
+		private int position;
+		private long length;
+
+		ChunkWriter(int chunkSize) {
+
+			this.chunkSize = chunkSize;
+			this.current = new byte[chunkSize];
+
+			try {
+				this.digest = MessageDigest.getInstance("MD5");
+			} catch (NoSuchAlgorithmException o_O) {
+				throw new IllegalStateException("MD5 algorithm not available!", o_O);
+			}
+		}
+
+		List<byte[]> write(DataBuffer buffer) {
+
+			try {
+
+				List<byte[]> completed = new ArrayList<>(1);
+
+				while (buffer.readableByteCount() > 0) {
+
+					int bytesToRead = Math.min(buffer.readableByteCount(), chunkSize - position);
+					buffer.read(current, position, bytesToRead);
+					position += bytesToRead;
+
+					if (position == chunkSize) {
+						completed.add(complete(current));
+					}
+				}
+
+				return completed;
+			} finally {
+				DataBufferUtils.release(buffer);
+			}
+		}
+
+		List<byte[]> flush() {
+			return position == 0 ? Collections.emptyList()
+					: Collections.singletonList(complete(Arrays.copyOf(current, position)));
+		}
+
+		long getLength() {
+			return length;
+		}
+
+		String getMd5() {
+			return toHex(digest.digest());
+		}
+
+		private byte[] complete(byte[] chunk) {
+
+			digest.update(chunk);
+			length += chunk.length;
+
+			current = new byte[chunkSize];
+			position = 0;
+
+			return chunk;
+		}
+
+		private static String toHex(byte[] bytes) {
+
+			StringBuilder builder = new StringBuilder(bytes.length * 2);
+			for (byte b : bytes) {
+				builder.append(String.format("%02x", b));
+			}
+
+			return builder.toString();
+		}
+	}
+}
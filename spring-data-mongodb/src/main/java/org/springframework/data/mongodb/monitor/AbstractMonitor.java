@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.monitor;
 
 import org.bson.Document;
+import org.springframework.util.Assert;
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.MongoDatabase;
@@ -30,13 +31,40 @@ import com.mongodb.client.MongoDatabase;
 public abstract class AbstractMonitor {
 
 	private final MongoClient mongoClient;
+	private final ServerStatusProvider serverStatusProvider;
 
+	/**
+	 * Creates a new {@link AbstractMonitor} reading from its own {@link ServerStatusProvider} for the given
+	 * {@link MongoClient}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 */
 	protected AbstractMonitor(MongoClient mongoClient) {
-		this.mongoClient = mongoClient;
+		this(new ServerStatusProvider(mongoClient));
 	}
 
+	/**
+	 * Creates a new {@link AbstractMonitor} reading from the given, potentially shared, {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	protected AbstractMonitor(ServerStatusProvider serverStatusProvider) {
+
+		Assert.notNull(serverStatusProvider, "ServerStatusProvider must not be null!");
+
+		this.mongoClient = serverStatusProvider.getMongoClient();
+		this.serverStatusProvider = serverStatusProvider;
+	}
+
+	/**
+	 * Returns the current {@literal serverStatus} snapshot of the {@link ServerStatusProvider}.
+	 *
+	 * @return never {@literal null}.
+	 * @see ServerStatusProvider#getServerStatus()
+	 */
 	public Document getServerStatus() {
-		return getDb("admin").runCommand(new Document("serverStatus", 1).append("rangeDeleter", 1).append("repl", 1));
+		return serverStatusProvider.getServerStatus();
 	}
 
 	public MongoDatabase getDb(String databaseName) {
@@ -46,4 +74,12 @@ public abstract class AbstractMonitor {
 	protected MongoClient getMongoClient() {
 		return mongoClient;
 	}
+
+	/**
+	 * @return the {@link ServerStatusProvider} the monitor reads from.
+	 * @since 2.0
+	 */
+	protected ServerStatusProvider getServerStatusProvider() {
+		return serverStatusProvider;
+	}
 }
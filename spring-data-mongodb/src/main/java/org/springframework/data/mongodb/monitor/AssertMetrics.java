@@ -36,6 +36,16 @@ public class AssertMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link AssertMetrics} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public AssertMetrics(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Regular")
 	public int getRegular() {
 		return getBtree("regular");
@@ -36,6 +36,16 @@ public class BackgroundFlushingMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link BackgroundFlushingMetrics} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public BackgroundFlushingMetrics(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Flushes")
 	public int getFlushes() {
 		return getFlushingData("flushes", java.lang.Integer.class);
@@ -34,6 +34,16 @@ public class BtreeIndexCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link BtreeIndexCounters} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public BtreeIndexCounters(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Accesses")
 	public int getAccesses() {
 		return getBtree("accesses");
@@ -34,6 +34,16 @@ public class ConnectionMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link ConnectionMetrics} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public ConnectionMetrics(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Current Connections")
 	public int getCurrent() {
 		return getConnectionData("current", java.lang.Integer.class);
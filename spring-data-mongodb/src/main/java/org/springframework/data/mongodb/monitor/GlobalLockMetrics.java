@@ -35,6 +35,16 @@ public class GlobalLockMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link GlobalLockMetrics} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public GlobalLockMetrics(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Total time")
 	public double getTotalTime() {
 		return getGlobalLockData("totalTime", java.lang.Double.class);
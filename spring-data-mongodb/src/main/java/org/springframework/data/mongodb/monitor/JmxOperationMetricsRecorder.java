@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.mongodb.core.OperationSample.Phase;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedOperationParameters;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+
+/**
+ * JMX exposed {@link OperationMetricsRegistry} reporting client-side operation timings in milliseconds.
+ *
+ * @since 2.0
+ */
+@ManagedResource(description = "Client-side operation metrics")
+public class JmxOperationMetricsRecorder extends OperationMetricsRegistry {
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Recorded operation count")
+	public long getOperationCount() {
+		return getMetrics().stream().mapToLong(OperationMetrics::getCount).sum();
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Failed operation count")
+	public long getFailureCount() {
+		return getMetrics().stream().mapToLong(OperationMetrics::getFailureCount).sum();
+	}
+
+	@ManagedOperation(description = "One line summary per recorded operation and collection")
+	public String[] getSummary() {
+		return getMetrics().stream().map(OperationMetrics::toString).sorted().toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Percentile of the operation time in milliseconds")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "operation", description = "e.g. find"),
+			@ManagedOperationParameter(name = "collectionName", description = "The collection name"),
+			@ManagedOperationParameter(name = "phase",
+					description = "TOTAL, QUERY_MAPPING, EXECUTION or CONVERSION"),
+			@ManagedOperationParameter(name = "percentile", description = "Between 0 and 1, e.g. 0.99") })
+	public double getPercentile(String operation, String collectionName, String phase, double percentile) {
+
+		OperationMetrics metrics = getMetrics(operation, collectionName);
+
+		if (metrics == null) {
+			return 0;
+		}
+
+		return "TOTAL".equalsIgnoreCase(phase) ? metrics.getPercentile(percentile, TimeUnit.MILLISECONDS)
+				: metrics.getPercentile(Phase.valueOf(phase.toUpperCase()), percentile, TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.monitor.OperationMetricsRegistry#reset()
+	 */
+	@Override
+	@ManagedOperation(description = "Discards all recorded samples")
+	public void reset() {
+		super.reset();
+	}
+}
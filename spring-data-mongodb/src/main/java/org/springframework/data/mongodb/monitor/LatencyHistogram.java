@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free latency histogram using exponentially growing buckets with microsecond resolution. Percentiles are
+ * reported as the upper bound of the bucket they fall into, so they are accurate within a factor of two.
+ *
+ * @since 2.0
+ */
+class LatencyHistogram {
+
+	private static final int BUCKETS = 32;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records the given duration.
+	 *
+	 * @param nanos the duration in nanoseconds.
+	 */
+	void record(long nanos) {
+
+		long value = Math.max(nanos, 0);
+
+		counts.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(value)));
+		count.increment();
+		totalNanos.add(value);
+		maxNanos.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * @return the number of recorded durations.
+	 */
+	long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return the mean of all recorded durations in the given unit.
+	 */
+	double getMean(TimeUnit unit) {
+
+		long samples = getCount();
+		return samples == 0 ? 0 : toUnit((double) totalNanos.sum() / samples, unit);
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return the longest recorded duration in the given unit.
+	 */
+	double getMax(TimeUnit unit) {
+		return toUnit(maxNanos.get(), unit);
+	}
+
+	/**
+	 * Returns the upper bound of the bucket containing the given percentile.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 1}, e.g. {@literal 0.99}.
+	 * @param unit must not be {@literal null}.
+	 * @return {@literal 0} if nothing was recorded yet.
+	 */
+	double getPercentile(double percentile, TimeUnit unit) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1!");
+
+		long[] snapshot = new long[BUCKETS];
+		long samples = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			samples += snapshot[i];
+		}
+
+		if (samples == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile * samples));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+
+			seen += snapshot[i];
+
+			if (seen >= rank) {
+				return Math.min(toUnit(TimeUnit.MICROSECONDS.toNanos(1L << i), unit), getMax(unit));
+			}
+		}
+
+		return getMax(unit);
+	}
+
+	/**
+	 * Discards all recorded durations.
+	 */
+	void reset() {
+
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+
+		count.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+
+	private static int bucketOf(long micros) {
+		return micros <= 1 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+	}
+
+	private static double toUnit(double nanos, TimeUnit unit) {
+		return nanos / TimeUnit.NANOSECONDS.convert(1, unit);
+	}
+}
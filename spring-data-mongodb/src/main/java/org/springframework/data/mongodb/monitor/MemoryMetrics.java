@@ -34,6 +34,16 @@ public class MemoryMetrics extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link MemoryMetrics} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public MemoryMetrics(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Memory address size")
 	public int getBits() {
 		return getMemData("bits", java.lang.Integer.class);
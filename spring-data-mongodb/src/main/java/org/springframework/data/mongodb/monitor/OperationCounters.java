@@ -23,7 +23,7 @@ import org.springframework.jmx.support.MetricType;
 import com.mongodb.MongoClient;
 
 /**
- * JMX Metrics for Operation counters
+ * JMX Metrics for Operation counters. Rates are derived from the two most recent server status snapshots.
  * 
  * @author Mark Pollack
  */
@@ -34,6 +34,16 @@ public class OperationCounters extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link OperationCounters} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public OperationCounters(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Insert operation count")
 	public int getInsertCount() {
 		return getOpCounter("insert");
@@ -64,6 +74,40 @@ public class OperationCounters extends AbstractMonitor {
 		return getOpCounter("command");
 	}
 
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Insert operations per second", unit = "ops/s")
+	public double getInsertRate() {
+		return getOpCounterRate("insert");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Query operations per second", unit = "ops/s")
+	public double getQueryRate() {
+		return getOpCounterRate("query");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Update operations per second", unit = "ops/s")
+	public double getUpdateRate() {
+		return getOpCounterRate("update");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Delete operations per second", unit = "ops/s")
+	public double getDeleteRate() {
+		return getOpCounterRate("delete");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "GetMore operations per second", unit = "ops/s")
+	public double getGetMoreRate() {
+		return getOpCounterRate("getmore");
+	}
+
+	@ManagedMetric(metricType = MetricType.GAUGE, displayName = "Command operations per second", unit = "ops/s")
+	public double getCommandRate() {
+		return getOpCounterRate("command");
+	}
+
+	private double getOpCounterRate(String key) {
+		return getServerStatusProvider().getRate("opcounters", key);
+	}
+
 	private int getOpCounter(String key) {
 		Document opCounters = (Document) getServerStatus().get("opcounters");
 		return (Integer) opCounters.get(key);
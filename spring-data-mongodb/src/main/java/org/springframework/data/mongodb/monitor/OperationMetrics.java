@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.mongodb.core.OperationSample;
+import org.springframework.data.mongodb.core.OperationSample.Phase;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Aggregated timings of a single template operation against a single collection. Keeps a latency histogram for the
+ * overall time and each {@link Phase} of the operation.
+ *
+ * @since 2.0
+ * @see OperationMetricsRegistry
+ */
+public class OperationMetrics {
+
+	private final String operation;
+	private final String collectionName;
+	private final LatencyHistogram total = new LatencyHistogram();
+	private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder documents = new LongAdder();
+
+	OperationMetrics(String operation, String collectionName) {
+
+		Assert.notNull(operation, "Operation must not be null!");
+
+		this.operation = operation;
+		this.collectionName = collectionName;
+
+		for (Phase phase : Phase.values()) {
+			phases.put(phase, new LatencyHistogram());
+		}
+	}
+
+	void record(OperationSample sample) {
+
+		total.record(sample.getTotalNanos());
+
+		for (Phase phase : Phase.values()) {
+			phases.get(phase).record(sample.getTime(phase, TimeUnit.NANOSECONDS));
+		}
+
+		documents.add(sample.getDocumentCount());
+
+		if (!sample.isSuccess()) {
+			failures.increment();
+		}
+	}
+
+	/**
+	 * @return the name of the operation, e.g. {@literal find}.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the name of the collection, can be {@literal null}.
+	 */
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	/**
+	 * @return the number of recorded operations.
+	 */
+	public long getCount() {
+		return total.getCount();
+	}
+
+	/**
+	 * @return the number of recorded operations that failed.
+	 */
+	public long getFailureCount() {
+		return failures.sum();
+	}
+
+	/**
+	 * @return the overall number of documents read or written.
+	 */
+	public long getDocumentCount() {
+		return documents.sum();
+	}
+
+	/**
+	 * Returns the given percentile of the overall operation time.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 1}, e.g. {@literal 0.99}.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public double getPercentile(double percentile, TimeUnit unit) {
+		return total.getPercentile(percentile, unit);
+	}
+
+	/**
+	 * Returns the given percentile of the time spent in the given {@link Phase}.
+	 *
+	 * @param phase must not be {@literal null}.
+	 * @param percentile between {@literal 0} and {@literal 1}, e.g. {@literal 0.99}.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public double getPercentile(Phase phase, double percentile, TimeUnit unit) {
+		return getHistogram(phase).getPercentile(percentile, unit);
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return the mean overall operation time.
+	 */
+	public double getMean(TimeUnit unit) {
+		return total.getMean(unit);
+	}
+
+	/**
+	 * @param phase must not be {@literal null}.
+	 * @param unit must not be {@literal null}.
+	 * @return the mean time spent in the given {@link Phase}.
+	 */
+	public double getMean(Phase phase, TimeUnit unit) {
+		return getHistogram(phase).getMean(unit);
+	}
+
+	/**
+	 * @param unit must not be {@literal null}.
+	 * @return the longest overall operation time.
+	 */
+	public double getMax(TimeUnit unit) {
+		return total.getMax(unit);
+	}
+
+	void reset() {
+
+		total.reset();
+		phases.values().forEach(LatencyHistogram::reset);
+		failures.reset();
+		documents.reset();
+	}
+
+	private LatencyHistogram getHistogram(Phase phase) {
+
+		Assert.notNull(phase, "Phase must not be null!");
+		return phases.get(phase);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		return String.format(
+				"%s %s: count=%d, failures=%d, documents=%d, p50=%.3fms, p99=%.3fms, max=%.3fms"
+						+ " (p99 mapping=%.3fms, execution=%.3fms, conversion=%.3fms)",
+				operation, ObjectUtils.nullSafeToString(collectionName), getCount(), getFailureCount(), getDocumentCount(),
+				getPercentile(0.5, TimeUnit.MILLISECONDS), getPercentile(0.99, TimeUnit.MILLISECONDS),
+				getMax(TimeUnit.MILLISECONDS), getPercentile(Phase.QUERY_MAPPING, 0.99, TimeUnit.MILLISECONDS),
+				getPercentile(Phase.EXECUTION, 0.99, TimeUnit.MILLISECONDS),
+				getPercentile(Phase.CONVERSION, 0.99, TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.mongodb.core.OperationMetricsRecorder;
+import org.springframework.data.mongodb.core.OperationSample;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link OperationMetricsRecorder} keeping dimensional {@link OperationMetrics} tagged by operation and collection
+ * name in memory. Register it with {@link org.springframework.data.mongodb.core.MongoTemplate} or
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate} and either query it directly or bridge the
+ * metrics to a metrics library of choice.
+ *
+ * @since 2.0
+ * @see JmxOperationMetricsRecorder
+ */
+public class OperationMetricsRegistry implements OperationMetricsRecorder {
+
+	private final ConcurrentMap<Key, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.OperationMetricsRecorder#record(org.springframework.data.mongodb.core.OperationSample)
+	 */
+	@Override
+	public void record(OperationSample sample) {
+
+		Assert.notNull(sample, "OperationSample must not be null!");
+
+		metrics.computeIfAbsent(new Key(sample.getOperation(), sample.getCollectionName()),
+				key -> new OperationMetrics(key.operation, key.collectionName)).record(sample);
+	}
+
+	/**
+	 * Returns the {@link OperationMetrics} for the given operation and collection.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @param collectionName can be {@literal null}.
+	 * @return {@literal null} if no such operation was recorded yet.
+	 */
+	public OperationMetrics getMetrics(String operation, String collectionName) {
+
+		Assert.notNull(operation, "Operation must not be null!");
+		return metrics.get(new Key(operation, collectionName));
+	}
+
+	/**
+	 * @return the {@link OperationMetrics} of all recorded operations and collections.
+	 */
+	public Collection<OperationMetrics> getMetrics() {
+		return new ArrayList<>(metrics.values());
+	}
+
+	/**
+	 * Returns the {@link OperationMetrics} of all operations recorded against the given collection.
+	 *
+	 * @param collectionName can be {@literal null}.
+	 * @return
+	 */
+	public List<OperationMetrics> getMetricsForCollection(String collectionName) {
+
+		List<OperationMetrics> result = new ArrayList<>();
+
+		for (OperationMetrics candidate : metrics.values()) {
+			if (ObjectUtils.nullSafeEquals(candidate.getCollectionName(), collectionName)) {
+				result.add(candidate);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Discards all recorded samples.
+	 */
+	public void reset() {
+		metrics.values().forEach(OperationMetrics::reset);
+	}
+
+	private static class Key {
+
+		private final String operation;
+		private final String collectionName;
+
+		Key(String operation, String collectionName) {
+			this.operation = operation;
+			this.collectionName = collectionName;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) obj;
+			return operation.equals(that.operation) && ObjectUtils.nullSafeEquals(collectionName, that.collectionName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * operation.hashCode() + ObjectUtils.nullSafeHashCode(collectionName);
+		}
+	}
+}
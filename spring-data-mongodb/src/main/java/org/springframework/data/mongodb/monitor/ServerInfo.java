@@ -38,6 +38,16 @@ public class ServerInfo extends AbstractMonitor {
 		super(mongoClient);
 	}
 
+	/**
+	 * Creates a new {@link ServerInfo} reading from the given {@link ServerStatusProvider}.
+	 *
+	 * @param serverStatusProvider must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public ServerInfo(ServerStatusProvider serverStatusProvider) {
+		super(serverStatusProvider);
+	}
+
 	/**
 	 * Returns the hostname of the used server reported by MongoDB.
 	 * 
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoClient;
+
+/**
+ * Provides a shared, time-bounded snapshot of the {@literal serverStatus} command result. Monitors reading from the
+ * same {@link ServerStatusProvider} issue a single {@literal serverStatus} command per refresh interval no matter how
+ * many attributes are read. The snapshot is either refreshed on demand once it is older than the configured
+ * {@link #setRefreshInterval(long) refresh interval} or periodically in the background if
+ * {@link #setBackgroundRefresh(boolean) background refresh} is enabled. The previous snapshot is retained to derive
+ * rates of counters reported by the server.
+ *
+ * @since 2.0
+ */
+public class ServerStatusProvider implements InitializingBean, DisposableBean {
+
+	/**
+	 * The default refresh interval of one second.
+	 */
+	public static final long DEFAULT_REFRESH_INTERVAL = 1000;
+
+	private static final Logger LOG = LoggerFactory.getLogger(ServerStatusProvider.class);
+
+	private final MongoClient mongoClient;
+	private final Object monitor = new Object();
+
+	private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+	private boolean backgroundRefresh;
+
+	private volatile Snapshot current;
+	private volatile Snapshot previous;
+	private volatile ScheduledExecutorService executor;
+
+	/**
+	 * Creates a new {@link ServerStatusProvider} for the given {@link MongoClient}.
+	 *
+	 * @param mongoClient must not be {@literal null}.
+	 */
+	public ServerStatusProvider(MongoClient mongoClient) {
+
+		Assert.notNull(mongoClient, "MongoClient must not be null!");
+		this.mongoClient = mongoClient;
+	}
+
+	/**
+	 * Configures the maximum age of a snapshot in milliseconds before it is refreshed. Defaults to
+	 * {@link #DEFAULT_REFRESH_INTERVAL}. {@literal 0} runs the {@literal serverStatus} command for every read.
+	 *
+	 * @param refreshInterval must not be negative.
+	 */
+	public void setRefreshInterval(long refreshInterval) {
+
+		Assert.isTrue(refreshInterval >= 0, "Refresh interval must not be negative!");
+		this.refreshInterval = refreshInterval;
+	}
+
+	/**
+	 * @return the maximum age of a snapshot in milliseconds.
+	 */
+	public long getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	/**
+	 * Configures whether the snapshot is refreshed periodically in a background thread instead of on demand. Takes
+	 * effect once {@link #afterPropertiesSet()} is invoked and requires a positive refresh interval. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param backgroundRefresh
+	 */
+	public void setBackgroundRefresh(boolean backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		synchronized (monitor) {
+
+			if (!backgroundRefresh || refreshInterval == 0 || executor != null) {
+				return;
+			}
+
+			executor = Executors.newSingleThreadScheduledExecutor(newThreadFactory());
+			executor.scheduleWithFixedDelay(this::refreshInBackground, 0, refreshInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		synchronized (monitor) {
+
+			if (executor != null) {
+				executor.shutdownNow();
+				executor = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the current {@literal serverStatus} snapshot, refreshing it if it is older than the configured refresh
+	 * interval.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Document getServerStatus() {
+
+		Snapshot snapshot = current;
+
+		if (isCurrent(snapshot)) {
+			return snapshot.status;
+		}
+
+		synchronized (monitor) {
+
+			snapshot = current;
+			return isCurrent(snapshot) ? snapshot.status : refresh();
+		}
+	}
+
+	/**
+	 * Runs the {@literal serverStatus} command and replaces the current snapshot.
+	 *
+	 * @return the new snapshot, never {@literal null}.
+	 */
+	public Document refresh() {
+
+		Document status = mongoClient.getDatabase("admin")
+				.runCommand(new Document("serverStatus", 1).append("rangeDeleter", 1).append("repl", 1));
+
+		synchronized (monitor) {
+
+			previous = current;
+			current = new Snapshot(status, System.nanoTime());
+		}
+
+		return status;
+	}
+
+	/**
+	 * Returns the per second rate of change of the numeric value at the given path between the previous and the current
+	 * snapshot, e.g. {@code getRate("opcounters", "insert")} for inserts per second.
+	 *
+	 * @param path the keys of the nested value within the {@literal serverStatus} document, must not be empty.
+	 * @return the rate per second, {@literal 0} if less than two snapshots have been taken or the value is not present.
+	 */
+	public double getRate(String... path) {
+
+		Assert.notEmpty(path, "Path must not be empty!");
+
+		getServerStatus();
+
+		Snapshot first;
+		Snapshot second;
+
+		synchronized (monitor) {
+			first = previous;
+			second = current;
+		}
+
+		if (first == null || second == null || second.timestamp == first.timestamp) {
+			return 0;
+		}
+
+		Number start = first.getNumber(path);
+		Number end = second.getNumber(path);
+
+		if (start == null || end == null) {
+			return 0;
+		}
+
+		double seconds = (second.timestamp - first.timestamp) / (double) TimeUnit.SECONDS.toNanos(1);
+		return (end.doubleValue() - start.doubleValue()) / seconds;
+	}
+
+	/**
+	 * @return the age of the current snapshot in milliseconds or {@literal -1} if no snapshot has been taken yet.
+	 */
+	public long getSnapshotAge() {
+
+		Snapshot snapshot = current;
+		return snapshot == null ? -1 : snapshot.getAge();
+	}
+
+	/**
+	 * @return the {@link MongoClient} used to obtain the server status.
+	 */
+	public MongoClient getMongoClient() {
+		return mongoClient;
+	}
+
+	private boolean isCurrent(Snapshot snapshot) {
+
+		if (snapshot == null) {
+			return false;
+		}
+
+		// leave some slack for the background refresh to catch up before refreshing in the calling thread
+		long maxAge = executor != null ? refreshInterval * 2 : refreshInterval;
+		return refreshInterval > 0 && snapshot.getAge() < maxAge;
+	}
+
+	private void refreshInBackground() {
+
+		try {
+			refresh();
+		} catch (RuntimeException o_O) {
+			LOG.warn("Failed to refresh server status!", o_O);
+		}
+	}
+
+	private static CustomizableThreadFactory newThreadFactory() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mongo-server-status-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * A {@literal serverStatus} document along with the time it was taken at.
+	 */
+	private static class Snapshot {
+
+		private final Document status;
+		private final long timestamp;
+
+		Snapshot(Document status, long timestamp) {
+
+			this.status = status;
+			this.timestamp = timestamp;
+		}
+
+		long getAge() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timestamp);
+		}
+
+		Number getNumber(String... path) {
+
+			Object value = status;
+
+			for (String key : path) {
+
+				if (!(value instanceof Document)) {
+					return null;
+				}
+
+				value = ((Document) value).get(key);
+			}
+
+			return value instanceof Number ? (Number) value : null;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.OperationMetricsRecorder;
+import org.springframework.data.mongodb.core.OperationSample;
+import org.springframework.data.mongodb.core.OperationSample.Phase;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded in-memory log of slow template operations exposed via JMX. Register it as slow operation recorder with
+ * {@link org.springframework.data.mongodb.core.MongoTemplate#setSlowOperationRecorder(OperationMetricsRecorder)} or
+ * {@link org.springframework.data.mongodb.core.ReactiveMongoTemplate#setSlowOperationRecorder(OperationMetricsRecorder)}.
+ * Once full, the oldest entries are overwritten.
+ *
+ * @since 2.0
+ */
+@ManagedResource(description = "Slow operations")
+public class SlowOperationLog implements OperationMetricsRecorder {
+
+	public static final int DEFAULT_CAPACITY = 100;
+
+	private final Entry[] entries;
+	private final LongAdder recorded = new LongAdder();
+	private int next;
+	private int size;
+
+	/**
+	 * Creates a new {@link SlowOperationLog} retaining the {@link #DEFAULT_CAPACITY} most recent slow operations.
+	 */
+	public SlowOperationLog() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link SlowOperationLog} retaining the given number of most recent slow operations.
+	 *
+	 * @param capacity must be greater than zero.
+	 */
+	public SlowOperationLog(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+		this.entries = new Entry[capacity];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.OperationMetricsRecorder#record(org.springframework.data.mongodb.core.OperationSample)
+	 */
+	@Override
+	public void record(OperationSample sample) {
+
+		Assert.notNull(sample, "OperationSample must not be null!");
+
+		Entry entry = new Entry(System.currentTimeMillis(), withoutQuery(sample), sample.getQueryShape());
+
+		synchronized (entries) {
+
+			entries[next] = entry;
+			next = (next + 1) % entries.length;
+			size = Math.min(size + 1, entries.length);
+		}
+
+		recorded.increment();
+	}
+
+	/**
+	 * Copies the timings of the given {@link OperationSample} dropping the query so that its values are not retained.
+	 *
+	 * @param sample must not be {@literal null}.
+	 * @return
+	 */
+	private static OperationSample withoutQuery(OperationSample sample) {
+
+		return new OperationSample(sample.getOperation(), sample.getCollectionName(),
+				sample.getTime(Phase.QUERY_MAPPING, TimeUnit.NANOSECONDS),
+				sample.getTime(Phase.CONVERSION, TimeUnit.NANOSECONDS), sample.getTotalNanos(),
+				sample.getDocumentCount(), sample.isSuccess());
+	}
+
+	/**
+	 * @return the retained slow operations, most recent first.
+	 */
+	public List<Entry> getEntries() {
+
+		List<Entry> result = new ArrayList<>();
+
+		synchronized (entries) {
+			for (int i = 1; i <= size; i++) {
+				result.add(entries[(next - i + entries.length) % entries.length]);
+			}
+		}
+
+		return result;
+	}
+
+	@ManagedOperation(description = "The retained slow operations, most recent first")
+	public String[] getSlowOperations() {
+		return getEntries().stream().map(Entry::toString).toArray(String[]::new);
+	}
+
+	@ManagedAttribute(description = "The number of slow operations retained at most")
+	public int getCapacity() {
+		return entries.length;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Slow operations recorded")
+	public long getRecordedCount() {
+		return recorded.sum();
+	}
+
+	/**
+	 * Discards all retained slow operations.
+	 */
+	@ManagedOperation(description = "Discards all retained slow operations")
+	public void clear() {
+
+		synchronized (entries) {
+
+			for (int i = 0; i < entries.length; i++) {
+				entries[i] = null;
+			}
+
+			next = 0;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A single slow operation. Only the shape of the query is retained, not the values it was executed with.
+	 */
+	public static class Entry {
+
+		private final long timestamp;
+		private final OperationSample sample;
+		private final Document queryShape;
+
+		Entry(long timestamp, OperationSample sample, Document queryShape) {
+
+			this.timestamp = timestamp;
+			this.sample = sample;
+			this.queryShape = queryShape;
+		}
+
+		/**
+		 * @return the time the operation completed in milliseconds since the epoch.
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * @return the timings of the operation, not retaining the query it was executed with.
+		 */
+		public OperationSample getSample() {
+			return sample;
+		}
+
+		/**
+		 * @return the shape of the query the operation was executed with, can be {@literal null}.
+		 */
+		public Document getQueryShape() {
+			return queryShape;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+
+			return String.format("%tFT%<tT.%<tL %s on %s took %dms (mapping %dms, execution %dms, conversion %dms), "
+					+ "%d documents%s, shape: %s", timestamp, sample.getOperation(), sample.getCollectionName(),
+					TimeUnit.NANOSECONDS.toMillis(sample.getTotalNanos()),
+					sample.getTime(Phase.QUERY_MAPPING, TimeUnit.MILLISECONDS),
+					sample.getTime(Phase.EXECUTION, TimeUnit.MILLISECONDS),
+					sample.getTime(Phase.CONVERSION, TimeUnit.MILLISECONDS), sample.getDocumentCount(),
+					sample.isSuccess() ? "" : ", failed", queryShape == null ? "n/a" : queryShape.toJson());
+		}
+	}
+}
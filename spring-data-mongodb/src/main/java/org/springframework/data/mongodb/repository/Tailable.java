@@ -25,7 +25,8 @@ import org.springframework.data.annotation.QueryAnnotation;
 
 /**
  * Annotation to declare an infinite stream using MongoDB's {@link com.mongodb.CursorType#TailableAwait tailable}
- * cursors. An infinite stream can only be used with capped collections. Objects are emitted through the stream as data
+ * cursors. An infinite stream can only be used with capped collections unless {@link #changeStream() change streams}
+ * are used. Objects are emitted through the stream as data
  * is inserted into the collection. An infinite stream can only be used with streams that emit more than one element,
  * such as {@link reactor.core.publisher.Flux}.
  * <p>
@@ -45,4 +46,13 @@ import org.springframework.data.annotation.QueryAnnotation;
 @QueryAnnotation
 public @interface Tailable {
 
+	/**
+	 * Use a MongoDB change stream instead of a tailable cursor. Change streams do not require a capped collection and
+	 * emit inserted, updated and replaced documents matching the query. Requires MongoDB 3.6 or newer running as replica
+	 * set or sharded cluster.
+	 *
+	 * @return {@literal true} to use a change stream. Defaults to {@literal false}.
+	 * @see <a href="https://docs.mongodb.com/manual/changeStreams/">Change Streams</a>
+	 */
+	boolean changeStream() default false;
 }
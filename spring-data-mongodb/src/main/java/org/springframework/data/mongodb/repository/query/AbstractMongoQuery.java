@@ -49,6 +49,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 	private final MongoQueryMethod method;
 	private final MongoOperations operations;
 	private final EntityInstantiators instantiators;
+	private ExplainPlanSampler explainPlanSampler;
 
 	/**
 	 * Creates a new {@link AbstractMongoQuery} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -66,6 +67,17 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		this.instantiators = new EntityInstantiators();
 	}
 
+	/**
+	 * Configures an {@link ExplainPlanSampler} to explain a fraction of the executions of find, count and exists queries
+	 * with.
+	 *
+	 * @param explainPlanSampler can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setExplainPlanSampler(ExplainPlanSampler explainPlanSampler) {
+		this.explainPlanSampler = explainPlanSampler;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
@@ -88,6 +100,14 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
 		String collection = method.getEntityInformation().getCollectionName();
 
+		if (!isDeleteQuery() && !isCountQuery() && !isExistsQuery()) {
+			ReturnedTypeProjection.applyTo(query, processor.getReturnedType());
+		}
+
+		if (explainPlanSampler != null && !isDeleteQuery() && !method.isGeoNearQuery()) {
+			explainPlanSampler.sample(method, query, collection);
+		}
+
 		MongoQueryExecution execution = getExecution(query, accessor,
 				new ResultProcessingConverter(processor, operations, instantiators));
 
@@ -24,6 +24,8 @@ import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.Tailable;
+import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryExecution.ChangeStreamExecution;
 import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryExecution.CollectionExecution;
 import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryExecution.DeleteExecution;
 import org.springframework.data.mongodb.repository.query.ReactiveMongoQueryExecution.GeoNearExecution;
@@ -105,6 +107,10 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 		ResultProcessor processor = method.getResultProcessor().withDynamicProjection(parameterAccessor);
 		String collection = method.getEntityInformation().getCollectionName();
 
+		if (!isDeleteQuery() && !isCountQuery()) {
+			ReturnedTypeProjection.applyTo(query, processor.getReturnedType());
+		}
+
 		ReactiveMongoQueryExecution execution = getExecution(query, parameterAccessor,
 				new ResultProcessingConverter(processor, operations, instantiators));
 
@@ -130,6 +136,8 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 			return new DeleteExecution(operations, method);
 		} else if (method.isGeoNearQuery()) {
 			return new GeoNearExecution(operations, accessor, method.getReturnType());
+		} else if (isChangeStream(method)) {
+			return new ChangeStreamExecution(operations);
 		} else if (isTailable(method)) {
 			return new TailExecution(operations, accessor.getPageable());
 		} else if (method.isCollectionQuery()) {
@@ -143,6 +151,12 @@ public abstract class AbstractReactiveMongoQuery implements RepositoryQuery {
 		return method.getTailableAnnotation() != null;
 	}
 
+	private boolean isChangeStream(MongoQueryMethod method) {
+
+		Tailable tailable = method.getTailableAnnotation();
+		return tailable != null && tailable.changeStream();
+	}
+
 	Query applyQueryMetaAttributesWhenPresent(Query query) {
 
 		if (method.hasQueryMetaAttributes()) {
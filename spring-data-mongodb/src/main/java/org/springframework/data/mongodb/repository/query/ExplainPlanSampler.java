@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Runs {@code explain} for a configurable fraction of repository query executions and aggregates the winning plans
+ * into {@link ExplainPlanStatistics} per {@link MongoQueryMethod}. Explain uses the {@literal executionStats}
+ * verbosity and thus executes the query a second time, so sampling is meant to be used with small rates, e.g. in
+ * staging environments, to detect unindexed derived and string based queries. Failing explain commands are logged and
+ * do not affect the actual query execution.
+ *
+ * @since 2.0
+ */
+public class ExplainPlanSampler {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ExplainPlanSampler.class);
+
+	private final MongoOperations operations;
+	private final QueryMapper queryMapper;
+	private final double sampleRate;
+	private final Map<MongoQueryMethod, ExplainPlanStatistics> statistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link ExplainPlanSampler} explaining the given fraction of query executions.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param sampleRate between {@literal 0} (never) and {@literal 1} (always).
+	 */
+	public ExplainPlanSampler(MongoOperations operations, double sampleRate) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1!");
+
+		this.operations = operations;
+		this.queryMapper = new QueryMapper(operations.getConverter());
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * @return the fraction of query executions to explain.
+	 */
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * Explains the given {@link Query} if the current execution is picked as sample.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 */
+	public void sample(MongoQueryMethod method, Query query, String collectionName) {
+
+		Assert.notNull(method, "MongoQueryMethod must not be null!");
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(collectionName, "Collection name must not be null!");
+
+		if (!isSampled()) {
+			return;
+		}
+
+		try {
+
+			Document explain = operations.executeCommand(createExplainCommand(method, query, collectionName));
+			statistics.computeIfAbsent(method, ExplainPlanStatistics::new).record(explain);
+
+		} catch (RuntimeException e) {
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Failed to explain query %s for %s.", query, method), e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link ExplainPlanStatistics} for the given {@link MongoQueryMethod}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return {@literal null} if the method was not sampled yet.
+	 */
+	public ExplainPlanStatistics getStatistics(MongoQueryMethod method) {
+
+		Assert.notNull(method, "MongoQueryMethod must not be null!");
+		return statistics.get(method);
+	}
+
+	/**
+	 * @return the {@link ExplainPlanStatistics} of all sampled query methods.
+	 */
+	public Collection<ExplainPlanStatistics> getStatistics() {
+		return statistics.values();
+	}
+
+	/**
+	 * Discards all collected statistics.
+	 */
+	public void reset() {
+		statistics.clear();
+	}
+
+	boolean isSampled() {
+		return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	Document createExplainCommand(MongoQueryMethod method, Query query, String collectionName) {
+
+		MongoPersistentEntity<?> entity = operations.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(method.getEntityInformation().getJavaType());
+
+		Document find = new Document("find", collectionName);
+		find.put("filter", queryMapper.getMappedObject(query.getQueryObject(), entity));
+
+		Document fields = query.getFieldsObject();
+		if (fields != null && !fields.isEmpty()) {
+			find.put("projection", queryMapper.getMappedFields(fields, entity));
+		}
+
+		if (!query.getSortObject().isEmpty()) {
+			find.put("sort", queryMapper.getMappedSort(query.getSortObject(), entity));
+		}
+
+		if (query.getSkip() > 0) {
+			find.put("skip", query.getSkip());
+		}
+
+		if (query.getLimit() > 0) {
+			find.put("limit", query.getLimit());
+		}
+
+		if (StringUtils.hasText(query.getHint())) {
+			find.put("hint", query.getHint());
+		}
+
+		query.getCollation().ifPresent(collation -> find.put("collation", collation.toDocument()));
+
+		return new Document("explain", find).append("verbosity", "executionStats");
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.bson.Document;
+
+/**
+ * Aggregated {@code explain} results of a single {@link MongoQueryMethod} collected by an {@link ExplainPlanSampler}.
+ *
+ * @since 2.0
+ * @see ExplainPlanSampler
+ */
+public class ExplainPlanStatistics {
+
+	private final MongoQueryMethod method;
+	private final Set<String> indexNames = new LinkedHashSet<>();
+
+	private long samples;
+	private long collectionScans;
+	private long keysExamined;
+	private long docsExamined;
+	private long returned;
+	private String lastIndexName;
+
+	ExplainPlanStatistics(MongoQueryMethod method) {
+		this.method = method;
+	}
+
+	synchronized void record(Document explain) {
+
+		Document queryPlanner = explain.get("queryPlanner", Document.class);
+		Document executionStats = explain.get("executionStats", Document.class);
+
+		PlanSummary plan = new PlanSummary();
+
+		if (queryPlanner != null) {
+			plan.visit(queryPlanner.get("winningPlan"));
+		}
+
+		samples++;
+
+		if (plan.collectionScan) {
+			collectionScans++;
+		}
+
+		indexNames.addAll(plan.indexNames);
+		lastIndexName = plan.indexNames.isEmpty() ? null : plan.indexNames.iterator().next();
+
+		if (executionStats != null) {
+
+			keysExamined += getLong(executionStats, "totalKeysExamined");
+			docsExamined += getLong(executionStats, "totalDocsExamined");
+			returned += getLong(executionStats, "nReturned");
+		}
+	}
+
+	/**
+	 * @return the sampled query method.
+	 */
+	public MongoQueryMethod getQueryMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the number of explained executions.
+	 */
+	public synchronized long getSampleCount() {
+		return samples;
+	}
+
+	/**
+	 * @return the number of explained executions whose winning plan contained a {@literal COLLSCAN} stage.
+	 */
+	public synchronized long getCollectionScanCount() {
+		return collectionScans;
+	}
+
+	/**
+	 * @return {@literal true} if any explained execution scanned the entire collection.
+	 */
+	public synchronized boolean isCollectionScanDetected() {
+		return collectionScans > 0;
+	}
+
+	/**
+	 * @return the index used by the most recently explained execution, {@literal null} if none was used.
+	 */
+	public synchronized String getLastIndexName() {
+		return lastIndexName;
+	}
+
+	/**
+	 * @return the names of all indexes chosen across the explained executions.
+	 */
+	public synchronized Set<String> getIndexNames() {
+		return new LinkedHashSet<>(indexNames);
+	}
+
+	/**
+	 * @return the number of index keys examined per returned document, {@literal 1} being ideal.
+	 */
+	public synchronized double getKeysExaminedRatio() {
+		return (double) keysExamined / Math.max(returned, 1);
+	}
+
+	/**
+	 * @return the number of documents examined per returned document, {@literal 1} being ideal.
+	 */
+	public synchronized double getDocsExaminedRatio() {
+		return (double) docsExamined / Math.max(returned, 1);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return String.format("%s: samples=%d, collectionScans=%d, indexes=%s, keysExamined/returned=%.2f, "
+				+ "docsExamined/returned=%.2f", method, samples, collectionScans, indexNames, getKeysExaminedRatio(),
+				getDocsExaminedRatio());
+	}
+
+	private static long getLong(Document document, String key) {
+
+		Object value = document.get(key);
+		return value instanceof Number ? ((Number) value).longValue() : 0;
+	}
+
+	/**
+	 * Walks the stages of a winning plan, including the plans of individual shards, collecting collection scans and
+	 * the names of the indexes scanned.
+	 */
+	private static class PlanSummary {
+
+		boolean collectionScan;
+		Set<String> indexNames = new LinkedHashSet<>();
+
+		void visit(Object candidate) {
+
+			if (candidate instanceof Collection) {
+				((Collection<?>) candidate).forEach(this::visit);
+				return;
+			}
+
+			if (!(candidate instanceof Document)) {
+				return;
+			}
+
+			Document stage = (Document) candidate;
+			Object name = stage.get("stage");
+
+			if ("COLLSCAN".equals(name)) {
+				collectionScan = true;
+			}
+
+			if ("IXSCAN".equals(name) && stage.get("indexName") instanceof String) {
+				indexNames.add((String) stage.get("indexName"));
+			}
+
+			stage.values().forEach(this::visit);
+		}
+	}
+}
@@ -19,6 +19,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.core.convert.converter.Converter;
@@ -28,6 +29,9 @@ import org.springframework.data.domain.Range;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.ChangeEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ChangeStreamOptions.ChangeStreamOptionsBuilder;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
@@ -85,6 +89,31 @@ interface ReactiveMongoQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link ReactiveMongoQueryExecution} for collection returning queries using change streams. Emits the changed
+	 * documents matching the query. Events not carrying a document, such as deletes, are skipped.
+	 *
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class ChangeStreamExecution implements ReactiveMongoQueryExecution {
+
+		private final @NonNull ReactiveMongoOperations operations;
+
+		@Override
+		public Object execute(Query query, Class<?> type, String collection) {
+
+			ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder();
+			if (!query.getQueryObject().isEmpty()) {
+				options.filter(query.getQueryObject());
+			}
+
+			return operations.changeStream(options.build(), type, collection) //
+					.map(ChangeEvent::getBody) //
+					.filter(Objects::nonNull);
+		}
+	}
+
 	/**
 	 * {@link ReactiveMongoQueryExecution} to return a single entity.
 	 *
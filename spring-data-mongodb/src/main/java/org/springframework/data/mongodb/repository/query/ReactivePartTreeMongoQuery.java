@@ -26,7 +26,6 @@ import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
-import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.StringUtils;
 
@@ -93,14 +92,7 @@ public class ReactivePartTreeMongoQuery extends AbstractReactiveMongoQuery {
 		String fieldSpec = getQueryMethod().getFieldSpecification();
 
 		if (!StringUtils.hasText(fieldSpec)) {
-
-			ReturnedType returnedType = processor.withDynamicProjection(accessor).getReturnedType();
-
-			if (returnedType.isProjecting()) {
-				returnedType.getInputProperties().forEach(query.fields()::include);
-			}
-
-			return query;
+			return ReturnedTypeProjection.applyTo(query, processor.withDynamicProjection(accessor).getReturnedType());
 		}
 
 		try {
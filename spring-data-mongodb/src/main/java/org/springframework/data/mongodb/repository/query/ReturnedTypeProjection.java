@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * Restricts a {@link Query} to the fields required to create the {@link ReturnedType} of a query method, i.e. the
+ * properties of a closed interface projection or the constructor arguments of a DTO. Open interface projections might
+ * access any property of the domain type through SpEL expressions and thus don't restrict the fields read.
+ *
+ * @since 2.0
+ */
+final class ReturnedTypeProjection {
+
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+	private ReturnedTypeProjection() {}
+
+	/**
+	 * Includes the input properties of the given {@link ReturnedType} in the fields of the given {@link Query} in case
+	 * it is projecting and the {@link Query} does not define any fields yet.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param returnedType must not be {@literal null}.
+	 * @return the given {@link Query}.
+	 */
+	static Query applyTo(Query query, ReturnedType returnedType) {
+
+		if (!returnedType.isProjecting() || hasFields(query) || isOpenProjection(returnedType.getReturnedType())) {
+			return query;
+		}
+
+		Field fields = query.fields();
+
+		for (String property : returnedType.getInputProperties()) {
+			fields.include(property);
+		}
+
+		return query;
+	}
+
+	private static boolean hasFields(Query query) {
+
+		Document fields = query.getFieldsObject();
+		return fields != null && !fields.isEmpty();
+	}
+
+	private static boolean isOpenProjection(Class<?> type) {
+		return type.isInterface() && !PROJECTION_FACTORY.getProjectionInformation(type).isClosed();
+	}
+}
@@ -27,6 +27,8 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.AbstractMongoQuery;
+import org.springframework.data.mongodb.repository.query.ExplainPlanSampler;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
 import org.springframework.data.mongodb.repository.query.PartTreeMongoQuery;
@@ -68,6 +70,7 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MongoOperations operations;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private ExplainPlanSampler explainPlanSampler;
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoOperations}.
@@ -82,6 +85,16 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = mongoOperations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configures an {@link ExplainPlanSampler} to explain a fraction of the executions of query methods with.
+	 *
+	 * @param explainPlanSampler can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setExplainPlanSampler(ExplainPlanSampler explainPlanSampler) {
+		this.explainPlanSampler = explainPlanSampler;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -128,7 +141,8 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			EvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext));
+		return Optional.of(
+				new MongoQueryLookupStrategy(operations, evaluationContextProvider, mappingContext, explainPlanSampler));
 	}
 
 	/*
@@ -158,13 +172,16 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		private final MongoOperations operations;
 		private final EvaluationContextProvider evaluationContextProvider;
 		MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+		private final ExplainPlanSampler explainPlanSampler;
 
 		public MongoQueryLookupStrategy(MongoOperations operations, EvaluationContextProvider evaluationContextProvider,
-				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext) {
+				MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext,
+				ExplainPlanSampler explainPlanSampler) {
 
 			this.operations = operations;
 			this.evaluationContextProvider = evaluationContextProvider;
 			this.mappingContext = mappingContext;
+			this.explainPlanSampler = explainPlanSampler;
 		}
 
 		/*
@@ -178,15 +195,20 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 			MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, factory, mappingContext);
 			String namedQueryName = queryMethod.getNamedQueryName();
 
+			AbstractMongoQuery query;
+
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
+				query = new StringBasedMongoQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
 						evaluationContextProvider);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
+				query = new StringBasedMongoQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
 			} else {
-				return new PartTreeMongoQuery(queryMethod, operations);
+				query = new PartTreeMongoQuery(queryMethod, operations);
 			}
+
+			query.setExplainPlanSampler(explainPlanSampler);
+			return query;
 		}
 	}
 }
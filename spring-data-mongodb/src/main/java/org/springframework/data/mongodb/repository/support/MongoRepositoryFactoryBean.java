@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.ExplainPlanSampler;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -35,6 +36,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 
 	private MongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
+	private ExplainPlanSampler explainPlanSampler;
 	private boolean mappingContextConfigured = false;
 
 	/**
@@ -64,6 +66,17 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures an {@link ExplainPlanSampler} to explain a fraction of the query method executions with. Defaults to
+	 * {@literal null}, i.e. no sampling.
+	 *
+	 * @param explainPlanSampler can be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setExplainPlanSampler(ExplainPlanSampler explainPlanSampler) {
+		this.explainPlanSampler = explainPlanSampler;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
@@ -91,6 +104,10 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 			factory.addQueryCreationListener(new IndexEnsuringQueryCreationListener(collectionName -> operations.indexOps(collectionName)));
 		}
 
+		if (explainPlanSampler != null && factory instanceof MongoRepositoryFactory) {
+			((MongoRepositoryFactory) factory).setExplainPlanSampler(explainPlanSampler);
+		}
+
 		return factory;
 	}
 
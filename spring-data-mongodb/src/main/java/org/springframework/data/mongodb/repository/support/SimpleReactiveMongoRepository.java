@@ -209,7 +209,7 @@ public class SimpleReactiveMongoRepository<T, ID extends Serializable> implement
 
 		Assert.notNull(entities, "The given Publisher of entities must not be null!");
 
-		return Flux.from(entities).flatMap(entity -> mongoOperations.insert(entity, entityInformation.getCollectionName()));
+		return mongoOperations.insertAll(Flux.from(entities), entityInformation.getCollectionName());
 	}
 
 	/*
@@ -253,10 +253,7 @@ public class SimpleReactiveMongoRepository<T, ID extends Serializable> implement
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
 
-		return Flux.from(entityStream)
-				.flatMap(entity -> entityInformation.isNew(entity) ? //
-						mongoOperations.insert(entity, entityInformation.getCollectionName()).then(Mono.just(entity)) : //
-						mongoOperations.save(entity, entityInformation.getCollectionName()).then(Mono.just(entity)));
+		return mongoOperations.saveAll(Flux.from(entityStream), entityInformation.getCollectionName());
 	}
 
 	/*
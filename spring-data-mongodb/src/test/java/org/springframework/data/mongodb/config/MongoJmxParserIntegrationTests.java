@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.mongodb.core.MongoAdmin;
+import org.springframework.data.mongodb.monitor.AbstractMonitor;
+import org.springframework.data.mongodb.monitor.AssertMetrics;
+import org.springframework.data.mongodb.monitor.BackgroundFlushingMetrics;
+import org.springframework.data.mongodb.monitor.BtreeIndexCounters;
+import org.springframework.data.mongodb.monitor.ConnectionMetrics;
+import org.springframework.data.mongodb.monitor.GlobalLockMetrics;
+import org.springframework.data.mongodb.monitor.MemoryMetrics;
+import org.springframework.data.mongodb.monitor.OperationCounters;
+import org.springframework.data.mongodb.monitor.ServerInfo;
+import org.springframework.data.mongodb.monitor.ServerStatusProvider;
+
+/**
+ * Integration tests for {@link MongoJmxParser}.
+ */
+public class MongoJmxParserIntegrationTests {
+
+	static final List<Class<? extends AbstractMonitor>> MONITORS = Arrays.asList(AssertMetrics.class,
+			BackgroundFlushingMetrics.class, BtreeIndexCounters.class, ConnectionMetrics.class, GlobalLockMetrics.class,
+			MemoryMetrics.class, OperationCounters.class, ServerInfo.class);
+
+	DefaultListableBeanFactory factory;
+
+	@Before
+	public void setUp() {
+
+		this.factory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(factory).loadBeanDefinitions(new ClassPathResource("namespace/jmx-bean.xml"));
+	}
+
+	@Test
+	public void registersSingleServerStatusProviderWithConfiguredRefresh() {
+
+		BeanDefinition definition = factory.getBeanDefinition(getStatusProviderName());
+
+		assertThat(getReferencedBeanName(definition), is(BeanNames.MONGO_BEAN_NAME));
+		assertThat(definition.getPropertyValues().getPropertyValueList(),
+				hasItems(new PropertyValue("refreshInterval", "5000"), new PropertyValue("backgroundRefresh", "true")));
+	}
+
+	@Test
+	public void sharesServerStatusProviderBetweenMonitors() {
+
+		String statusProviderName = getStatusProviderName();
+
+		for (Class<? extends AbstractMonitor> monitor : MONITORS) {
+
+			String[] names = factory.getBeanNamesForType(monitor, true, false);
+
+			assertThat(names, is(arrayWithSize(1)));
+			assertThat(getReferencedBeanName(factory.getBeanDefinition(names[0])), is(statusProviderName));
+		}
+	}
+
+	@Test
+	public void registersMongoAdminForConfiguredMongoClient() {
+
+		String[] names = factory.getBeanNamesForType(MongoAdmin.class, true, false);
+
+		assertThat(names, is(arrayWithSize(1)));
+		assertThat(getReferencedBeanName(factory.getBeanDefinition(names[0])), is(BeanNames.MONGO_BEAN_NAME));
+	}
+
+	private String getStatusProviderName() {
+
+		String[] names = factory.getBeanNamesForType(ServerStatusProvider.class, true, false);
+
+		assertThat(names, is(arrayWithSize(1)));
+		return names[0];
+	}
+
+	private static String getReferencedBeanName(BeanDefinition definition) {
+
+		Object value = definition.getConstructorArgumentValues().getIndexedArgumentValue(0, null).getValue();
+
+		assertThat(value, is(instanceOf(RuntimeBeanReference.class)));
+		return ((RuntimeBeanReference) value).getBeanName();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.CursorUsageTracker.CollectionCursorStatistics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Unit tests for {@link CursorUsageTracker}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CursorUsageTrackerUnitTests {
+
+	@Mock MongoCursor<Document> cursor;
+
+	CursorUsageTracker tracker = new CursorUsageTracker();
+	ConnectionDescription connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+	@Test
+	public void tracksCursorUntilClosed() {
+
+		when(cursor.next()).thenReturn(new Document("_id", 1));
+
+		MongoCursor<Document> tracked = tracker.track("person", cursor);
+		tracked.next();
+		tracked.next();
+
+		CollectionCursorStatistics statistics = tracker.getStatistics("person");
+
+		assertThat(statistics.getOpenCursorCount()).isEqualTo(1);
+		assertThat(tracker.getOpenCursorCount()).isEqualTo(1);
+		assertThat(statistics.getDocumentCount()).isEqualTo(2);
+
+		tracked.close();
+		tracked.close();
+
+		verify(cursor, times(2)).close();
+		assertThat(statistics.getOpenCursorCount()).isZero();
+		assertThat(statistics.getOpenedCursorCount()).isEqualTo(1);
+		assertThat(tracker.getOpenCursorCount()).isZero();
+	}
+
+	@Test
+	public void considersExhaustedCursorFinished() {
+
+		when(cursor.hasNext()).thenReturn(false);
+
+		tracker.track("person", cursor).hasNext();
+
+		assertThat(tracker.getStatistics("person").getOpenCursorCount()).isZero();
+	}
+
+	@Test
+	public void reportsLeakedCursorsOnce() {
+
+		tracker.setLeakThreshold(Duration.ZERO);
+		tracker.track("person", cursor);
+
+		assertThat(tracker.checkForLeakedCursors()).isEqualTo(1);
+		assertThat(tracker.checkForLeakedCursors()).isEqualTo(1);
+		assertThat(tracker.getStatistics("person").getLeakedCursorCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void releasesAndReportsGarbageCollectedCursors() throws InterruptedException {
+
+		tracker.track("person", cursor);
+
+		for (int i = 0; i < 50 && tracker.getOpenCursorCount() > 0; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(tracker.getOpenCursorCount()).isZero();
+		assertThat(tracker.getStatistics("person").getOpenCursorCount()).isZero();
+		assertThat(tracker.getStatistics("person").getLeakedCursorCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void countsGetMoresAndBytesReturned() {
+
+		tracker.setMeasureReturnedBytes(true);
+
+		BsonDocument getMore = new BsonDocument("getMore", new BsonInt64(42)).append("collection",
+				new BsonString("person"));
+		BsonDocument response = new BsonDocument("cursor",
+				new BsonDocument("nextBatch", new BsonArray()).append("id", new BsonInt64(0))).append("ok",
+						new BsonInt32(1));
+
+		tracker.commandStarted(new CommandStartedEvent(1, connection, "database", "getMore", getMore));
+		tracker.commandSucceeded(new CommandSucceededEvent(1, connection, "getMore", response, 10));
+
+		CollectionCursorStatistics statistics = tracker.getStatistics("person");
+
+		assertThat(statistics.getGetMoreCount()).isEqualTo(1);
+		assertThat(statistics.getBytesReturned()).isGreaterThan(0);
+	}
+
+	@Test
+	public void doesNotMeasureBytesReturnedByDefault() {
+
+		BsonDocument find = new BsonDocument("find", new BsonString("person"));
+		BsonDocument response = new BsonDocument("cursor",
+				new BsonDocument("firstBatch", new BsonArray()).append("id", new BsonInt64(0))).append("ok",
+						new BsonInt32(1));
+
+		tracker.commandStarted(new CommandStartedEvent(1, connection, "database", "find", find));
+		tracker.commandSucceeded(new CommandSucceededEvent(1, connection, "find", response, 10));
+
+		assertThat(tracker.getStatistics()).isEmpty();
+	}
+
+	@Test
+	public void ignoresNonCursorCommands() {
+
+		tracker.commandStarted(new CommandStartedEvent(1, connection, "database", "insert",
+				new BsonDocument("insert", new BsonString("person"))));
+		tracker.commandSucceeded(new CommandSucceededEvent(1, connection, "insert", new BsonDocument(), 10));
+
+		assertThat(tracker.getStatistics()).isEmpty();
+	}
+}
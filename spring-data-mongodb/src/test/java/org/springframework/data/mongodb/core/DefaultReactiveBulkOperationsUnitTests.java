@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link DefaultReactiveBulkOperations}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DefaultReactiveBulkOperationsUnitTests {
+
+	@Mock SimpleReactiveMongoDatabaseFactory factory;
+	@Mock MongoDatabase db;
+	@Mock MongoCollection collection;
+
+	ReactiveMongoTemplate template;
+
+	@Before
+	public void setUp() {
+
+		when(factory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+		when(factory.getMongoDatabase()).thenReturn(db);
+		when(db.getCollection(any())).thenReturn(collection);
+		when(collection.bulkWrite(any(), any())).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+		MappingMongoConverter converter = new MappingMongoConverter(new NoOpDbRefResolver(), new MongoMappingContext());
+		template = new ReactiveMongoTemplate(factory, converter);
+	}
+
+	@Test
+	public void executeShouldWriteOneBatchPerBatchSize() {
+
+		ReactiveBulkOperations ops = template.bulkOps(BulkMode.ORDERED, "collection-1").batchSize(2)
+				.insert(Flux.just(new Document("_id", 1), new Document("_id", 2), new Document("_id", 3)));
+
+		StepVerifier.create(ops.execute()).expectNextCount(2).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<BulkWriteOptions> options = ArgumentCaptor.forClass(BulkWriteOptions.class);
+		verify(collection, times(2)).bulkWrite(captor.capture(), options.capture());
+
+		assertThat(captor.getAllValues().get(0)).hasSize(2);
+		assertThat(captor.getAllValues().get(1)).hasSize(1);
+		assertThat(captor.getAllValues().get(0).get(0)).isInstanceOf(InsertOneModel.class);
+		assertThat(options.getValue().isOrdered()).isTrue();
+	}
+
+	@Test
+	public void executeShouldSplitBatchesByBytes() {
+
+		Document document = new Document("_id", 1).append("value", "some-value");
+		long size = new org.bson.RawBsonDocument(document, new org.bson.codecs.DocumentCodec()).getByteBuffer()
+				.remaining();
+
+		ReactiveBulkOperations ops = template.bulkOps(BulkMode.UNORDERED, "collection-1").batchBytes(size * 2)
+				.insert(Flux.just(document, new Document(document), new Document(document)));
+
+		StepVerifier.create(ops.execute()).expectNextCount(2).verifyComplete();
+
+		verify(collection, times(2)).bulkWrite(any(), any());
+	}
+
+	@Test
+	public void executeShouldMapUpdatesAndRemovalsAgainstEntity() {
+
+		Pair<Query, Update> update = Pair.of(new BasicQuery("{ 'firstName' : 'Daenerys' }"),
+				new Update().set("firstName", "Khaleesi"));
+
+		ReactiveBulkOperations ops = template.bulkOps(BulkMode.ORDERED, SomeDomainType.class, "collection-1")
+				.updateOne(Flux.just(update)).remove(Mono.just(new BasicQuery("{ 'firstName' : 'Viserys' }")));
+
+		StepVerifier.create(ops.execute()).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(captor.capture(), any());
+
+		assertThat(captor.getValue()).hasSize(2);
+		assertThat(captor.getValue().get(0)).isInstanceOf(UpdateOneModel.class);
+		assertThat(((UpdateOneModel<?>) captor.getValue().get(0)).getFilter())
+				.isEqualTo(new Document("first_name", "Daenerys"));
+		assertThat(captor.getValue().get(1)).isInstanceOf(DeleteManyModel.class);
+		assertThat(((DeleteManyModel<?>) captor.getValue().get(1)).getFilter())
+				.isEqualTo(new Document("first_name", "Viserys"));
+	}
+
+	@Test
+	public void orderedExecuteShouldWriteOperationsInRegistrationOrder() {
+
+		ReactiveBulkOperations ops = template.bulkOps(BulkMode.ORDERED, "collection-1")
+				.insert(Flux.just(new Document("_id", 1)).delayElements(Duration.ofMillis(50)))
+				.insert(Flux.just(new Document("_id", 2)));
+
+		StepVerifier.create(ops.execute()).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(captor.capture(), any());
+
+		assertThat(captor.getValue()).extracting(model -> (Object) ((InsertOneModel<?>) model).getDocument())
+				.containsExactly(new Document("_id", 1), new Document("_id", 2));
+	}
+
+	@Test
+	public void executeShouldNotWriteWithoutOperations() {
+
+		StepVerifier.create(template.bulkOps(BulkMode.ORDERED, "collection-1").execute()).verifyComplete();
+
+		verify(collection, never()).bulkWrite(any(), any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveBatchSize() {
+		template.bulkOps(BulkMode.ORDERED, "collection-1").batchSize(0);
+	}
+
+	static class SomeDomainType {
+
+		@Id String id;
+		@Field("first_name") String firstName;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+
+/**
+ * Unit tests for {@link EntityLifecycleEventDelegate}.
+ */
+public class EntityLifecycleEventDelegateUnitTests {
+
+	GenericApplicationContext context;
+	EntityLifecycleEventDelegate delegate;
+
+	@Before
+	public void setUp() {
+
+		context = new GenericApplicationContext();
+		delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(context);
+	}
+
+	@Test
+	public void requiresEventsBeforeContextIsRefreshed() {
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void doesNotRequireEventsWithoutListeners() {
+
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isFalse();
+		assertThat(delegate.isEventRequired(AfterLoadEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void requiresEventsForMatchingDomainTypeOnly() {
+
+		context.addApplicationListener(new PersonListener());
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isTrue();
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, String.class)).isFalse();
+	}
+
+	@Test
+	public void requiresEventsForListenerBeans() {
+
+		context.registerBean(PersonListener.class);
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeSaveEvent.class, Person.class)).isTrue();
+		assertThat(delegate.isEventRequired(BeforeSaveEvent.class, String.class)).isFalse();
+	}
+
+	@Test
+	public void considersListenersAddedAfterRefresh() {
+
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isFalse();
+
+		context.addApplicationListener(new PersonListener());
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void resolvesPlainApplicationListenersByEventType() {
+
+		context.addApplicationListener(new BeforeSaveListener());
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeSaveEvent.class, Person.class)).isTrue();
+		assertThat(delegate.isEventRequired(AfterLoadEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void requiresEventsForGenericMappingEventListener() {
+
+		context.addApplicationListener(new MappingEventListener());
+		context.refresh();
+
+		assertThat(delegate.isEventRequired(BeforeSaveEvent.class, Person.class)).isTrue();
+	}
+
+	@Test
+	public void doesNotRequireEventsWhenDisabled() {
+
+		context.addApplicationListener(new PersonListener());
+		context.refresh();
+		delegate.setEventsEnabled(false);
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void doesNotRequireEventsForMappingEventPublisher() {
+
+		delegate.setPublisher(new MongoMappingEventPublisher(
+				new MongoPersistentEntityIndexCreator(new MongoMappingContext(), collectionName -> null)));
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isFalse();
+	}
+
+	@Test
+	public void doesNotRequireEventsWithoutPublisher() {
+
+		delegate.setPublisher(null);
+
+		assertThat(delegate.isEventRequired(BeforeConvertEvent.class, Person.class)).isFalse();
+	}
+
+	static class PersonListener extends AbstractMongoEventListener<Person> {}
+
+	static class MappingEventListener implements ApplicationListener<MongoMappingEvent<?>> {
+
+		@Override
+		public void onApplicationEvent(MongoMappingEvent<?> event) {}
+	}
+
+	static class BeforeSaveListener implements ApplicationListener<BeforeSaveEvent<?>> {
+
+		@Override
+		public void onApplicationEvent(BeforeSaveEvent<?> event) {}
+	}
+}
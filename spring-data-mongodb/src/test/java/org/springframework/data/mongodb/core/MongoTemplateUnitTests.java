@@ -23,6 +23,7 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 import static org.springframework.data.mongodb.test.util.IsBsonObject.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -62,6 +63,9 @@ import org.springframework.data.mongodb.core.convert.QueryMapper;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadBatchEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.mongodb.core.mapreduce.GroupBy;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
@@ -533,6 +537,29 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		spy.save(entity);
 	}
 
+	@Test
+	public void publishesBatchEventsForFindIfEnabled() {
+
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "1"), new Document("_id", "2"));
+
+		BatchCapturingPersonListener listener = new BatchCapturingPersonListener();
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		context.addApplicationListener(listener);
+
+		template.setApplicationContext(context);
+		template.setBatchLifecycleEventsEnabled(true);
+
+		List<Person> result = template.find(new Query(), Person.class);
+
+		assertThat(result, hasSize(2));
+		assertThat(listener.afterLoadBatchSizes, contains(2));
+		assertThat(listener.afterConvertBatchSizes, contains(2));
+		assertThat(listener.afterLoadInvocations, is(0));
+	}
+
 	@Test // DATAMONGO-1447
 	public void shouldNotAppend$isolatedToNonMulitUpdate() {
 
@@ -783,6 +810,55 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		assertThat(cmd.getValue().get("group", Document.class).get("collation", Document.class), equalTo(new Document("locale", "fr")));
 	}
 
+	@Test
+	public void findShouldNotDeriveFieldProjectionByDefault() {
+
+		template.find(new Query(), PersonSummary.class, "collection-1");
+
+		verify(findIterable, never()).projection(Mockito.any());
+	}
+
+	@Test
+	public void findShouldDeriveFieldProjectionFromEntityWhenEnabled() {
+
+		template.setDeriveFieldProjections(true);
+		template.find(new Query(), PersonSummary.class, "collection-1");
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(findIterable).projection(captor.capture());
+
+		assertThat(captor.getValue(),
+				equalTo(new Document("_id", 1).append("firstname", 1).append("lastname", 1).append("_class", 1)));
+	}
+
+	@Test
+	public void findShouldNotDeriveFieldProjectionWhenQueryDefinesFields() {
+
+		template.setDeriveFieldProjections(true);
+
+		Query query = new Query();
+		query.fields().include("lastname");
+		template.find(query, PersonSummary.class, "collection-1");
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(findIterable).projection(captor.capture());
+
+		assertThat(captor.getValue(), equalTo(new Document("lastname", 1)));
+	}
+
+	@Test
+	public void findOneShouldDeriveFieldProjectionFromEntityWhenEnabled() {
+
+		template.setDeriveFieldProjections(true);
+		template.findOne(new Query(), PersonSummary.class, "collection-1");
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(findIterable).projection(captor.capture());
+
+		assertThat(captor.getValue(),
+				equalTo(new Document("_id", 1).append("firstname", 1).append("lastname", 1).append("_class", 1)));
+	}
+
 	class AutogenerateableId {
 
 		@Id BigInteger id;
@@ -797,6 +873,34 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		}
 	}
 
+	static class BatchCapturingPersonListener extends AbstractMongoEventListener<Person> {
+
+		List<Integer> afterLoadBatchSizes = new ArrayList<>();
+		List<Integer> afterConvertBatchSizes = new ArrayList<>();
+		int afterLoadInvocations;
+
+		@Override
+		public void onAfterLoad(AfterLoadEvent<Person> event) {
+			afterLoadInvocations++;
+		}
+
+		@Override
+		public void onAfterLoadBatch(AfterLoadBatchEvent<Person> event) {
+			afterLoadBatchSizes.add(event.size());
+		}
+
+		@Override
+		public void onAfterConvertBatch(AfterConvertBatchEvent<Person> event) {
+			afterConvertBatchSizes.add(event.size());
+		}
+	}
+
+	static class PersonSummary {
+
+		@Id String id;
+		String firstname, lastname;
+	}
+
 	static class VersionedEntity {
 
 		@Id Integer id;
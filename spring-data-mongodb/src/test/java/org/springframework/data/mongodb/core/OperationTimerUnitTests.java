@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.OperationSample.Phase;
+
+/**
+ * Unit tests for {@link OperationTimer}.
+ */
+public class OperationTimerUnitTests {
+
+	List<OperationSample> samples = new ArrayList<>();
+
+	@Test
+	public void returnsNoOpTimerWithoutRecorder() {
+
+		OperationTimer timer = OperationTimer.start(null, OperationTimer.FIND, "collection-1");
+
+		assertThat(timer).isSameAs(OperationTimer.NONE);
+
+		MongoTemplate.DocumentCallback<Object> callback = document -> document;
+		assertThat(timer.timeConversion(callback)).isSameAs(callback);
+	}
+
+	@Test
+	public void recordsSampleOnceStopped() {
+
+		OperationTimer timer = OperationTimer.start(samples::add, OperationTimer.INSERT, "collection-1");
+		timer.documents(2);
+		timer.stop();
+		timer.stop();
+
+		assertThat(samples).hasSize(1);
+
+		OperationSample sample = samples.get(0);
+		assertThat(sample.getOperation()).isEqualTo("insert");
+		assertThat(sample.getCollectionName()).isEqualTo("collection-1");
+		assertThat(sample.getDocumentCount()).isEqualTo(2);
+		assertThat(sample.isSuccess()).isTrue();
+	}
+
+	@Test
+	public void reportsFailure() {
+
+		OperationTimer timer = OperationTimer.start(samples::add, OperationTimer.FIND_ONE, "collection-1");
+		timer.failed();
+		timer.stop();
+
+		assertThat(samples.get(0).isSuccess()).isFalse();
+	}
+
+	@Test
+	public void countsConvertedDocumentsAndIncludesPriorQueryMappingTime() {
+
+		OperationTimer timer = OperationTimer.start(samples::add, OperationTimer.FIND, "collection-1");
+		timer.addPriorQueryMappingTime(TimeUnit.MILLISECONDS.toNanos(5));
+
+		MongoTemplate.DocumentCallback<Object> valueCallback = document -> document.get("value");
+		MongoTemplate.DocumentCallback<Object> callback = timer.timeConversion(valueCallback);
+		callback.doWith(new Document("value", 1));
+		callback.doWith(new Document("value", 2));
+		timer.stop();
+
+		OperationSample sample = samples.get(0);
+		assertThat(sample.getDocumentCount()).isEqualTo(2);
+		assertThat(sample.getTime(Phase.QUERY_MAPPING, TimeUnit.MILLISECONDS)).isEqualTo(5);
+		assertThat(sample.getTotalNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+		assertThat(sample.getTime(Phase.EXECUTION, TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void excludesTimeSpentInSubscriberFromReactiveOperations() {
+
+		OperationTimer timer = OperationTimer.start(samples::add, OperationTimer.FIND, "collection-1");
+		timer.addPriorQueryMappingTime(TimeUnit.MILLISECONDS.toNanos(5));
+
+		OperationTimingSubscriber.measure(Flux.just(1, 2, 3), timer) //
+				.doOnNext(it -> sleep(100)) //
+				.doFinally(signal -> timer.stop()) //
+				.blockLast();
+
+		assertThat(samples.get(0).getTotalNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5))
+				.isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	public void excludesTimeWithoutDemandFromReactiveOperations() {
+
+		OperationTimer timer = OperationTimer.start(samples::add, OperationTimer.FIND, "collection-1");
+
+		StepVerifier.create(OperationTimingSubscriber.measure(Flux.just(1, 2), timer) //
+				.doFinally(signal -> timer.stop()), 0) //
+				.thenRequest(1) //
+				.expectNext(1) //
+				.then(() -> sleep(200)) //
+				.thenRequest(1) //
+				.expectNext(2) //
+				.verifyComplete();
+
+		assertThat(samples.get(0).getTotalNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(200));
+	}
+
+	@Test
+	public void reportsSlowOperationsWithQuery() {
+
+		List<OperationSample> slow = new ArrayList<>();
+
+		OperationTimer timer = OperationTimer.start(null, slow::add, 0, OperationTimer.FIND, "collection-1");
+		timer.query(new Document("lastname", "Matthews"));
+		timer.stop();
+
+		OperationTimer fast = OperationTimer.start(samples::add, slow::add, TimeUnit.HOURS.toNanos(1),
+				OperationTimer.FIND, "collection-1");
+		fast.stop();
+
+		assertThat(slow).hasSize(1);
+		assertThat(samples).hasSize(1);
+		assertThat(slow.get(0).getQueryShape()).isEqualTo(new Document("lastname", "?"));
+		assertThat(samples.get(0).getQueryShape()).isNull();
+	}
+
+	@Test
+	public void queryShapeStripsValues() {
+
+		Document query = new Document("age", new Document("$in", Arrays.asList(1, 2, 3))) //
+				.append("$or", Arrays.asList(new Document("firstname", "Dave"), new Document("lastname", "Matthews")));
+
+		OperationSample sample = new OperationSample(OperationTimer.FIND, "collection-1", 0, 0, 0, 0, true, query);
+
+		assertThat(sample.getQueryShape()).isEqualTo(new Document("age", new Document("$in", Arrays.asList("?"))) //
+				.append("$or", Arrays.asList(new Document("firstname", "?"), new Document("lastname", "?"))));
+	}
+
+	private static void sleep(long millis) {
+
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -20,6 +20,16 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.any;
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bson.Document;
 import org.junit.Before;
@@ -31,24 +41,40 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.MongoTemplateUnitTests.AutogenerateableId;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate.NoOpDbRefResolver;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.mongodb.MongoCursorNotFoundException;
+import com.mongodb.MongoNotPrimaryException;
+import com.mongodb.MongoQueryException;
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.Success;
 
 /**
  * Unit tests for {@link ReactiveMongoTemplate}.
@@ -67,6 +93,7 @@ public class ReactiveMongoTemplateUnitTests {
 	@Mock MongoCollection collection;
 	@Mock FindPublisher findPublisher;
 	@Mock Publisher runCommandPublisher;
+	@Mock AggregatePublisher aggregatePublisher;
 
 	MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
 	MappingMongoConverter converter;
@@ -244,4 +271,320 @@ public class ReactiveMongoTemplateUnitTests {
 		assertThat(cmd.getValue().get("collation", Document.class), equalTo(new Document("locale", "fr")));
 	}
 
+	@Test
+	public void findShouldBoundUpstreamDemandWhenReadPrefetchConfigured() {
+
+		List<Long> requests = new CopyOnWriteArrayList<>();
+		Flux<Document> documents = Flux.range(0, 100).map(i -> new Document("_id", i)).doOnRequest(requests::add);
+
+		doAnswer(invocation -> {
+			documents.subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		template.setReadPrefetch(10);
+
+		List<Document> result = template.find(new BasicQuery("{}"), Document.class, "collection-1").collectList()
+				.block();
+
+		assertThat(result, hasSize(100));
+		assertThat(requests, everyItem(lessThanOrEqualTo(10L)));
+	}
+
+	@Test
+	public void findShouldPassThroughUpstreamDemandByDefault() {
+
+		List<Long> requests = new CopyOnWriteArrayList<>();
+		Flux<Document> documents = Flux.range(0, 100).map(i -> new Document("_id", i)).doOnRequest(requests::add);
+
+		doAnswer(invocation -> {
+			documents.subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		template.find(new BasicQuery("{}"), Document.class, "collection-1").collectList().block();
+
+		assertThat(requests, contains(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void insertAllFluxShouldInsertDocumentsInBatches() {
+
+		when(collection.insertMany(anyList())).thenReturn(Mono.just(Success.SUCCESS));
+		template.setWriteBatchSize(2);
+
+		Document first = new Document("value", 1);
+		Document second = new Document("value", 2);
+		Document third = new Document("value", 3);
+
+		StepVerifier.create(template.insertAll(Flux.just(first, second, third), "collection-1")) //
+				.expectNext(first, second, third) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).insertMany(captor.capture());
+
+		assertThat(captor.getAllValues().get(0), hasSize(2));
+		assertThat(captor.getAllValues().get(1), hasSize(1));
+	}
+
+	@Test
+	public void saveAllFluxShouldInsertAndReplaceDocumentsWithSingleBulkWrite() {
+
+		when(collection.bulkWrite(anyList(), any())).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+		Document fresh = new Document("value", 1);
+		Document existing = new Document("_id", "id-1").append("value", 2);
+
+		StepVerifier.create(template.saveAll(Flux.just(fresh, existing), "collection-1")) //
+				.expectNext(fresh, existing) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<WriteModel<Document>>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).bulkWrite(captor.capture(), any());
+
+		assertThat(captor.getValue().get(0), is(instanceOf(InsertOneModel.class)));
+		assertThat(captor.getValue().get(1), is(instanceOf(ReplaceOneModel.class)));
+	}
+
+	@Test
+	public void changeStreamShouldAggregateWithMappedFilter() {
+
+		Document event = new Document("_id", new Document("_data", "token-1")).append("operationType", "insert")
+				.append("fullDocument", new Document("_id", "id-1").append("first_name", "Luke"));
+		when(collection.aggregate(anyList())).thenReturn(aggregatePublisher);
+		doAnswer(invocation -> {
+			Flux.just(event).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		ChangeStreamOptions options = ChangeStreamOptions.builder()
+				.filter(where("firstName").is("Luke").and("operationType").is("insert")).build();
+
+		StepVerifier.create(template.changeStream(options, Jedi.class, "collection-1")) //
+				.consumeNextWith(it -> {
+					assertThat(it.getOperationType(), is("insert"));
+					assertThat(it.getResumeToken(), is(new Document("_data", "token-1")));
+					assertThat(it.getBody().firstName, is("Luke"));
+				}).verifyComplete();
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).aggregate(captor.capture());
+
+		assertThat(captor.getValue().get(0),
+				is(new Document("$changeStream", new Document("fullDocument", ChangeStreamOptions.UPDATE_LOOKUP))));
+		assertThat(captor.getValue().get(1), is(new Document("$match",
+				new Document("fullDocument.first_name", "Luke").append("operationType", "insert"))));
+	}
+
+	@Test
+	public void changeStreamShouldResumeAfterLastEventOnTransientError() {
+
+		List<Publisher<Document>> cursors = new CopyOnWriteArrayList<>(Arrays.asList(
+				Flux.concat(Flux.just(deleteEvent("token-1")), Flux.error(cursorNotFound())),
+				Flux.just(deleteEvent("token-2"))));
+		when(collection.aggregate(anyList())).thenReturn(aggregatePublisher);
+		doAnswer(invocation -> {
+			cursors.remove(0).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		StepVerifier.create(template.changeStream(ChangeStreamOptions.empty(), Jedi.class, "collection-1")) //
+				.consumeNextWith(it -> assertThat(it.getBody(), is(nullValue()))) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).aggregate(captor.capture());
+
+		assertThat(captor.getAllValues().get(0).get(0).get("$changeStream", Document.class).containsKey("resumeAfter"),
+				is(false));
+		assertThat(captor.getAllValues().get(1).get(0).get("$changeStream", Document.class).get("resumeAfter"),
+				is(new Document("_data", "token-1")));
+	}
+
+	@Test
+	public void changeStreamShouldNotShareResumeTokenBetweenSubscribers() {
+
+		when(collection.aggregate(anyList())).thenReturn(aggregatePublisher);
+		doAnswer(invocation -> {
+			Flux.just(deleteEvent("token-1")).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		Flux<ChangeEvent<Jedi>> stream = template.changeStream(ChangeStreamOptions.empty(), Jedi.class, "collection-1");
+
+		StepVerifier.create(stream).expectNextCount(1).verifyComplete();
+		StepVerifier.create(stream).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).aggregate(captor.capture());
+
+		for (List<Document> pipeline : captor.getAllValues()) {
+			assertThat(pipeline.get(0).get("$changeStream", Document.class).containsKey("resumeAfter"), is(false));
+		}
+	}
+
+	@Test
+	public void changeStreamShouldPropagateConversionErrors() {
+
+		Document event = new Document("_id", new Document("_data", "token-1")).append("operationType", "insert")
+				.append("fullDocument", new Document("_id", 1).append("age", "unknown"));
+		when(collection.aggregate(anyList())).thenReturn(aggregatePublisher);
+		doAnswer(invocation -> {
+			Flux.just(event).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(aggregatePublisher).subscribe(any());
+
+		StepVerifier.create(template.changeStream(ChangeStreamOptions.empty(), Trooper.class, "collection-1")) //
+				.verifyError();
+
+		verify(collection).aggregate(anyList());
+	}
+
+	@Test
+	public void resumableTailShouldReopenCursorAfterLastSeenDocument() {
+
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+
+		List<Publisher<Document>> cursors = new CopyOnWriteArrayList<>(
+				Arrays.asList(Flux.concat(Flux.just(new Document("_id", 1)), Flux.error(cursorNotFound())),
+						Flux.just(new Document("_id", 2)), Flux.empty()));
+		doAnswer(invocation -> {
+			cursors.remove(0).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		TailOptions options = TailOptions.builder().maxRestarts(1).backoff(Duration.ZERO, Duration.ZERO).build();
+
+		StepVerifier.create(template.tail(new Query(), options, Document.class, "collection-1")) //
+				.expectNext(new Document("_id", 1), new Document("_id", 2)) //
+				.verifyComplete();
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(collection).find();
+		verify(collection, times(2)).find(captor.capture());
+
+		assertThat(captor.getAllValues().get(0), is(new Document("_id", new Document("$gt", 1))));
+		assertThat(captor.getAllValues().get(1), is(new Document("_id", new Document("$gt", 2))));
+	}
+
+	@Test
+	public void resumableTailShouldPropagateConversionErrors() {
+
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+		doAnswer(invocation -> {
+			Flux.just(new Document("_id", 1).append("age", "unknown"))
+					.subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		TailOptions options = TailOptions.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+
+		StepVerifier.create(template.tail(new Query(), options, Trooper.class, "collection-1")) //
+				.verifyError();
+
+		verify(collection).find();
+		verify(collection, never()).find(any(Document.class));
+	}
+
+	@Test
+	public void resumableTailShouldPropagateNonTransientErrors() {
+
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+		doAnswer(invocation -> {
+			Flux.<Document> error(new MongoQueryException(new ServerAddress(), 2, "bad query"))
+					.subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		TailOptions options = TailOptions.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+
+		StepVerifier.create(template.tail(new Query(), options, Document.class, "collection-1")) //
+				.verifyError();
+
+		verify(collection).find();
+	}
+
+	@Test
+	public void resumableTailShouldApplySkipToInitialCursorAndLimitToOverallStream() {
+
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+		when(findPublisher.skip(anyInt())).thenReturn(findPublisher);
+
+		List<Publisher<Document>> cursors = new CopyOnWriteArrayList<>(
+				Arrays.asList(Flux.concat(Flux.just(new Document("_id", 2)), Flux.error(cursorNotFound())),
+						Flux.just(new Document("_id", 3), new Document("_id", 4))));
+		doAnswer(invocation -> {
+			cursors.remove(0).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		TailOptions options = TailOptions.builder().backoff(Duration.ZERO, Duration.ZERO).build();
+
+		StepVerifier.create(template.tail(new Query().skip(1).limit(2), options, Document.class, "collection-1")) //
+				.expectNext(new Document("_id", 2), new Document("_id", 3)) //
+				.verifyComplete();
+
+		// the query's skip and limit are applied first and overridden for reopened cursors
+		verify(findPublisher, times(2)).skip(1);
+		verify(findPublisher).skip(0);
+		verify(findPublisher, times(2)).limit(2);
+		verify(findPublisher).limit(1);
+	}
+
+	@Test
+	public void resumableTailShouldPropagateErrorAfterMaxRestarts() {
+
+		when(findPublisher.cursorType(any())).thenReturn(findPublisher);
+		doAnswer(invocation -> {
+			Flux.<Document> error(cursorNotFound()).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(findPublisher).subscribe(any());
+
+		TailOptions options = TailOptions.builder().maxRestarts(2).backoff(Duration.ZERO, Duration.ZERO).build();
+
+		StepVerifier.create(template.tail(new Query(), options, Document.class, "collection-1")) //
+				.verifyError();
+
+		verify(collection, times(3)).find();
+	}
+
+	@Test
+	public void detectsTransientCursorErrors() {
+
+		ServerAddress address = new ServerAddress();
+
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(cursorNotFound()), is(true));
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(new MongoNotPrimaryException(address)), is(true));
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(
+				new DataAccessResourceFailureException("failed", new MongoSocketReadException("reset", address))),
+				is(true));
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(new MongoQueryException(address, 237, "killed")),
+				is(true));
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(new MongoQueryException(address, 2, "bad query")),
+				is(false));
+		assertThat(ReactiveMongoTemplate.isTransientCursorError(new IllegalStateException()), is(false));
+	}
+
+	private static Document deleteEvent(String token) {
+		return new Document("_id", new Document("_data", token)).append("operationType", "delete").append("documentKey",
+				new Document("_id", "id-1"));
+	}
+
+	private static MongoCursorNotFoundException cursorNotFound() {
+		return new MongoCursorNotFoundException(42L, new ServerAddress());
+	}
+
+	static class Trooper {
+
+		@Id Integer id;
+		int age;
+	}
+
+		static class Jedi {
+
+		@Id String id;
+		@Field("first_name") String firstName;
+	}
 }
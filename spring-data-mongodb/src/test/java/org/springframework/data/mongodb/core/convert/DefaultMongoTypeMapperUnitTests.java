@@ -22,13 +22,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.convert.ConfigurableTypeInformationMapper;
 import org.springframework.data.convert.SimpleTypeInformationMapper;
 import org.springframework.data.mongodb.core.DocumentTestUtils;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
 /**
@@ -185,6 +188,100 @@ public class DefaultMongoTypeMapperUnitTests {
 		assertThat(typeMapper.isTypeKey(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY), is(false));
 	}
 
+	@Test
+	public void writesAndReadsConfiguredShortAliases() {
+
+		typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, null,
+				Collections.singletonMap(Integer.class, "int"));
+
+		writesTypeToField(new Document(), Integer.class, "int");
+		writesTypeToField(new Document(), String.class, String.class.getName());
+
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, "int");
+		assertThat(typeMapper.readType(document, ClassTypeInformation.from(Number.class)).getType(),
+				is(typeCompatibleWith(Integer.class)));
+	}
+
+	@Test
+	public void cachesSpecializedTypeForAlias() {
+
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, Integer.class.getName());
+		TypeInformation<Number> basicType = ClassTypeInformation.from(Number.class);
+
+		TypeInformation<? extends Number> first = typeMapper.readType(document, basicType);
+
+		assertThat(first.getType(), is(typeCompatibleWith(Integer.class)));
+		assertThat(typeMapper.readType(new Document(document), basicType), is(sameInstance(first)));
+	}
+
+	@Test
+	public void cachesAliasResolvingToDeclaredType() {
+
+		AtomicInteger lookups = new AtomicInteger();
+		typeMapper = new DefaultMongoTypeMapper() {
+
+			@Override
+			public Optional<TypeInformation<?>> readType(Bson source) {
+
+				lookups.incrementAndGet();
+				return super.readType(source);
+			}
+		};
+
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, Integer.class.getName());
+		TypeInformation<Integer> basicType = ClassTypeInformation.from(Integer.class);
+
+		assertThat(typeMapper.readType(document, basicType), is((Object) basicType));
+
+		int lookupsAfterFirstRead = lookups.get();
+
+		assertThat(typeMapper.readType(new Document(document), basicType), is((Object) basicType));
+		assertThat(lookups.get(), is(lookupsAfterFirstRead));
+	}
+
+	@Test
+	public void doesNotCacheUnresolvableAliases() {
+
+		Document document = new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, "unknown");
+		TypeInformation<Number> basicType = ClassTypeInformation.from(Number.class);
+
+		assertThat(typeMapper.readType(document, basicType), is((Object) basicType));
+		assertThat(typeMapper.readType(document, basicType), is((Object) basicType));
+	}
+
+	@Test
+	public void writesCompactAliasesAndReadsClassNames() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(new TypeAliasRegistryUnitTests.InMemoryTypeAliasStore());
+		typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, null, registry);
+
+		Document document = new Document();
+		typeMapper.writeType(Integer.class, document);
+
+		Object alias = document.get(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY);
+		assertThat(alias, is((Object) registry.getAlias(Integer.class).get()));
+
+		TypeInformation<Number> basicType = ClassTypeInformation.from(Number.class);
+
+		assertThat(typeMapper.readType(document, basicType).getType(), is(typeCompatibleWith(Integer.class)));
+		assertThat(typeMapper.readType(new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, Integer.class.getName()),
+				basicType).getType(), is(typeCompatibleWith(Integer.class)));
+	}
+
+	@Test
+	public void typeRestrictionsMatchCompactAliasesAndClassNames() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry();
+		registry.register(String.class, "s");
+		typeMapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, null, registry);
+
+		Document result = new Document();
+		typeMapper.writeTypeRestrictions(result, Collections.<Class<?>> singleton(String.class));
+
+		assertThat(DocumentTestUtils.getAsDocument(result, DefaultMongoTypeMapper.DEFAULT_TYPE_KEY).get("$in"),
+				is((Object) Arrays.asList("s", String.class.getName())));
+	}
+
 	private void readsTypeFromField(Document document, Class<?> type) {
 
 		Optional<TypeInformation<?>> typeInfo = typeMapper.readType(document);
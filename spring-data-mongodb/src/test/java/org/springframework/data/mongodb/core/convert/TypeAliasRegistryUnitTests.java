@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mapping.MappingException;
+
+/**
+ * Unit tests for {@link TypeAliasRegistry}.
+ */
+public class TypeAliasRegistryUnitTests {
+
+	InMemoryTypeAliasStore store = new InMemoryTypeAliasStore();
+
+	@Test
+	public void usesExplicitlyRegisteredAliases() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry();
+		registry.register(String.class, "s");
+
+		assertThat(registry.getAlias(String.class)).hasValue("s");
+		assertThat(registry.getAlias(Integer.class)).isEmpty();
+		assertThat(registry.resolveType("s")).hasValue(String.class);
+		assertThat(registry.resolveType("unknown")).isEmpty();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsAliasRegisteredForDifferentType() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry();
+		registry.register(String.class, "s");
+		registry.register(Integer.class, "s");
+	}
+
+	@Test
+	public void assignsAndPersistsCompactAliases() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(store);
+
+		String alias = registry.getAlias(String.class).get();
+
+		assertThat(alias).startsWith(TypeAliasRegistry.COMPACT_ALIAS_PREFIX);
+		assertThat(registry.getAlias(String.class)).hasValue(alias);
+		assertThat(registry.getAlias(Integer.class).get()).isNotEqualTo(alias);
+		assertThat(store.aliases).containsEntry(alias, String.class.getName());
+	}
+
+	@Test
+	public void loadsAliasesAssignedByOtherInstances() {
+
+		new TypeAliasRegistry(store).getAlias(BigDecimal.class);
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(store);
+		String alias = store.aliases.keySet().iterator().next();
+
+		assertThat(registry.resolveType(alias)).hasValue(BigDecimal.class);
+		assertThat(registry.getAlias(BigDecimal.class)).hasValue(alias);
+	}
+
+	@Test
+	public void skipsAliasesTakenByOtherInstances() {
+
+		store.aliases.put(TypeAliasRegistry.COMPACT_ALIAS_PREFIX + "0", "com.acme.Unknown");
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(store);
+
+		assertThat(registry.getAlias(String.class)).hasValue(TypeAliasRegistry.COMPACT_ALIAS_PREFIX + "1");
+	}
+
+	@Test
+	public void looksUpCompactAliasAssignedAfterLoading() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(store);
+		registry.getAlias(String.class);
+
+		String alias = new TypeAliasRegistry(store).getAlias(BigDecimal.class).get();
+
+		assertThat(registry.resolveType(alias)).hasValue(BigDecimal.class);
+		assertThat(registry.getAlias(BigDecimal.class)).hasValue(alias);
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsUnknownCompactAlias() {
+
+		TypeAliasRegistry registry = new TypeAliasRegistry(store);
+		registry.getAlias(String.class);
+
+		registry.resolveType(TypeAliasRegistry.COMPACT_ALIAS_PREFIX + "42");
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsCompactAliasOfUnknownType() {
+
+		store.aliases.put(TypeAliasRegistry.COMPACT_ALIAS_PREFIX + "0", "com.acme.Unknown");
+
+		new TypeAliasRegistry(store).resolveType(TypeAliasRegistry.COMPACT_ALIAS_PREFIX + "0");
+	}
+
+	static class InMemoryTypeAliasStore implements TypeAliasStore {
+
+		Map<String, String> aliases = new HashMap<>();
+
+		@Override
+		public Map<String, String> findAll() {
+			return new HashMap<>(aliases);
+		}
+
+		@Override
+		public String findTypeName(String alias) {
+			return aliases.get(alias);
+		}
+
+		@Override
+		public String assign(String typeName, String alias) {
+
+			Optional<String> existing = aliases.entrySet().stream().filter(entry -> entry.getValue().equals(typeName))
+					.map(Map.Entry::getKey).findFirst();
+
+			if (existing.isPresent()) {
+				return existing.get();
+			}
+
+			if (aliases.containsKey(alias)) {
+				throw new DuplicateKeyException(alias);
+			}
+
+			aliases.put(alias, typeName);
+			return alias;
+		}
+	}
+}
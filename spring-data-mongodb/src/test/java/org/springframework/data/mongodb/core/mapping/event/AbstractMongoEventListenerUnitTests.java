@@ -18,6 +18,9 @@ package org.springframework.data.mongodb.core.mapping.event;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.bson.Document;
 import org.junit.Test;
 import org.springframework.context.support.AbstractApplicationContext;
@@ -154,16 +157,63 @@ public class AbstractMongoEventListenerUnitTests {
 		assertThat(listener.invokedOnBeforeDelete, is(false));
 	}
 
+	@Test
+	public void batchEventInvokesElementCallbacksByDefault() {
+
+		List<Person> people = Arrays.asList(new Person("Dave", "Matthews"), new Person("Carter", "Beauford"));
+		SamplePersonEventListener listener = new SamplePersonEventListener();
+		listener.onApplicationEvent(new BeforeConvertBatchEvent<Person>(people, Person.class, "collection-1"));
+
+		assertThat(listener.invokedOnBeforeConvert, is(true));
+		assertThat(listener.beforeConvertInvocations, is(2));
+	}
+
+	@Test
+	public void afterLoadBatchEventInvokesElementCallbacksByDefault() {
+
+		SamplePersonEventListener listener = new SamplePersonEventListener();
+		listener.onApplicationEvent(
+				new AfterLoadBatchEvent<Person>(Arrays.asList(new Document(), new Document()), Person.class, "collection-1"));
+
+		assertThat(listener.invokedOnAfterLoad, is(true));
+	}
+
+	@Test
+	public void batchEventGetsFilteredForDomainType() {
+
+		SampleAccountEventListener listener = new SampleAccountEventListener();
+		listener.onApplicationEvent(new BeforeConvertBatchEvent<Person>(Arrays.asList(new Person("Dave", "Matthews")),
+				Person.class, "collection-1"));
+		listener.onApplicationEvent(
+				new AfterLoadBatchEvent<Person>(Arrays.asList(new Document()), Person.class, "collection-1"));
+
+		assertThat(listener.invokedOnBeforeConvert, is(false));
+		assertThat(listener.invokedOnAfterLoad, is(false));
+	}
+
+	@Test
+	public void invokesBatchCallbackIfOverridden() {
+
+		BatchPersonEventListener listener = new BatchPersonEventListener();
+		listener.onApplicationEvent(new BeforeSaveBatchEvent<Person>(Arrays.asList(new Person("Dave", "Matthews")),
+				Arrays.asList(new Document()), Person.class, "collection-1"));
+
+		assertThat(listener.invokedOnBeforeSaveBatch, is(true));
+		assertThat(listener.invokedOnBeforeSave, is(false));
+	}
+
 	class SamplePersonEventListener extends AbstractMongoEventListener<Person> {
 
 		boolean invokedOnBeforeConvert;
 		boolean invokedOnAfterLoad;
 		boolean invokedOnBeforeDelete;
 		boolean invokedOnAfterDelete;
+		int beforeConvertInvocations;
 
 		@Override
 		public void onBeforeConvert(BeforeConvertEvent<Person> event) {
 			invokedOnBeforeConvert = true;
+			beforeConvertInvocations++;
 		}
 
 		@Override
@@ -226,6 +276,22 @@ public class AbstractMongoEventListenerUnitTests {
 		}
 	}
 
+	class BatchPersonEventListener extends AbstractMongoEventListener<Person> {
+
+		boolean invokedOnBeforeSave;
+		boolean invokedOnBeforeSaveBatch;
+
+		@Override
+		public void onBeforeSave(BeforeSaveEvent<Person> event) {
+			invokedOnBeforeSave = true;
+		}
+
+		@Override
+		public void onBeforeSaveBatch(BeforeSaveBatchEvent<Person> event) {
+			invokedOnBeforeSaveBatch = true;
+		}
+	}
+
 	@SuppressWarnings("rawtypes")
 	class UntypedEventListener extends AbstractMongoEventListener {
 
@@ -86,6 +86,28 @@ public class AuditingEventListenerUnitTests {
 		verify(handler, times(1)).markModified(sample);
 	}
 
+	@Test
+	public void triggersMarksForAllElementsOfBatch() {
+
+		Sample first = new Sample();
+		Sample second = new Sample();
+		second.id = "id";
+
+		listener.onApplicationEvent(
+				new BeforeConvertBatchEvent<Object>(Arrays.asList(first, second), Sample.class, "collection-1"));
+
+		verify(handler, times(1)).markCreated(first);
+		verify(handler, times(1)).markModified(second);
+	}
+
+	@Test
+	public void supportsBeforeConvertEventsOnly() {
+
+		assertThat(listener.supportsEventType(BeforeConvertEvent.class), is(true));
+		assertThat(listener.supportsEventType(BeforeConvertBatchEvent.class), is(true));
+		assertThat(listener.supportsEventType(BeforeSaveEvent.class), is(false));
+	}
+
 	@Test
 	public void hasExplicitOrder() {
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.StreamUtils;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link GridFsChunkInputStream}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GridFsChunkInputStreamUnitTests {
+
+	@Mock MongoCollection<Document> chunks;
+	@Mock FindIterable<Document> findIterable;
+	@Mock MongoCursor<Document> cursor;
+
+	ObjectId id = new ObjectId();
+	GridFSFile file = new GridFSFile(new BsonObjectId(id), "foo.txt", 10, 4, new Date(), null, new Document());
+
+	@Before
+	public void setUp() {
+
+		when(chunks.find(any(Document.class))).thenReturn(findIterable);
+		when(findIterable.sort(any())).thenReturn(findIterable);
+		when(findIterable.iterator()).thenReturn(cursor);
+	}
+
+	@Test
+	public void readsRangeStartingAtContainingChunk() throws IOException {
+
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(chunk(1, "efgh"), chunk(2, "ij"));
+
+		InputStream stream = new GridFsChunkInputStream(file, chunks, 5, 4);
+
+		assertThat(new String(StreamUtils.copyToByteArray(stream))).isEqualTo("fghi");
+		verify(chunks).find(new Document("files_id", new BsonObjectId(id)).append("n",
+				new Document("$gte", 1).append("$lte", 2)));
+	}
+
+	@Test
+	public void skipBeyondCurrentChunkReopensCursorAtTargetChunk() throws IOException {
+
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(chunk(0, "abcd"), chunk(2, "ij"));
+
+		InputStream stream = new GridFsChunkInputStream(file, chunks, 0, 10);
+
+		assertThat(stream.read()).isEqualTo('a');
+		assertThat(stream.skip(8)).isEqualTo(8);
+		assertThat(new String(StreamUtils.copyToByteArray(stream))).isEqualTo("j");
+
+		verify(chunks).find(new Document("files_id", new BsonObjectId(id)).append("n",
+				new Document("$gte", 2).append("$lte", 2)));
+		verify(cursor).close();
+	}
+
+	@Test(expected = IOException.class)
+	public void failsOnMissingChunk() throws IOException {
+
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(chunk(0, "abcd"), chunk(2, "ij"));
+
+		StreamUtils.copyToByteArray(new GridFsChunkInputStream(file, chunks, 0, 10));
+	}
+
+	private static Document chunk(int n, String data) {
+		return new Document("n", n).append("data", new Binary(data.getBytes()));
+	}
+}
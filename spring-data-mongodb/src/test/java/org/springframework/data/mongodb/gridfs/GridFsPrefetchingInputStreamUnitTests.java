@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.StreamUtils;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * Unit tests for {@link GridFsPrefetchingInputStream}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GridFsPrefetchingInputStreamUnitTests {
+
+	@Mock MongoCollection<Document> chunks;
+
+	ObjectId id = new ObjectId();
+	GridFSFile file = new GridFSFile(new BsonObjectId(id), "foo.txt", 10, 4, new Date(), null, new Document());
+	List<Runnable> tasks = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+
+		stubChunk(0, "abcd");
+		stubChunk(1, "efgh");
+		stubChunk(2, "ij");
+	}
+
+	@Test
+	public void doesNotFetchBeforeFirstRead() {
+
+		new GridFsPrefetchingInputStream(file, chunks, 0, 10, 2, tasks::add).close();
+
+		assertThat(tasks).isEmpty();
+		verifyZeroInteractions(chunks);
+	}
+
+	@Test
+	public void fetchesUpToParallelismChunksAhead() throws IOException {
+
+		GridFsPrefetchingInputStream stream = new GridFsPrefetchingInputStream(file, chunks, 0, 10, 1, task -> {
+			tasks.add(task);
+			task.run();
+		});
+
+		assertThat(stream.read()).isEqualTo('a');
+		assertThat(tasks).hasSize(2);
+
+		assertThat(new String(StreamUtils.copyToByteArray(stream))).isEqualTo("bcdefghij");
+		assertThat(tasks).hasSize(3);
+	}
+
+	@Test
+	public void keepsAtMostParallelismFetchesOutstanding() throws IOException {
+
+		AtomicInteger outstanding = new AtomicInteger();
+		AtomicInteger maxOutstanding = new AtomicInteger();
+
+		for (int n = 0; n < 3; n++) {
+
+			FindIterable<Document> iterable = chunks.find(new Document("files_id", new BsonObjectId(id)).append("n", n));
+			when(chunks.find(new Document("files_id", new BsonObjectId(id)).append("n", n))).thenAnswer(invocation -> {
+
+				outstanding.decrementAndGet();
+				return iterable;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			GridFsPrefetchingInputStream stream = new GridFsPrefetchingInputStream(file, chunks, 0, 10, 2, task -> {
+
+				maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+				executor.execute(task);
+			});
+
+			assertThat(new String(StreamUtils.copyToByteArray(stream))).isEqualTo("abcdefghij");
+			assertThat(maxOutstanding.get()).isLessThanOrEqualTo(2);
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void readsRange() throws IOException {
+
+		GridFsPrefetchingInputStream stream = new GridFsPrefetchingInputStream(file, chunks, 5, 4, 4, Runnable::run);
+
+		assertThat(new String(StreamUtils.copyToByteArray(stream))).isEqualTo("fghi");
+		verify(chunks, never()).find(new Document("files_id", new BsonObjectId(id)).append("n", 0));
+	}
+
+	@Test(expected = IOException.class)
+	public void failsOnMissingChunk() throws IOException {
+
+		FindIterable<Document> missing = mock(FindIterable.class);
+		when(chunks.find(new Document("files_id", new BsonObjectId(id)).append("n", 1))).thenReturn(missing);
+
+		StreamUtils.copyToByteArray(new GridFsPrefetchingInputStream(file, chunks, 0, 10, 2, Runnable::run));
+	}
+
+	private void stubChunk(int n, String data) {
+
+		FindIterable<Document> iterable = mock(FindIterable.class);
+		when(iterable.first()).thenReturn(new Document("n", n).append("data", new Binary(data.getBytes())));
+		when(chunks.find(new Document("files_id", new BsonObjectId(id)).append("n", n))).thenReturn(iterable);
+	}
+}
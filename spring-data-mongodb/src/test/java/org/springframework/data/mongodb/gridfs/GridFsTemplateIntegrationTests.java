@@ -21,9 +21,12 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.gridfs.GridFsCriteria.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.bson.BsonObjectId;
 import org.bson.Document;
@@ -39,6 +42,7 @@ import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.util.StreamUtils;
 
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.gridfs.GridFSFile;
@@ -210,6 +214,22 @@ public class GridFsTemplateIntegrationTests {
 		assertEquals(((BsonObjectId) files.get(0).getId()).getValue(), reference);
 	}
 
+	@Test
+	public void readsResourceContentLazilyAndByRange() throws IOException {
+
+		byte[] content = new byte[600 * 1024];
+		new Random(42).nextBytes(content);
+		operations.store(new ByteArrayInputStream(content), "large.bin");
+
+		GridFsResource resource = operations.getResource("large.bin");
+
+		assertThat(StreamUtils.copyToByteArray(resource.getInputStream()), is(content));
+		assertThat(StreamUtils.copyToByteArray(resource.getInputStream(300 * 1024, 1000)),
+				is(Arrays.copyOfRange(content, 300 * 1024, 300 * 1024 + 1000)));
+		assertThat(StreamUtils.copyToByteArray(resource.getInputStream(content.length - 10, 100)),
+				is(Arrays.copyOfRange(content, content.length - 10, content.length)));
+	}
+
 	private static void assertSame(GridFSFile left, GridFSFile right) {
 
 		assertThat(left.getId(), is(right.getId()));
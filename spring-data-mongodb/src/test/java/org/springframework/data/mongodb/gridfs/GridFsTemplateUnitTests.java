@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link GridFsTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class GridFsTemplateUnitTests {
+
+	@Mock MongoDbFactory factory;
+	@Mock MongoDatabase db;
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+	@Mock FindIterable<Document> findIterable;
+	@Mock MongoCursor<Document> cursor;
+
+	GridFsTemplate template;
+
+	@Before
+	public void setUp() {
+
+		when(factory.getDb()).thenReturn(db);
+		when(db.getCollection("fs.files")).thenReturn(files);
+		when(db.getCollection("fs.chunks")).thenReturn(chunks);
+		when(files.find(any(Document.class))).thenReturn(findIterable);
+		when(findIterable.projection(any())).thenReturn(findIterable);
+		when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+		when(findIterable.iterator()).thenReturn(cursor);
+
+		MappingMongoConverter converter = new MappingMongoConverter(mock(DbRefResolver.class),
+				new MongoMappingContext());
+		template = new GridFsTemplate(factory, converter);
+	}
+
+	@Test
+	public void deleteShouldRemoveFilesAndChunksInBatches() {
+
+		List<Document> ids = IntStream.range(0, 1001).mapToObj(i -> new Document("_id", i)).collect(Collectors.toList());
+		Iterator<Document> iterator = ids.iterator();
+		when(cursor.hasNext()).then(invocation -> iterator.hasNext());
+		when(cursor.next()).then(invocation -> iterator.next());
+
+		template.delete(query(where("filename").is("foo.txt")));
+
+		verify(files).find(new Document("filename", "foo.txt"));
+		verify(findIterable).projection(new Document("_id", 1));
+
+		ArgumentCaptor<Document> filesCaptor = ArgumentCaptor.forClass(Document.class);
+		ArgumentCaptor<Document> chunksCaptor = ArgumentCaptor.forClass(Document.class);
+		verify(files, times(2)).deleteMany(filesCaptor.capture());
+		verify(chunks, times(2)).deleteMany(chunksCaptor.capture());
+
+		assertThat(inValues(filesCaptor.getAllValues().get(0), "_id")).hasSize(1000);
+		assertThat(inValues(filesCaptor.getAllValues().get(1), "_id")).containsExactly(1000);
+		assertThat(inValues(chunksCaptor.getAllValues().get(1), "files_id")).containsExactly(1000);
+		verify(cursor).close();
+	}
+
+	@Test
+	public void deleteShouldNotIssueDeletesWithoutMatches() {
+
+		when(cursor.hasNext()).thenReturn(false);
+
+		template.delete(null);
+
+		verify(files).find(new Document());
+		verify(files, never()).deleteMany(any());
+		verify(chunks, never()).deleteMany(any());
+	}
+
+	@Test
+	public void storeByteBufferShouldSliceChunksAndComputeMd5() {
+
+		template.setChunkSize(4);
+
+		ByteBuffer content = ByteBuffer.wrap("abcdefghij".getBytes(StandardCharsets.UTF_8));
+		ObjectId id = template.store(content, "foo.txt", "text/plain", null);
+
+		assertThat(content.position()).isZero();
+
+		ArgumentCaptor<List<Document>> chunksCaptor = ArgumentCaptor.forClass(List.class);
+		verify(chunks).insertMany(chunksCaptor.capture());
+		assertThat(chunksCaptor.getValue()).extracting(it -> it.get("n")).containsExactly(0, 1, 2);
+		assertThat(chunksCaptor.getValue()).extracting(it -> new String(it.get("data", Binary.class).getData()))
+				.containsExactly("abcd", "efgh", "ij");
+		assertThat(chunksCaptor.getValue()).extracting(it -> it.get("files_id")).containsOnly(id);
+
+		ArgumentCaptor<Document> fileCaptor = ArgumentCaptor.forClass(Document.class);
+		verify(files).insertOne(fileCaptor.capture());
+		assertThat(fileCaptor.getValue().get("_id")).isEqualTo(id);
+		assertThat(fileCaptor.getValue().get("length")).isEqualTo(10L);
+		assertThat(fileCaptor.getValue().get("chunkSize")).isEqualTo(4);
+		assertThat(fileCaptor.getValue().get("md5")).isEqualTo("a925576942e94b2ef57a066101b48876");
+		assertThat(fileCaptor.getValue().get("metadata", Document.class).get("type")).isEqualTo("text/plain");
+	}
+
+	@Test
+	public void storePathShouldMapFileAndSkipMd5IfDisabled() throws IOException {
+
+		Path path = Files.createTempFile("gridfs", ".bin");
+
+		try {
+
+			Files.write(path, "abcdefghij".getBytes(StandardCharsets.UTF_8));
+			template.setChunkSize(4);
+			template.setComputeMd5(false);
+
+			template.store(path, "foo.bin");
+
+			ArgumentCaptor<List<Document>> chunksCaptor = ArgumentCaptor.forClass(List.class);
+			verify(chunks).insertMany(chunksCaptor.capture());
+			assertThat(chunksCaptor.getValue()).extracting(it -> new String(it.get("data", Binary.class).getData()))
+					.containsExactly("abcd", "efgh", "ij");
+
+			ArgumentCaptor<Document> fileCaptor = ArgumentCaptor.forClass(Document.class);
+			verify(files).insertOne(fileCaptor.capture());
+			assertThat(fileCaptor.getValue().get("length")).isEqualTo(10L);
+			assertThat(fileCaptor.getValue().containsKey("md5")).isFalse();
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void storeShouldRemoveChunksIfFileDocumentCannotBeWritten() {
+
+		doThrow(new IllegalStateException("write failed")).when(files).insertOne(any());
+
+		assertThatThrownBy(() -> template.store(ByteBuffer.wrap(new byte[10]), "foo.txt", null, null))
+				.isInstanceOf(IllegalStateException.class);
+
+		verify(chunks).deleteMany(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> inValues(Document filter, String key) {
+		return new ArrayList<>((List<Object>) filter.get(key, Document.class).get("$in"));
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.gridfs;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.DbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.MongoClient;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.mongodb.reactivestreams.client.Success;
+
+/**
+ * Unit tests for {@link ReactiveGridFsTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ReactiveGridFsTemplateUnitTests {
+
+	@Mock ReactiveMongoDatabaseFactory factory;
+	@Mock MongoDatabase db;
+	@Mock MongoCollection<Document> files;
+	@Mock MongoCollection<Document> chunks;
+	@Mock FindPublisher<Document> chunkPublisher;
+	@Mock MongoCollection<GridFSFile> typedFiles;
+	@Mock FindPublisher<GridFSFile> filePublisher;
+
+	DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+	ReactiveGridFsTemplate template;
+
+	@Before
+	public void setUp() {
+
+		when(factory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+		when(factory.getMongoDatabase()).thenReturn(db);
+		when(db.getCollection("fs.files")).thenReturn(files);
+		when(db.getCollection("fs.chunks")).thenReturn(chunks);
+		when(files.createIndex(any())).thenReturn(Mono.just("filename_1_uploadDate_1"));
+		when(chunks.createIndex(any(), any())).thenReturn(Mono.just("files_id_1_n_1"));
+		when(files.insertOne(any())).thenReturn(Mono.just(Success.SUCCESS));
+		when(chunks.insertOne(any())).thenReturn(Mono.just(Success.SUCCESS));
+		when(chunks.find(any(Document.class))).thenReturn(chunkPublisher);
+		when(chunkPublisher.sort(any())).thenReturn(chunkPublisher);
+
+		MappingMongoConverter converter = new MappingMongoConverter(mock(DbRefResolver.class),
+				new MongoMappingContext());
+		template = new ReactiveGridFsTemplate(factory, converter);
+		template.setChunkSize(4);
+	}
+
+	@Test
+	public void storeShouldSplitContentIntoChunks() {
+
+		Flux<DataBuffer> content = Flux.just(buffer("abc"), buffer("defgh"), buffer("ij"));
+
+		StepVerifier.create(template.store(content, "foo.txt", "text/plain")).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<Document> chunkCaptor = ArgumentCaptor.forClass(Document.class);
+		verify(chunks, times(3)).insertOne(chunkCaptor.capture());
+
+		List<Document> writtenChunks = chunkCaptor.getAllValues();
+		assertThat(writtenChunks).extracting(it -> it.get("n")).containsExactly(0, 1, 2);
+		assertThat(writtenChunks).extracting(it -> new String(it.get("data", Binary.class).getData()))
+				.containsExactly("abcd", "efgh", "ij");
+
+		ArgumentCaptor<Document> fileCaptor = ArgumentCaptor.forClass(Document.class);
+		verify(files).insertOne(fileCaptor.capture());
+
+		Document file = fileCaptor.getValue();
+		assertThat(file.get("_id")).isEqualTo(writtenChunks.get(0).get("files_id"));
+		assertThat(file.get("filename")).isEqualTo("foo.txt");
+		assertThat(file.get("length")).isEqualTo(10L);
+		assertThat(file.get("chunkSize")).isEqualTo(4);
+		assertThat(file.get("md5")).isEqualTo("a925576942e94b2ef57a066101b48876");
+		assertThat(file.get("metadata", Document.class).get("type")).isEqualTo("text/plain");
+	}
+
+	@Test
+	public void storeShouldRemoveWrittenChunksOnError() {
+
+		when(chunks.deleteMany(any())).thenReturn(Mono.empty());
+
+		Flux<DataBuffer> content = Flux.concat(Flux.just(buffer("abcdefgh")),
+				Flux.error(new IllegalStateException("upload aborted")));
+
+		StepVerifier.create(template.store(content, "foo.txt")).verifyError(IllegalStateException.class);
+
+		verify(chunks).deleteMany(any());
+		verify(files, never()).insertOne(any());
+	}
+
+	@Test
+	public void getResourceShouldDownloadChunksInOrder() {
+
+		ObjectId id = new ObjectId();
+		emitFiles(file(id, 6));
+		emitChunks(chunk(id, 0, "abcd"), chunk(id, 1, "ef"));
+
+		StepVerifier.create(template.getResource("foo.txt").flatMapMany(ReactiveGridFsResource::getDownloadStream)
+				.map(this::toString)) //
+				.expectNext("abcd", "ef") //
+				.verifyComplete();
+
+		verify(chunks).find(new Document("files_id", new BsonObjectId(id)));
+		verify(chunkPublisher).sort(new Document("n", 1));
+	}
+
+	@Test
+	public void downloadShouldFailOnMissingChunk() {
+
+		ObjectId id = new ObjectId();
+		emitFiles(file(id, 10));
+		emitChunks(chunk(id, 0, "abcd"), chunk(id, 2, "ij"));
+
+		StepVerifier.create(template.getResource("foo.txt").flatMapMany(ReactiveGridFsResource::getDownloadStream)) //
+				.expectNextCount(1) //
+				.verifyError(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	public void deleteShouldRemoveFilesAndChunksInBulk() {
+
+		ObjectId first = new ObjectId();
+		ObjectId second = new ObjectId();
+		emitFiles(file(first, 1), file(second, 1));
+		when(files.deleteMany(any())).thenReturn(Mono.just(DeleteResult.acknowledged(2)));
+		when(chunks.deleteMany(any())).thenReturn(Mono.just(DeleteResult.acknowledged(2)));
+
+		StepVerifier.create(template.delete(new Query())).verifyComplete();
+
+		List<BsonObjectId> ids = Arrays.asList(new BsonObjectId(first), new BsonObjectId(second));
+		verify(files).deleteMany(new Document("_id", new Document("$in", ids)));
+		verify(chunks).deleteMany(new Document("files_id", new Document("$in", ids)));
+	}
+
+	private void emitFiles(GridFSFile... gridFsFiles) {
+
+		when(files.withDocumentClass(GridFSFile.class)).thenReturn(typedFiles);
+		when(typedFiles.getCodecRegistry()).thenReturn(MongoClient.getDefaultCodecRegistry());
+		when(typedFiles.withCodecRegistry(any())).thenReturn(typedFiles);
+		when(typedFiles.find(any(Document.class))).thenReturn(filePublisher);
+		when(filePublisher.sort(any())).thenReturn(filePublisher);
+
+		doAnswer(invocation -> {
+			Flux.just(gridFsFiles).subscribe(invocation.<Subscriber<GridFSFile>> getArgument(0));
+			return null;
+		}).when(filePublisher).subscribe(any());
+	}
+
+	private void emitChunks(Document... chunkDocuments) {
+
+		doAnswer(invocation -> {
+			Flux.just(chunkDocuments).subscribe(invocation.<Subscriber<Document>> getArgument(0));
+			return null;
+		}).when(chunkPublisher).subscribe(any());
+	}
+
+	private DataBuffer buffer(String value) {
+		return bufferFactory.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String toString(DataBuffer buffer) {
+
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static Document chunk(ObjectId id, int n, String data) {
+		return new Document("files_id", id).append("n", n).append("data", new Binary(data.getBytes()));
+	}
+
+	private static GridFSFile file(ObjectId id, long length) {
+		return new GridFSFile(new BsonObjectId(id), "foo.txt", length, 4, new Date(), null, new Document());
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.mongodb.core.OperationSample;
+import org.springframework.data.mongodb.core.OperationSample.Phase;
+
+/**
+ * Unit tests for {@link OperationMetricsRegistry} and {@link JmxOperationMetricsRecorder}.
+ */
+public class OperationMetricsRegistryUnitTests {
+
+	JmxOperationMetricsRecorder registry = new JmxOperationMetricsRecorder();
+
+	@Test
+	public void aggregatesSamplesByOperationAndCollection() {
+
+		registry.record(sample("find", "person", 1, true, 3));
+		registry.record(sample("find", "person", 3, false, 0));
+		registry.record(sample("find", "address", 2, true, 1));
+		registry.record(sample("insert", "person", 1, true, 1));
+
+		OperationMetrics metrics = registry.getMetrics("find", "person");
+
+		assertThat(metrics.getCount()).isEqualTo(2);
+		assertThat(metrics.getFailureCount()).isEqualTo(1);
+		assertThat(metrics.getDocumentCount()).isEqualTo(3);
+		assertThat(registry.getMetrics()).hasSize(3);
+		assertThat(registry.getMetricsForCollection("person")).hasSize(2);
+		assertThat(registry.getOperationCount()).isEqualTo(4);
+		assertThat(registry.getFailureCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void reportsPercentilesPerPhase() {
+
+		for (int i = 0; i < 99; i++) {
+			registry.record(sample("find", "person", 1, true, 1));
+		}
+		registry.record(sample("find", "person", 100, true, 1));
+
+		OperationMetrics metrics = registry.getMetrics("find", "person");
+
+		assertThat(metrics.getPercentile(0.5, TimeUnit.MILLISECONDS)).isBetween(1d, 2d);
+		assertThat(metrics.getPercentile(1, TimeUnit.MILLISECONDS)).isEqualTo(100d);
+		assertThat(metrics.getMax(TimeUnit.MILLISECONDS)).isEqualTo(100d);
+		assertThat(metrics.getPercentile(Phase.CONVERSION, 0.5, TimeUnit.MILLISECONDS)).isZero();
+		assertThat(registry.getPercentile("find", "person", "execution", 0.5)).isBetween(1d, 2d);
+		assertThat(registry.getPercentile("find", "unknown", "total", 0.5)).isZero();
+	}
+
+	@Test
+	public void resetDiscardsSamples() {
+
+		registry.record(sample("find", "person", 1, true, 1));
+		registry.reset();
+
+		assertThat(registry.getMetrics("find", "person").getCount()).isZero();
+		assertThat(registry.getSummary()).hasSize(1);
+	}
+
+	private static OperationSample sample(String operation, String collection, long millis, boolean success,
+			long documents) {
+		return new OperationSample(operation, collection, 0, 0, TimeUnit.MILLISECONDS.toNanos(millis), documents,
+				success);
+	}
+}
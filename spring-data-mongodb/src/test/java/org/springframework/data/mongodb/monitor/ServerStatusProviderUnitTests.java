@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.mongodb.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Unit tests for {@link ServerStatusProvider}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ServerStatusProviderUnitTests {
+
+	@Mock MongoClient mongoClient;
+	@Mock MongoDatabase admin;
+
+	ServerStatusProvider provider;
+
+	@Before
+	public void setUp() {
+
+		when(mongoClient.getDatabase("admin")).thenReturn(admin);
+		when(admin.runCommand(any(Bson.class))).thenReturn(status(10), status(20), status(30));
+
+		provider = new ServerStatusProvider(mongoClient);
+	}
+
+	@Test
+	public void reusesSnapshotWithinRefreshInterval() {
+
+		provider.setRefreshInterval(60000);
+
+		provider.getServerStatus();
+		provider.getServerStatus();
+
+		verify(admin, times(1)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	public void sharesSnapshotBetweenMonitors() {
+
+		provider.setRefreshInterval(60000);
+
+		OperationCounters counters = new OperationCounters(provider);
+		MemoryMetrics memory = new MemoryMetrics(provider);
+
+		assertThat(counters.getInsertCount()).isEqualTo(10);
+		assertThat(counters.getQueryCount()).isEqualTo(1);
+		memory.getServerStatus();
+
+		verify(admin, times(1)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	public void refreshesOnEveryReadWithoutRefreshInterval() {
+
+		provider.setRefreshInterval(0);
+
+		provider.getServerStatus();
+		provider.getServerStatus();
+
+		verify(admin, times(2)).runCommand(any(Bson.class));
+	}
+
+	@Test
+	public void derivesRateFromConsecutiveSnapshots() {
+
+		provider.setRefreshInterval(0);
+		provider.getServerStatus();
+
+		assertThat(provider.getRate("opcounters", "insert")).isGreaterThan(0);
+		assertThat(provider.getRate("opcounters", "unknown")).isEqualTo(0);
+	}
+
+	@Test
+	public void reportsNoRateForSingleSnapshot() {
+
+		provider.setRefreshInterval(60000);
+
+		assertThat(provider.getRate("opcounters", "insert")).isEqualTo(0);
+	}
+
+	@Test
+	public void reportsSnapshotAge() {
+
+		assertThat(provider.getSnapshotAge()).isEqualTo(-1);
+
+		provider.getServerStatus();
+
+		assertThat(provider.getSnapshotAge()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeRefreshInterval() {
+		provider.setRefreshInterval(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullMongoClient() {
+		new ServerStatusProvider(null);
+	}
+
+	private static Document status(int inserts) {
+		return new Document("opcounters", new Document("insert", inserts).append("query", 1));
+	}
+}
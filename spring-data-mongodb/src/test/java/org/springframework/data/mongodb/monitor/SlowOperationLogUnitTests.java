@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.OperationSample;
+
+/**
+ * Unit tests for {@link SlowOperationLog}.
+ */
+public class SlowOperationLogUnitTests {
+
+	@Test
+	public void retainsMostRecentEntriesOnly() {
+
+		SlowOperationLog log = new SlowOperationLog(2);
+
+		log.record(sample("person"));
+		log.record(sample("address"));
+		log.record(sample("order"));
+
+		assertThat(log.getRecordedCount()).isEqualTo(3);
+		assertThat(log.getEntries()).extracting(entry -> entry.getSample().getCollectionName())
+				.containsExactly("order", "address");
+	}
+
+	@Test
+	public void capturesQueryShape() {
+
+		SlowOperationLog log = new SlowOperationLog();
+		log.record(sample("person"));
+
+		assertThat(log.getEntries().get(0).getQueryShape()).isEqualTo(new Document("lastname", "?"));
+		assertThat(log.getSlowOperations()[0]).contains("find on person").contains("{ \"lastname\" : \"?\" }");
+	}
+
+	@Test
+	public void doesNotRetainQueryValues() {
+
+		SlowOperationLog log = new SlowOperationLog();
+		log.record(sample("person"));
+
+		SlowOperationLog.Entry entry = log.getEntries().get(0);
+
+		assertThat(entry.getSample().getQueryShape()).isNull();
+		assertThat(entry.getSample().getTotalNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+		assertThat(log.getSlowOperations()[0]).doesNotContain("Matthews");
+	}
+
+	@Test
+	public void clearDiscardsEntries() {
+
+		SlowOperationLog log = new SlowOperationLog();
+		log.record(sample("person"));
+		log.clear();
+
+		assertThat(log.getEntries()).isEmpty();
+		assertThat(log.getRecordedCount()).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveCapacity() {
+		new SlowOperationLog(0);
+	}
+
+	private static OperationSample sample(String collectionName) {
+		return new OperationSample("find", collectionName, 0, 0, TimeUnit.MILLISECONDS.toNanos(200), 1, true,
+				new Document("lastname", "Matthews"));
+	}
+}
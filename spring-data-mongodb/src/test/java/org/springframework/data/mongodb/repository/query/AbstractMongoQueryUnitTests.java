@@ -36,6 +36,7 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -251,6 +252,63 @@ public class AbstractMongoQueryUnitTests {
 		assertThat(query.execute(new Object[] { "lastname" }), is((Object) reference));
 	}
 
+	@Test
+	public void samplesExplainPlanForFindQueries() {
+
+		ExplainPlanSampler sampler = mock(ExplainPlanSampler.class);
+
+		AbstractMongoQuery query = createQueryForMethod("findByLastname", String.class);
+		query.setExplainPlanSampler(sampler);
+		query.execute(new Object[] { "lastname" });
+
+		verify(sampler).sample(eq(query.getQueryMethod()), Mockito.any(Query.class), eq("persons"));
+	}
+
+	@Test
+	public void doesNotSampleExplainPlanForDeleteQueries() {
+
+		ExplainPlanSampler sampler = mock(ExplainPlanSampler.class);
+
+		MongoQueryFake query = createQueryForMethod("deletePersonByLastname", String.class).setDeleteQuery(true);
+		query.setExplainPlanSampler(sampler);
+		query.execute(new Object[] { "lastname" });
+
+		verifyZeroInteractions(sampler);
+	}
+
+	@Test
+	public void restrictsFieldsToPropertiesOfClosedProjection() {
+
+		createQueryForMethod("findProjectedByFirstName", String.class).execute(new Object[] { "Walter" });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperationsMock).find(captor.capture(), eq(Person.class), eq("persons"));
+
+		assertThat(captor.getValue().getFieldsObject(), is(new Document("firstName", 1).append("age", 1)));
+	}
+
+	@Test
+	public void restrictsFieldsToConstructorArgumentsOfDto() {
+
+		createQueryForMethod("findDtoByFirstName", String.class).execute(new Object[] { "Walter" });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperationsMock).find(captor.capture(), eq(Person.class), eq("persons"));
+
+		assertThat(captor.getValue().getFieldsObject(), is(new Document("firstName", 1)));
+	}
+
+	@Test
+	public void doesNotRestrictFieldsForOpenProjection() {
+
+		createQueryForMethod("findOpenProjectedByFirstName", String.class).execute(new Object[] { "Walter" });
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperationsMock).find(captor.capture(), eq(Person.class), eq("persons"));
+
+		assertThat(captor.getValue().getFieldsObject(), is(nullValue()));
+	}
+
 	private MongoQueryFake createQueryForMethod(String methodName, Class<?>... paramTypes) {
 
 		try {
@@ -324,5 +382,33 @@ public class AbstractMongoQueryUnitTests {
 		Slice<Person> findByLastname(String lastname, Pageable page);
 
 		Optional<Person> findByLastname(String lastname);
+
+		List<PersonProjection> findProjectedByFirstName(String firstName);
+
+		List<PersonDto> findDtoByFirstName(String firstName);
+
+		List<OpenPersonProjection> findOpenProjectedByFirstName(String firstName);
+	}
+
+	interface PersonProjection {
+
+		String getFirstName();
+
+		int getAge();
+	}
+
+	interface OpenPersonProjection {
+
+		@Value("#{target.firstName + ' ' + target.age}")
+		String getDescription();
+	}
+
+	static class PersonDto {
+
+		final String firstName;
+
+		public PersonDto(String firstName) {
+			this.firstName = firstName;
+		}
 	}
 }
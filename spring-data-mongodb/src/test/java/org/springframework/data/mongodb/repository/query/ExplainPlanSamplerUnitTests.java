@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+/**
+ * Unit tests for {@link ExplainPlanSampler}.
+ */
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class ExplainPlanSamplerUnitTests {
+
+	@Mock MongoOperations operations;
+
+	MongoMappingContext mappingContext;
+	MongoQueryMethod queryMethod;
+
+	@Before
+	public void setUp() throws Exception {
+
+		mappingContext = new MongoMappingContext();
+		when(operations.getConverter())
+				.thenReturn(new MappingMongoConverter(ReactiveMongoTemplate.NO_OP_REF_RESOLVER, mappingContext));
+
+		Method method = SampleRepository.class.getMethod("findByLastname", String.class);
+		queryMethod = new MongoQueryMethod(method, new DefaultRepositoryMetadata(SampleRepository.class),
+				new SpelAwareProxyProjectionFactory(), mappingContext);
+	}
+
+	@Test
+	public void explainsMappedQuery() {
+
+		when(operations.executeCommand(any(Document.class))).thenReturn(new Document());
+
+		Query query = new BasicQuery("{ 'lastname' : 'Matthews' }").with(Sort.by(Direction.ASC, "lastname")).limit(10);
+
+		new ExplainPlanSampler(operations, 1).sample(queryMethod, query, "person");
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(operations).executeCommand(captor.capture());
+
+		Document command = captor.getValue();
+		assertThat(command.get("verbosity")).isEqualTo("executionStats");
+		assertThat(command.get("explain", Document.class)).containsEntry("find", "person")
+				.containsEntry("filter", new Document("last_name", "Matthews"))
+				.containsEntry("sort", new Document("last_name", 1)).containsEntry("limit", 10);
+	}
+
+	@Test
+	public void explainsWithHintAndMappedProjection() {
+
+		when(operations.executeCommand(any(Document.class))).thenReturn(new Document());
+
+		Query query = new BasicQuery("{ 'lastname' : 'Matthews' }", "{ 'lastname' : 1 }").withHint("last_name_1");
+
+		new ExplainPlanSampler(operations, 1).sample(queryMethod, query, "person");
+
+		ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+		verify(operations).executeCommand(captor.capture());
+
+		assertThat(captor.getValue().get("explain", Document.class)).containsEntry("hint", "last_name_1")
+				.containsEntry("projection", new Document("last_name", 1));
+	}
+
+	@Test
+	public void recordsCollectionScans() {
+
+		Document plan = new Document("stage", "SORT").append("inputStage", new Document("stage", "COLLSCAN"));
+		when(operations.executeCommand(any(Document.class))).thenReturn(explain(plan, 0, 100, 10));
+
+		ExplainPlanSampler sampler = new ExplainPlanSampler(operations, 1);
+		sampler.sample(queryMethod, new BasicQuery("{}"), "person");
+
+		ExplainPlanStatistics statistics = sampler.getStatistics(queryMethod);
+
+		assertThat(statistics.getSampleCount()).isEqualTo(1);
+		assertThat(statistics.isCollectionScanDetected()).isTrue();
+		assertThat(statistics.getLastIndexName()).isNull();
+		assertThat(statistics.getDocsExaminedRatio()).isEqualTo(10d);
+	}
+
+	@Test
+	public void recordsChosenIndexIncludingShardPlans() {
+
+		List<Document> shards = Arrays.asList(
+				new Document("winningPlan", new Document("stage", "FETCH").append("inputStage",
+						new Document("stage", "IXSCAN").append("indexName", "last_name_1"))));
+		Document plan = new Document("stage", "SHARD_MERGE").append("shards", shards);
+
+		when(operations.executeCommand(any(Document.class))).thenReturn(explain(plan, 5, 5, 5));
+
+		ExplainPlanSampler sampler = new ExplainPlanSampler(operations, 1);
+		sampler.sample(queryMethod, new BasicQuery("{}"), "person");
+
+		ExplainPlanStatistics statistics = sampler.getStatistics(queryMethod);
+
+		assertThat(statistics.isCollectionScanDetected()).isFalse();
+		assertThat(statistics.getLastIndexName()).isEqualTo("last_name_1");
+		assertThat(statistics.getKeysExaminedRatio()).isEqualTo(1d);
+		assertThat(sampler.getStatistics()).containsExactly(statistics);
+	}
+
+	@Test
+	public void ignoresFailingExplain() {
+
+		when(operations.executeCommand(any(Document.class))).thenThrow(new IllegalStateException());
+
+		ExplainPlanSampler sampler = new ExplainPlanSampler(operations, 1);
+		sampler.sample(queryMethod, new BasicQuery("{}"), "person");
+
+		assertThat(sampler.getStatistics(queryMethod)).isNull();
+	}
+
+	@Test
+	public void doesNotExplainWithZeroSampleRate() {
+
+		new ExplainPlanSampler(operations, 0).sample(queryMethod, new BasicQuery("{}"), "person");
+
+		verify(operations, never()).executeCommand(any(Document.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidSampleRate() {
+		new ExplainPlanSampler(operations, 1.5);
+	}
+
+	private static Document explain(Document winningPlan, long keysExamined, long docsExamined, long returned) {
+
+		return new Document("queryPlanner", new Document("winningPlan", winningPlan)).append("executionStats",
+				new Document("totalKeysExamined", keysExamined).append("totalDocsExamined", docsExamined)
+						.append("nReturned", returned));
+	}
+
+	static class Sample {
+
+		String id;
+		@Field("last_name") String lastname;
+	}
+
+	interface SampleRepository extends Repository<Sample, String> {
+
+		List<Sample> findByLastname(String lastname);
+	}
+}
@@ -18,9 +18,11 @@ package org.springframework.data.mongodb.repository.query;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
+import static org.mockito.Mockito.any;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
@@ -33,8 +35,11 @@ import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.ChangeEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.convert.DbRefResolver;
 import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
@@ -45,6 +50,7 @@ import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.repository.Address;
 import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Tailable;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -209,6 +215,28 @@ public class ReactiveStringBasedMongoQueryUnitTests {
 		assertThat(query.getQueryObject().toJson(), is(reference.getQueryObject().toJson()));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void changeStreamMethodShouldStreamConvertedDocumentsMatchingQuery() throws Exception {
+
+		Person person = new Person("Dave", "Matthews");
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.changeStream(any(ChangeStreamOptions.class), eq(Person.class), eq("person")))
+				.thenReturn(Flux.just(new ChangeEvent<>(new Document("operationType", "insert"), person),
+						new ChangeEvent<Person>(new Document("operationType", "delete"), null)));
+
+		ReactiveStringBasedMongoQuery query = createQueryForMethod("streamByLastname", String.class);
+
+		StepVerifier.create((Flux<Object>) query.execute(new Object[] { "Matthews" })) //
+				.expectNext(person) //
+				.verifyComplete();
+
+		ArgumentCaptor<ChangeStreamOptions> captor = ArgumentCaptor.forClass(ChangeStreamOptions.class);
+		verify(operations).changeStream(captor.capture(), eq(Person.class), eq("person"));
+
+		assertThat(captor.getValue().getFilter().get(), is(new Document("lastname", "Matthews")));
+	}
+
 	private ReactiveStringBasedMongoQuery createQueryForMethod(String name, Class<?>... parameters) throws Exception {
 
 		Method method = SampleRepository.class.getMethod(name, parameters);
@@ -227,6 +255,10 @@ public class ReactiveStringBasedMongoQueryUnitTests {
 		@Query("{ 'lastname' : ?0 }")
 		Mono<Person> findByLastnameAsBinary(byte[] lastname);
 
+		@Tailable(changeStream = true)
+		@Query("{ 'lastname' : ?0 }")
+		Flux<Person> streamByLastname(String lastname);
+
 		@Query("{ 'address' : ?0 }")
 		Mono<Person> findByAddress(Address address);
 